@@ -0,0 +1,102 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij;
+
+import com.intellij.openapi.actionSystem.ActionManager;
+import com.intellij.openapi.actionSystem.ActionPlaces;
+import com.intellij.openapi.actionSystem.ActionToolbar;
+import com.intellij.openapi.actionSystem.DefaultActionGroup;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.ModalityState;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.ui.SimpleToolWindowPanel;
+import com.intellij.ui.components.JBScrollPane;
+import com.intellij.ui.table.JBTable;
+import io.openliberty.tools.intellij.util.Constants;
+import io.openliberty.tools.intellij.util.HotReloadLatencyHistogram;
+import io.openliberty.tools.intellij.util.HotReloadLatencyRecorder;
+import io.openliberty.tools.intellij.util.HotReloadLatencyTracker;
+import io.openliberty.tools.intellij.util.LibertyToolPluginDisposable;
+import io.openliberty.tools.intellij.util.LocalizedResourceUtil;
+import org.jetbrains.annotations.NotNull;
+
+import javax.swing.*;
+import javax.swing.table.DefaultTableModel;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Shows the hot reload latencies of the Liberty modules running in dev mode,
+ * one row per module with its percentiles and histogram buckets.
+ */
+public class HotReloadLatencyPanel extends SimpleToolWindowPanel {
+
+    private static final String EXPORT_ACTION_ID = "io.openliberty.tools.intellij.actions.ExportHotReloadLatencyAction";
+
+    private final Project project;
+
+    private final DefaultTableModel tableModel;
+
+    public HotReloadLatencyPanel(@NotNull Project project) {
+        super(true, true);
+        this.project = project;
+
+        List<String> columns = new ArrayList<>(List.of(
+                LocalizedResourceUtil.getMessage("hot.reload.latency.column.module"),
+                LocalizedResourceUtil.getMessage("hot.reload.latency.column.samples"),
+                LocalizedResourceUtil.getMessage("hot.reload.latency.column.last"),
+                LocalizedResourceUtil.getMessage("hot.reload.latency.column.p50"),
+                LocalizedResourceUtil.getMessage("hot.reload.latency.column.p90"),
+                LocalizedResourceUtil.getMessage("hot.reload.latency.column.max")));
+        columns.addAll(List.of(HotReloadLatencyHistogram.getBucketLabels()));
+        tableModel = new DefaultTableModel(columns.toArray(), 0) {
+            @Override
+            public boolean isCellEditable(int row, int column) {
+                return false;
+            }
+        };
+        JBTable table = new JBTable(tableModel);
+        table.getEmptyText().setText(LocalizedResourceUtil.getMessage("hot.reload.latency.empty"));
+        setContent(new JBScrollPane(table));
+
+        DefaultActionGroup group = new DefaultActionGroup();
+        group.add(ActionManager.getInstance().getAction(EXPORT_ACTION_ID));
+        ActionToolbar actionToolbar = ActionManager.getInstance().createActionToolbar(ActionPlaces.TOOLBAR, group, true);
+        actionToolbar.setTargetComponent(table);
+        actionToolbar.getComponent().setName(Constants.LIBERTY_ACTION_TOOLBAR);
+        setToolbar(actionToolbar.getComponent());
+
+        project.getMessageBus().connect(LibertyToolPluginDisposable.getInstance(project))
+                .subscribe(HotReloadLatencyTracker.TOPIC, (HotReloadLatencyTracker.Listener) (libertyModule, latencyMillis) ->
+                        ApplicationManager.getApplication().invokeLater(this::refresh, ModalityState.nonModal(), project.getDisposed()));
+        refresh();
+    }
+
+    private void refresh() {
+        tableModel.setRowCount(0);
+        for (HotReloadLatencyRecorder.ModuleLatency latency : HotReloadLatencyTracker.getInstance(project).getRecorder().getModuleLatencies()) {
+            HotReloadLatencyHistogram histogram = latency.histogram();
+            if (histogram.getCount() == 0) {
+                continue;
+            }
+            List<Object> row = new ArrayList<>(List.of(latency.name(), histogram.getCount(),
+                    formatMillis(histogram.getLast()), formatMillis(histogram.getPercentile(50)),
+                    formatMillis(histogram.getPercentile(90)), formatMillis(histogram.getPercentile(100))));
+            for (long bucketCount : histogram.getBucketCounts()) {
+                row.add(bucketCount);
+            }
+            tableModel.addRow(row.toArray());
+        }
+    }
+
+    private static String formatMillis(long millis) {
+        return millis < 0 ? "" : LocalizedResourceUtil.getMessage("hot.reload.latency.millis", millis);
+    }
+}
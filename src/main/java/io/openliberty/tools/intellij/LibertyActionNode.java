@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2022 IBM Corporation.
+ * Copyright (c) 2020, 2026 IBM Corporation.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -9,14 +9,17 @@
  *******************************************************************************/
 package io.openliberty.tools.intellij;
 
-import javax.swing.tree.DefaultMutableTreeNode;
+import com.intellij.ide.projectView.PresentationData;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.ui.treeStructure.SimpleNode;
+import org.jetbrains.annotations.NotNull;
 
-public class LibertyActionNode extends DefaultMutableTreeNode {
+public class LibertyActionNode extends SimpleNode {
     public String name;
     private LibertyModule libertyModule;
 
-    public LibertyActionNode(String name, LibertyModule libertyModule) {
-        super(name);
+    public LibertyActionNode(String name, LibertyModule libertyModule, SimpleNode parent) {
+        super(parent);
         this.name = name;
         this.libertyModule = libertyModule;
     }
@@ -29,4 +32,32 @@ public class LibertyActionNode extends DefaultMutableTreeNode {
         return libertyModule;
     }
 
-}
\ No newline at end of file
+    @Override
+    public SimpleNode @NotNull [] getChildren() {
+        return NO_CHILDREN;
+    }
+
+    @Override
+    public boolean isAlwaysLeaf() {
+        return true;
+    }
+
+    @Override
+    protected void update(@NotNull PresentationData presentation) {
+        super.update(presentation);
+        presentation.setPresentableText(name);
+        // assign gear icon to action nodes
+        presentation.setIcon(LibertyPluginIcons.IntelliJGear);
+    }
+
+    @Override
+    public Object @NotNull [] getEqualityObjects() {
+        VirtualFile buildFile = libertyModule.getBuildFile();
+        return new Object[]{buildFile != null ? buildFile.getPath() : libertyModule.getName(), name};
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -29,5 +29,10 @@ final class LibertyDevToolWindowFactory implements ToolWindowFactory {
                 LocalizedResourceUtil.getMessage("liberty.tool.window.display.name"), false);
         contentManager.addContent(content);
 
+        // hot reload latencies of the modules running in dev mode
+        Content hotReloadContent = contentManager.getFactory().createContent(new HotReloadLatencyPanel(project),
+                LocalizedResourceUtil.getMessage("liberty.tool.window.hot.reload.display.name"), false);
+        contentManager.addContent(hotReloadContent);
+
     }
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2025 IBM Corporation.
+ * Copyright (c) 2020, 2026 IBM Corporation.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -10,6 +10,8 @@
 package io.openliberty.tools.intellij;
 
 import com.intellij.ide.DataManager;
+import com.intellij.ide.util.treeView.NodeRenderer;
+import com.intellij.openapi.Disposable;
 import com.intellij.openapi.actionSystem.*;
 import com.intellij.openapi.actionSystem.ex.ActionUtil;
 import com.intellij.openapi.actionSystem.impl.SimpleDataContext;
@@ -20,20 +22,23 @@ import com.intellij.openapi.fileEditor.FileEditorManager;
 import com.intellij.openapi.fileEditor.OpenFileDescriptor;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.ui.SimpleToolWindowPanel;
-import com.intellij.openapi.util.Computable;
 import com.intellij.ui.DoubleClickListener;
 import com.intellij.ui.PopupHandler;
 import com.intellij.ui.components.JBScrollPane;
 import com.intellij.ui.components.JBTextArea;
+import com.intellij.ui.tree.AsyncTreeModel;
+import com.intellij.ui.tree.StructureTreeModel;
+import com.intellij.ui.treeStructure.SimpleNode;
+import com.intellij.ui.treeStructure.SimpleTreeStructure;
 import com.intellij.ui.treeStructure.Tree;
+import com.intellij.util.Alarm;
+import com.intellij.util.ui.tree.TreeUtil;
 import io.openliberty.tools.intellij.actions.LibertyGeneralAction;
 import io.openliberty.tools.intellij.actions.LibertyToolbarActionGroup;
 import io.openliberty.tools.intellij.util.*;
 import org.jetbrains.annotations.NotNull;
 
 import javax.swing.*;
-import javax.swing.tree.DefaultMutableTreeNode;
-import javax.swing.tree.DefaultTreeCellRenderer;
 import javax.swing.tree.TreePath;
 import java.awt.*;
 import java.awt.event.KeyAdapter;
@@ -41,43 +46,141 @@ import java.awt.event.KeyEvent;
 import java.awt.event.MouseEvent;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class LibertyExplorer extends SimpleToolWindowPanel {
     private final static Logger LOGGER = Logger.getInstance(LibertyExplorer.class);
 
+    private final Project project;
+
+    private final LibertyRootNode root;
+
+    private final StructureTreeModel<SimpleTreeStructure> structureTreeModel;
+
+    private final Tree tree;
+
+    private final TreeDataProvider treeDataProvider;
+
+    private volatile CompletableFuture<List<LibertyModule>> discovery;
+
+    // modules found close together are shown by a single update of the tree
+    private static final int UPDATE_DELAY_MILLIS = 150;
+
+    private final Alarm updateAlarm;
+
+    private final AtomicBoolean updateScheduled = new AtomicBoolean();
+
+    private final AtomicLong updateCount = new AtomicLong();
+
+    // number of the last update shown, only accessed on the EDT
+    private long shownUpdate;
+
     public LibertyExplorer(@NotNull Project project) {
         super(true, true);
+        this.project = project;
+        Disposable parentDisposable = LibertyToolPluginDisposable.getInstance(project);
+        root = new LibertyRootNode(project);
+        // the children of the nodes are computed on a background thread, when the node is expanded
+        structureTreeModel = new StructureTreeModel<>(new SimpleTreeStructure.Impl(root), parentDisposable);
+        tree = buildTree(project, new AsyncTreeModel(structureTreeModel, parentDisposable));
+        treeDataProvider = (TreeDataProvider) DataManager.getDataProvider(tree);
+        updateAlarm = new Alarm(Alarm.ThreadToUse.POOLED_THREAD, parentDisposable);
+
+        ActionToolbar actionToolbar = buildActionToolbar(tree);
+        this.setToolbar(actionToolbar.getComponent());
+        refresh();
+    }
+
+    /**
+     * Discovers the Liberty modules of the project in the background and updates the tree as modules are found, so
+     * the first modules are shown before the last build file is parsed. Modules are identified by their build file, so
+     * the nodes of the modules which are still present keep their expansion and selection. A refresh cancels the
+     * discovery started by the previous one.
+     */
+    public void refresh() {
         //NOTE: To address the "Slow operations are prohibited on EDT" Exception (https://github.com/OpenLiberty/liberty-tools-intellij/issues/674), we have implemented the workaround outlined in the document (https://plugins.jetbrains.com/docs/intellij/general-threading-rules.html).
-        // We have now moved the method "buildTree(project, getBackground())" to a background thread. To pass control from a background thread to the Event Dispatch Thread (EDT), UI operations are now included within the method "ApplicationManager.getApplication().invokeLater()".
-        ModalityState modalityState = getModalityState();
-        ApplicationManager.getApplication().executeOnPooledThread(() -> {
-            // build tree (Read operations need to be wrapped in a read action)
-            Tree tree = ApplicationManager.getApplication().runReadAction((Computable<Tree>) () -> buildTree(project, getBackground()));
-
-            if (tree != null) {
-                ApplicationManager.getApplication().invokeLater(() -> {
-                    JBScrollPane scrollPane = new JBScrollPane(tree);
-                    scrollPane.setName(Constants.LIBERTY_SCROLL_PANE);
-                    this.setContent(scrollPane);
-                }, modalityState);
-            } else {
-                ApplicationManager.getApplication().invokeLater(() -> {
-                    JBTextArea jbTextArea = new JBTextArea(LocalizedResourceUtil.getMessage("no.liberty.projects.detected"));
-                    jbTextArea.setEditable(false);
-                    jbTextArea.setBackground(getBackground());
-                    jbTextArea.setLineWrap(true);
-
-                    this.setContent(jbTextArea);
-                }, modalityState);
+        // The modules are discovered on background threads. To pass control from a background thread to the Event Dispatch Thread (EDT), UI operations are included within the method "ApplicationManager.getApplication().invokeLater()".
+        CompletableFuture<List<LibertyModule>> previous = discovery;
+        if (previous != null) {
+            previous.cancel(false);
+        }
+        CompletableFuture<List<LibertyModule>> current = LibertyModules.getInstance().discoverLibertyModules(project, libertyModule -> scheduleUpdate());
+        discovery = current;
+        current.whenComplete((libertyModules, error) -> {
+            if (error == null) {
+                updateAlarm.cancelAllRequests();
+                updateScheduled.set(false);
+                updateTree(true);
+            } else if (!(error instanceof CancellationException)) {
+                LOGGER.warn("Error discovering the Liberty modules of " + project.getName(), error);
             }
-
-            ApplicationManager.getApplication().invokeLater(() -> {
-                ActionToolbar actionToolbar = buildActionToolbar(tree);
-                this.setToolbar(actionToolbar.getComponent());
-            }, modalityState);
         });
     }
 
+    /**
+     * Called on the discovery threads for each module found, the modules found within {@link #UPDATE_DELAY_MILLIS}
+     * are shown together.
+     */
+    private void scheduleUpdate() {
+        if (updateScheduled.compareAndSet(false, true)) {
+            updateAlarm.addRequest(() -> {
+                updateScheduled.set(false);
+                updateTree(false);
+            }, UPDATE_DELAY_MILLIS);
+        }
+    }
+
+    /**
+     * Shows the Liberty modules found so far. The message shown when there are no Liberty modules is only shown once
+     * the discovery is complete. The modules are read in the background and published to the tree on the EDT, where
+     * the tree and the actions read them.
+     */
+    private void updateTree(boolean complete) {
+        // updates read later are more recent, an update is not shown after a more recent one
+        long update = updateCount.incrementAndGet();
+        List<LibertyModule> libertyModules = LibertyModules.getInstance().getLibertyModules(project);
+        HashMap<String, ArrayList<Object>> projectMap = new HashMap<>();
+        for (LibertyModule libertyModule : libertyModules) {
+            ArrayList<Object> settings = new ArrayList<Object>();
+            settings.add(libertyModule.getBuildFile());
+            settings.add(libertyModule.getProjectType());
+            projectMap.put(libertyModule.getName(), settings);
+        }
+        ApplicationManager.getApplication().invokeLater(() -> {
+            if (update < shownUpdate) {
+                return;
+            }
+            shownUpdate = update;
+            treeDataProvider.setProjectMap(projectMap);
+            root.setLibertyModules(libertyModules);
+            structureTreeModel.invalidate();
+            if (complete || !libertyModules.isEmpty()) {
+                showContent(!libertyModules.isEmpty());
+            }
+        }, getModalityState(), project.getDisposed());
+    }
+
+    private void showContent(boolean hasLibertyModules) {
+        if (hasLibertyModules) {
+            if (!(getContent() instanceof JBScrollPane)) {
+                JBScrollPane scrollPane = new JBScrollPane(tree);
+                scrollPane.setName(Constants.LIBERTY_SCROLL_PANE);
+                this.setContent(scrollPane);
+            }
+        } else if (!(getContent() instanceof JBTextArea)) {
+            JBTextArea jbTextArea = new JBTextArea(LocalizedResourceUtil.getMessage("no.liberty.projects.detected"));
+            jbTextArea.setEditable(false);
+            jbTextArea.setBackground(getBackground());
+            jbTextArea.setLineWrap(true);
+
+            this.setContent(jbTextArea);
+        }
+    }
+
     private ModalityState getModalityState() {
         return ModalityState.nonModal();
     }
@@ -96,68 +199,55 @@ public class LibertyExplorer extends SimpleToolWindowPanel {
     }
 
     /**
-     * Builds the Open Liberty Tools Dashboard tree
-     *
-     * @param project         current project
-     * @param backgroundColor
-     * @return Tree object of all valid Liberty Gradle and Liberty Maven projects
+     * Root of the Open Liberty Tools Dashboard tree, its children are the Liberty modules of the last scan
      */
-    public static Tree buildTree(Project project, Color backgroundColor) {
-        LibertyModules libertyModules = LibertyModules.getInstance().scanLibertyModules(project);
-        // This singleton may contain entries from old projects if you close a project and open another
-        if (libertyModules.getLibertyModules(project).isEmpty()) {
-            return null;
-        }
-        DefaultMutableTreeNode top = new DefaultMutableTreeNode("Root node");
-        HashMap<String, ArrayList<Object>> projectMap = new HashMap<>();
+    private static class LibertyRootNode extends SimpleNode {
+        private volatile List<LibertyModule> libertyModules = List.of();
 
-        for (LibertyModule libertyModule : libertyModules.getLibertyModules(project)) {
-            LibertyModuleNode node = new LibertyModuleNode(libertyModule);
+        LibertyRootNode(Project project) {
+            super(project);
+        }
 
-            top.add(node);
-            ArrayList<Object> settings = new ArrayList<Object>();
-            settings.add(libertyModule.getBuildFile());
-            settings.add(libertyModule.getProjectType());
-            projectMap.put(libertyModule.getName(), settings);
+        void setLibertyModules(List<LibertyModule> libertyModules) {
+            this.libertyModules = List.copyOf(libertyModules);
+        }
 
-            // ordered to align with IntelliJ's right-click menu
-            node.add(new LibertyActionNode(Constants.LIBERTY_DEV_START, libertyModule));
-            // check if Liberty Maven Plugin is 3.3-M1+ or Liberty Gradle Plugin is 3.1-M1+
-            // if version is not specified in pom, assume latest version as downloaded from maven central
-            boolean validContainerVersion = libertyModule.isValidContainerVersion();
-            if (validContainerVersion) {
-                node.add(new LibertyActionNode(Constants.LIBERTY_DEV_START_CONTAINER, libertyModule));
-            }
-            node.add(new LibertyActionNode(Constants.LIBERTY_DEV_CUSTOM_START, libertyModule));
-            node.add(new LibertyActionNode(Constants.LIBERTY_DEV_STOP, libertyModule));
-            node.add(new LibertyActionNode(Constants.LIBERTY_DEV_TESTS, libertyModule));
-            if (libertyModule.getProjectType().equals(Constants.ProjectType.LIBERTY_MAVEN_PROJECT)) {
-                node.add(new LibertyActionNode(Constants.VIEW_INTEGRATION_TEST_REPORT, libertyModule));
-                node.add(new LibertyActionNode(Constants.VIEW_UNIT_TEST_REPORT, libertyModule));
-            } else {
-                node.add(new LibertyActionNode(Constants.VIEW_GRADLE_TEST_REPORT, libertyModule));
+        @Override
+        public SimpleNode @NotNull [] getChildren() {
+            List<LibertyModule> modules = libertyModules;
+            SimpleNode[] children = new SimpleNode[modules.size()];
+            for (int i = 0; i < children.length; i++) {
+                children[i] = new LibertyModuleNode(modules.get(i), this);
             }
+            return children;
         }
+    }
 
-        Tree tree = new Tree(top);
+    /**
+     * Builds the Open Liberty Tools Dashboard tree
+     *
+     * @param project   current project
+     * @param treeModel model of the Liberty modules and their actions
+     * @return Tree object of all valid Liberty Gradle and Liberty Maven projects
+     */
+    private static Tree buildTree(Project project, AsyncTreeModel treeModel) {
+        Tree tree = new Tree(treeModel);
         tree.setName(Constants.LIBERTY_TREE);
         tree.setRootVisible(false);
+        tree.setCellRenderer(new NodeRenderer());
         TreeDataProvider newDataProvider = new TreeDataProvider();
         DataManager.registerDataProvider(tree, newDataProvider);
         TreeDataProvider treeDataProvider = (TreeDataProvider) DataManager.getDataProvider(tree);
 
-        treeDataProvider.setProjectMap(projectMap);
-
         tree.addTreeSelectionListener(e -> {
-            Object node = e.getPath().getLastPathComponent();
+            Object node = TreeUtil.getLastUserObject(e.getPath());
             if (node instanceof LibertyModuleNode libertyNode) {
                 // open build file
                 FileEditorManager.getInstance(project).openTextEditor(new OpenFileDescriptor(project, libertyNode.getFilePath()), true);
                 treeDataProvider.saveData(libertyNode.getFilePath(), libertyNode.getName(), libertyNode.getProjectType());
-            } else if (node instanceof LibertyActionNode) {
-                DefaultMutableTreeNode treeNode = (DefaultMutableTreeNode) node;
-                LibertyModuleNode parentNode = (LibertyModuleNode) treeNode.getParent();
-                treeDataProvider.saveData(parentNode.getFilePath(), parentNode.getName(), parentNode.getProjectType());
+            } else if (node instanceof LibertyActionNode actionNode) {
+                LibertyModule libertyModule = actionNode.getLibertyModule();
+                treeDataProvider.saveData(libertyModule.getBuildFile(), libertyModule.getName(), libertyModule.getProjectType());
             }
         });
 
@@ -166,7 +256,7 @@ public class LibertyExplorer extends SimpleToolWindowPanel {
             public void invokePopup(Component comp, int x, int y) {
                 final TreePath path = tree.getSelectionPath();
                 if (path != null) {
-                    Object node = path.getLastPathComponent();
+                    Object node = TreeUtil.getLastUserObject(path);
                     if (node instanceof LibertyModuleNode libertyNode) {
                         final DefaultActionGroup group = new DefaultActionGroup();
                         if (libertyNode.getProjectType().equals(Constants.ProjectType.LIBERTY_MAVEN_PROJECT)) {
@@ -200,7 +290,7 @@ public class LibertyExplorer extends SimpleToolWindowPanel {
                         ActionPopupMenu menu = ActionManager.getInstance().createActionPopupMenu(ActionPlaces.TOOLWINDOW_POPUP, group);
 
                         menu.setDataContext(() -> SimpleDataContext.builder()
-                                .add(CommonDataKeys.PROJECT, libertyNode.getProject())
+                                .add(CommonDataKeys.PROJECT, libertyNode.getLibertyModule().getProject())
                                 .add(Constants.LIBERTY_BUILD_FILE_DATAKEY, libertyNode.getFilePath()).build());
 
                         menu.getComponent().show(comp, x, y);
@@ -226,53 +316,12 @@ public class LibertyExplorer extends SimpleToolWindowPanel {
                 }
             }
         });
-
-        // set tree icons and colours
-        LibertyTreeRenderer libertyRenderer = new LibertyTreeRenderer(backgroundColor);
-        tree.setCellRenderer(libertyRenderer);
         return tree;
     }
 
-    static class LibertyTreeRenderer extends DefaultTreeCellRenderer {
-        public LibertyTreeRenderer(Color backgroundColor) {
-            setBackgroundNonSelectionColor(backgroundColor);
-        }
-
-        public Component getTreeCellRendererComponent(
-                JTree tree,
-                Object value,
-                boolean sel,
-                boolean expanded,
-                boolean leaf,
-                int row,
-                boolean hasFocus) {
-            super.getTreeCellRendererComponent(tree, value, sel, expanded, leaf, row, hasFocus);
-
-            // assign gear icon to action nodes
-            if (leaf) {
-                setIcon(LibertyPluginIcons.IntelliJGear);
-                return this;
-            }
-
-            // select icon for node based on project type
-            if (value instanceof LibertyModuleNode) {
-                LibertyModuleNode moduleNode = (LibertyModuleNode) value;
-                if (moduleNode.isGradleProjectType()) {
-                    setIcon(LibertyPluginIcons.gradleIcon);
-                } else if (moduleNode.isMavenProjectType()) {
-                    setIcon(LibertyPluginIcons.mavenIcon);
-                } else {
-                    setIcon(LibertyPluginIcons.libertyIcon);
-                }
-            }
-
-            return this;
-        }
-    }
-
     private static void executeAction(Tree tree) {
         final TreePath path = tree.getSelectionPath();
-        Object node = (path != null) ? path.getLastPathComponent() : null;
+        Object node = TreeUtil.getLastUserObject(path);
         if (node instanceof LibertyActionNode) {
             ActionManager am = ActionManager.getInstance();
             String actionNodeName = ((LibertyActionNode) node).getName();
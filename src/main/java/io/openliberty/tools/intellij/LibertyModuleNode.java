@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2025 IBM Corporation.
+ * Copyright (c) 2020, 2026 IBM Corporation.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -9,20 +9,31 @@
  *******************************************************************************/
 package io.openliberty.tools.intellij;
 
-import com.intellij.openapi.project.Project;
+import com.intellij.ide.projectView.PresentationData;
 import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.ui.treeStructure.SimpleNode;
 import io.openliberty.tools.intellij.util.Constants;
+import org.jetbrains.annotations.NotNull;
 
-import javax.swing.tree.DefaultMutableTreeNode;
+import java.util.ArrayList;
+import java.util.List;
 
-public class LibertyModuleNode extends DefaultMutableTreeNode {
+/**
+ * Liberty module in the Liberty tool window tree. The action nodes are only
+ * created when the module is expanded.
+ */
+public class LibertyModuleNode extends SimpleNode {
     private final LibertyModule libertyModule;
 
-    public LibertyModuleNode(LibertyModule libertyModule) {
-        super(libertyModule.getName());
+    public LibertyModuleNode(LibertyModule libertyModule, SimpleNode parent) {
+        super(libertyModule.getProject(), parent);
         this.libertyModule = libertyModule;
     }
 
+    public LibertyModule getLibertyModule() {
+        return libertyModule;
+    }
+
     public String getName() {
         return libertyModule.getName();
     }
@@ -31,10 +42,6 @@ public class LibertyModuleNode extends DefaultMutableTreeNode {
         return libertyModule.getBuildFile();
     }
 
-    public Project getProject() {
-        return libertyModule.getProject();
-    }
-
     public Constants.ProjectType getProjectType() {
         return libertyModule.getProjectType();
     }
@@ -50,4 +57,50 @@ public class LibertyModuleNode extends DefaultMutableTreeNode {
     public boolean isMavenProjectType() {
         return libertyModule.getProjectType().equals(Constants.ProjectType.LIBERTY_MAVEN_PROJECT);
     }
+
+    @Override
+    public SimpleNode @NotNull [] getChildren() {
+        // ordered to align with IntelliJ's right-click menu
+        List<SimpleNode> children = new ArrayList<>();
+        children.add(new LibertyActionNode(Constants.LIBERTY_DEV_START, libertyModule, this));
+        // check if Liberty Maven Plugin is 3.3-M1+ or Liberty Gradle Plugin is 3.1-M1+
+        // if version is not specified in pom, assume latest version as downloaded from maven central
+        if (libertyModule.isValidContainerVersion()) {
+            children.add(new LibertyActionNode(Constants.LIBERTY_DEV_START_CONTAINER, libertyModule, this));
+        }
+        children.add(new LibertyActionNode(Constants.LIBERTY_DEV_CUSTOM_START, libertyModule, this));
+        children.add(new LibertyActionNode(Constants.LIBERTY_DEV_STOP, libertyModule, this));
+        children.add(new LibertyActionNode(Constants.LIBERTY_DEV_TESTS, libertyModule, this));
+        if (isMavenProjectType()) {
+            children.add(new LibertyActionNode(Constants.VIEW_INTEGRATION_TEST_REPORT, libertyModule, this));
+            children.add(new LibertyActionNode(Constants.VIEW_UNIT_TEST_REPORT, libertyModule, this));
+        } else {
+            children.add(new LibertyActionNode(Constants.VIEW_GRADLE_TEST_REPORT, libertyModule, this));
+        }
+        return children.toArray(SimpleNode[]::new);
+    }
+
+    @Override
+    protected void update(@NotNull PresentationData presentation) {
+        super.update(presentation);
+        presentation.setPresentableText(getName());
+        // select icon for node based on project type
+        if (isGradleProjectType()) {
+            presentation.setIcon(LibertyPluginIcons.gradleIcon);
+        } else if (isMavenProjectType()) {
+            presentation.setIcon(LibertyPluginIcons.mavenIcon);
+        } else {
+            presentation.setIcon(LibertyPluginIcons.libertyIcon);
+        }
+    }
+
+    /**
+     * Modules are identified by their build file, so that the expansion and selection of a module are kept when the
+     * tree is refreshed.
+     */
+    @Override
+    public Object @NotNull [] getEqualityObjects() {
+        VirtualFile buildFile = libertyModule.getBuildFile();
+        return new Object[]{buildFile != null ? buildFile.getPath() : libertyModule.getName()};
+    }
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022, 2025 IBM Corporation.
+ * Copyright (c) 2022, 2026 IBM Corporation.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -10,17 +10,38 @@
 
 package io.openliberty.tools.intellij;
 
+import com.intellij.openapi.Disposable;
 import com.intellij.openapi.diagnostic.Logger;
 import com.intellij.openapi.project.Project;
+import com.intellij.openapi.project.ProjectCoreUtil;
+import com.intellij.openapi.project.ProjectManager;
+import com.intellij.openapi.roots.ModuleRootEvent;
+import com.intellij.openapi.roots.ModuleRootListener;
+import com.intellij.openapi.roots.ProjectFileIndex;
+import com.intellij.openapi.util.Disposer;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.util.SimpleModificationTracker;
 import com.intellij.openapi.vfs.VfsUtil;
 import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.newvfs.BulkFileListener;
+import com.intellij.openapi.vfs.newvfs.events.*;
+import com.intellij.util.PathUtil;
+import com.intellij.util.concurrency.AppExecutorUtil;
 import io.openliberty.tools.intellij.util.*;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.TestOnly;
+import org.jetbrains.concurrency.CancellablePromise;
 import org.xml.sax.SAXException;
 
 import javax.xml.parsers.ParserConfigurationException;
 import java.io.IOException;
 import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 /**
  * Singleton to save the Liberty modules in the open project
@@ -30,9 +51,22 @@ public class LibertyModules {
 
     private static LibertyModules instance = null;
 
+    // modification count of the scanned project when it was last scanned
+    private static final Key<Long> SCANNED_MODIFICATION_COUNT = Key.create("io.openliberty.tools.intellij.LibertyModules.scanned");
+
     // key is build file associated with the Liberty project
     Map<VirtualFile, LibertyModule> libertyModules;
 
+    // incremented when a build file, server.xml or directory is changed, see BuildFilesListener
+    private final SimpleModificationTracker buildFilesModificationTracker = new SimpleModificationTracker();
+
+    private final AtomicInteger scanCount = new AtomicInteger();
+
+    // build files are validated in parallel by discoverLibertyModules, bounded so that a large workspace does not
+    // occupy the whole application pool
+    private static final ExecutorService DISCOVERY_EXECUTOR = AppExecutorUtil.createBoundedApplicationPoolExecutor(
+            "Liberty Module Discovery", Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1)));
+
     private LibertyModules() {
         libertyModules = Collections.synchronizedMap(new HashMap<>());
     }
@@ -61,6 +95,9 @@ public class LibertyModules {
      */
     public LibertyModules rescanLibertyModules(Project project) {
         synchronized (libertyModules) {
+            // read before scanning so that a change made during the scan causes the next lookup to scan again
+            long modificationCount = buildFilesModificationTracker.getModificationCount();
+            scanCount.incrementAndGet();
             ArrayList<BuildFile> buildFiles = new ArrayList<>();
             try {
                 buildFiles.addAll(LibertyProjectUtil.getMavenBuildFiles(project));
@@ -74,35 +111,135 @@ public class LibertyModules {
             }
 
             for (BuildFile buildFile : buildFiles) {
-                // create a new Liberty Module object for this project
-                VirtualFile virtualFile = buildFile.getBuildFile();
-                String projectName = null;
-                if (virtualFile == null) {
-                    LOGGER.error(String.format("Could not resolve current project %s", virtualFile));
+                if (buildFile.getBuildFile() == null) {
+                    LOGGER.error(String.format("Could not resolve current project %s", buildFile.getBuildFile()));
                     break;
                 }
-                try {
-                    if (buildFile.getProjectType().equals(Constants.ProjectType.LIBERTY_MAVEN_PROJECT)) {
-                        projectName = LibertyMavenUtil.getProjectNameFromPom(virtualFile);
-                    } else {
-                        projectName = LibertyGradleUtil.getProjectName(virtualFile);
-                    }
-                } catch (Exception e) {
-                    LOGGER.warn(String.format("Could not resolve project name from build file: %s", virtualFile), e);
+                // create a new Liberty Module object for this project
+                addLibertyModule(createLibertyModule(project, buildFile));
+            }
+            project.putUserData(SCANNED_MODIFICATION_COUNT, modificationCount);
+        }
+        return this;
+    }
+
+    /**
+     * Scan the project for the modules that are Liberty apps in the background, like
+     * {@link #scanLibertyModules(Project)}. The candidate build files are found by a non-blocking read action and
+     * validated in parallel, and each Liberty module is added and passed to the given consumer as soon as it is found,
+     * on the thread which validated it. Once all the build files are validated, the modules of the project which were
+     * not found again are removed. The discovery is cancelled when the project is closed or when the returned future
+     * is cancelled.
+     *
+     * @param project
+     * @param moduleFound called for each Liberty module found
+     * @return future of all the Liberty modules of the project
+     */
+    public CompletableFuture<List<LibertyModule>> discoverLibertyModules(Project project, Consumer<LibertyModule> moduleFound) {
+        CompletableFuture<List<LibertyModule>> result = new CompletableFuture<>();
+        Disposable cancellation = () -> result.cancel(false);
+        if (!Disposer.tryRegister(LibertyToolPluginDisposable.getInstance(project), cancellation)) {
+            result.cancel(false);
+            return result;
+        }
+        long modificationCount = buildFilesModificationTracker.getModificationCount();
+        scanCount.incrementAndGet();
+        CancellablePromise<Map<VirtualFile, Constants.ProjectType>> candidates = LibertyProjectUtil.findBuildFileCandidates(project);
+        result.whenComplete((modules, error) -> {
+            candidates.cancel();
+            Disposer.dispose(cancellation);
+        });
+        candidates.onSuccess(buildFiles -> {
+            List<CompletableFuture<LibertyModule>> validations = new ArrayList<>();
+            buildFiles.forEach((vFile, projectType) -> validations.add(CompletableFuture.supplyAsync(() -> {
+                if (result.isDone()) {
+                    return null;
+                }
+                BuildFile buildFile = LibertyProjectUtil.getLibertyBuildFile(project, vFile, projectType);
+                if (buildFile == null || result.isDone()) {
+                    return null;
+                }
+                LibertyModule libertyModule = addLibertyModule(createLibertyModule(project, buildFile));
+                moduleFound.accept(libertyModule);
+                return libertyModule;
+            }, DISCOVERY_EXECUTOR)));
+            CompletableFuture.allOf(validations.toArray(CompletableFuture[]::new)).whenComplete((ignored, error) -> {
+                if (error != null) {
+                    result.completeExceptionally(error);
+                    return;
                 }
-                if (projectName == null) {
-                    if (virtualFile.getParent() != null) {
-                        projectName = virtualFile.getParent().getName();
-                    } else {
-                        projectName = project.getName();
+                List<LibertyModule> found = new ArrayList<>();
+                validations.forEach(validation -> {
+                    if (validation.join() != null) {
+                        found.add(validation.join());
+                    }
+                });
+                synchronized (libertyModules) {
+                    if (!result.isDone()) {
+                        removeForProject(project, found);
+                        project.putUserData(SCANNED_MODIFICATION_COUNT, modificationCount);
                     }
                 }
+                result.complete(found);
+            });
+        }).onError(error -> {
+            if (error instanceof CancellationException) {
+                // the index search expired because the project was closed
+                result.cancel(false);
+            } else {
+                result.completeExceptionally(error);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Scan the project for the modules that are Liberty apps only if it has not been scanned yet or if a build file,
+     * a server.xml or a directory has changed since the last scan. Run configurations use this lookup so that many
+     * configurations, or many opens of the run configuration dialog, share a single scan.
+     * @return this singleton, the list will be empty if there are no Liberty modules
+     */
+    public LibertyModules rescanLibertyModulesIfChanged(Project project) {
+        Long scanned = project.getUserData(SCANNED_MODIFICATION_COUNT);
+        if (scanned != null && scanned == buildFilesModificationTracker.getModificationCount()) {
+            return this;
+        }
+        return rescanLibertyModules(project);
+    }
 
-                boolean validContainerVersion = buildFile.isValidContainerVersion();
-                addLibertyModule(new LibertyModule(project, virtualFile, projectName, buildFile.getProjectType(), validContainerVersion));
+    /**
+     * Force the next {@link #rescanLibertyModulesIfChanged(Project)} of every project to scan again
+     */
+    public void invalidate() {
+        buildFilesModificationTracker.incModificationCount();
+    }
+
+    /**
+     * @return number of scans since startup
+     */
+    @TestOnly
+    public int getScanCount() {
+        return scanCount.get();
+    }
+
+    private static LibertyModule createLibertyModule(Project project, BuildFile buildFile) {
+        VirtualFile virtualFile = buildFile.getBuildFile();
+        String projectName = null;
+        try {
+            projectName = BuildFileCache.getInstance().getProjectName(virtualFile, buildFile.getProjectType());
+        } catch (IOException e) {
+            LOGGER.warn(String.format("Could not resolve project name from build file: %s", virtualFile), e);
+        }
+        if (projectName == null) {
+            if (virtualFile.getParent() != null) {
+                projectName = virtualFile.getParent().getName();
+            } else {
+                projectName = project.getName();
             }
         }
-        return this;
+
+        boolean validContainerVersion = buildFile.isValidContainerVersion();
+        return new LibertyModule(project, virtualFile, projectName, buildFile.getProjectType(), validContainerVersion);
     }
 
     /**
@@ -224,15 +361,109 @@ public class LibertyModules {
      * @param project
      */
     public void removeForProject(Project project) {
+        removeForProject(project, List.of());
+    }
+
+    private void removeForProject(Project project, Collection<LibertyModule> retained) {
         synchronized(libertyModules) {
             Iterator it = libertyModules.values().iterator();
             while (it.hasNext()) {
                 LibertyModule libertyModule = (LibertyModule) it.next();
                 // do not remove from list if the corresponding terminal widget has running commands
-                if (project.equals(libertyModule.getProject()) && !(libertyModule.getShellWidget() != null && libertyModule.getShellWidget().hasRunningCommands())) {
+                if (project.equals(libertyModule.getProject()) && !retained.contains(libertyModule) && !(libertyModule.getShellWidget() != null && libertyModule.getShellWidget().hasRunningCommands())) {
                     it.remove();
                 }
             }
         }
     }
+
+    /**
+     * Invalidates the scanned Liberty modules when a file that can add, remove or change a Liberty module is
+     * changed: a build file, a settings.gradle, a server.xml, a directory in the content of an open project, or the
+     * content roots of a project. Directories created in excluded folders, such as the build output, are ignored.
+     */
+    public static class BuildFilesListener implements BulkFileListener, ModuleRootListener {
+
+        @Override
+        public void after(@NotNull List<? extends @NotNull VFileEvent> events) {
+            boolean affectsLibertyModules = false;
+            for (VFileEvent event : events) {
+                invalidateBuildFileCache(event);
+                affectsLibertyModules = affectsLibertyModules || affectsLibertyModules(event);
+            }
+            if (affectsLibertyModules) {
+                LibertyModules.getInstance().invalidate();
+            }
+        }
+
+        @Override
+        public void rootsChanged(@NotNull ModuleRootEvent event) {
+            LibertyModules.getInstance().invalidate();
+        }
+
+        /**
+         * Drops the cached facts of the build files which no longer exist at their path.
+         */
+        private static void invalidateBuildFileCache(VFileEvent event) {
+            if (event instanceof VFileDeleteEvent) {
+                BuildFileCache.getInstance().invalidate(event.getPath());
+            } else if (event instanceof VFileMoveEvent moveEvent) {
+                BuildFileCache.getInstance().invalidate(moveEvent.getOldPath());
+            } else if (event instanceof VFilePropertyChangeEvent propertyChangeEvent && propertyChangeEvent.isRename()) {
+                BuildFileCache.getInstance().invalidate(propertyChangeEvent.getOldPath());
+            }
+        }
+
+        private static boolean affectsLibertyModules(VFileEvent event) {
+            if (event instanceof VFileContentChangeEvent) {
+                return isLibertyFile(event.getPath());
+            }
+            if (event instanceof VFilePropertyChangeEvent propertyChangeEvent) {
+                if (!propertyChangeEvent.isRename()) {
+                    return false;
+                }
+                return isLibertyFile(propertyChangeEvent.getOldPath()) || isLibertyFile(propertyChangeEvent.getNewPath())
+                        || isDirectory(event) && isInProjectContent(event, propertyChangeEvent.getNewPath());
+            }
+            if (event instanceof VFileMoveEvent moveEvent) {
+                return isLibertyFile(moveEvent.getOldPath()) || isLibertyFile(moveEvent.getNewPath())
+                        || isDirectory(event) && (isInProjectContent(event, moveEvent.getOldPath())
+                        || isInProjectContent(event, moveEvent.getNewPath()));
+            }
+            // create, copy and delete events
+            return isLibertyFile(event.getPath()) || isDirectory(event) && isInProjectContent(event, event.getPath());
+        }
+
+        private static boolean isDirectory(VFileEvent event) {
+            if (event instanceof VFileCreateEvent createEvent) {
+                return createEvent.isDirectory();
+            }
+            VirtualFile file = event.getFile();
+            return file != null && file.isDirectory();
+        }
+
+        /**
+         * Returns true if the parent directory of the given path is in the content of an open project, outside of
+         * its excluded folders and of its .idea directory.
+         */
+        private static boolean isInProjectContent(VFileEvent event, String path) {
+            String parentPath = PathUtil.getParentPath(path);
+            VirtualFile parent = parentPath.isEmpty() ? null : event.getFileSystem().findFileByPath(parentPath);
+            if (parent == null || ProjectCoreUtil.isProjectOrWorkspaceFile(parent)) {
+                return false;
+            }
+            for (Project project : ProjectManager.getInstance().getOpenProjects()) {
+                if (!project.isDisposed() && ProjectFileIndex.getInstance(project).isInContent(parent)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static boolean isLibertyFile(String path) {
+            // settings.gradle defines the name of the Gradle root project
+            return path.endsWith("/pom.xml") || path.endsWith("/build.gradle") || path.endsWith("/settings.gradle")
+                    || path.endsWith("/src/main/liberty/config/server.xml");
+        }
+    }
 }
@@ -0,0 +1,79 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.actions;
+
+import com.intellij.notification.Notification;
+import com.intellij.notification.NotificationType;
+import com.intellij.notification.Notifications;
+import com.intellij.openapi.actionSystem.ActionUpdateThread;
+import com.intellij.openapi.actionSystem.AnAction;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.fileChooser.FileChooserFactory;
+import com.intellij.openapi.fileChooser.FileSaverDescriptor;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.project.ProjectUtil;
+import com.intellij.openapi.vfs.VirtualFileWrapper;
+import io.openliberty.tools.intellij.LibertyPluginIcons;
+import io.openliberty.tools.intellij.util.Constants;
+import io.openliberty.tools.intellij.util.HotReloadLatencyTracker;
+import io.openliberty.tools.intellij.util.LibertyProjectUtil;
+import io.openliberty.tools.intellij.util.LocalizedResourceUtil;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+/**
+ * Exports the hot reload latencies of the Liberty modules to a CSV file.
+ */
+public class ExportHotReloadLatencyAction extends AnAction {
+    private static final Logger LOGGER = Logger.getInstance(ExportHotReloadLatencyAction.class);
+
+    @Override
+    public @NotNull ActionUpdateThread getActionUpdateThread() {
+        return ActionUpdateThread.BGT;
+    }
+
+    @Override
+    public void update(@NotNull AnActionEvent e) {
+        e.getPresentation().setEnabledAndVisible(LibertyProjectUtil.getProject(e.getDataContext()) != null);
+    }
+
+    @Override
+    public void actionPerformed(@NotNull AnActionEvent e) {
+        final Project project = LibertyProjectUtil.getProject(e.getDataContext());
+        if (project == null) {
+            LOGGER.debug("Unable to export hot reload latencies, could not resolve project");
+            return;
+        }
+        FileSaverDescriptor descriptor = new FileSaverDescriptor(
+                LocalizedResourceUtil.getMessage("hot.reload.latency.export.title"),
+                LocalizedResourceUtil.getMessage("hot.reload.latency.export.description"), "csv");
+        VirtualFileWrapper wrapper = FileChooserFactory.getInstance().createSaveFileDialog(descriptor, project)
+                .save(ProjectUtil.guessProjectDir(project), "hot-reload-latency.csv");
+        if (wrapper == null) {
+            return;
+        }
+        String csv = HotReloadLatencyTracker.getInstance(project).getRecorder().toCsv();
+        try {
+            Files.writeString(wrapper.getFile().toPath(), csv, StandardCharsets.UTF_8);
+        } catch (IOException ex) {
+            LOGGER.warn(String.format("Unable to export hot reload latencies to %s", wrapper.getFile()), ex);
+            Notification notif = new Notification(Constants.LIBERTY_DEV_DASHBOARD_ID,
+                    LocalizedResourceUtil.getMessage("hot.reload.latency.export.title"),
+                    LocalizedResourceUtil.getMessage("hot.reload.latency.export.failed", wrapper.getFile(), ex.getMessage()),
+                    NotificationType.ERROR);
+            notif.setIcon(LibertyPluginIcons.libertyIcon);
+            Notifications.Bus.notify(notif, project);
+        }
+    }
+}
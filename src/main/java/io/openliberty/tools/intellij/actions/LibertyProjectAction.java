@@ -107,7 +107,7 @@ public abstract class LibertyProjectAction extends LibertyGeneralAction {
                     mavenBuildFile.setProjectName(LibertyMavenUtil.getProjectNameFromPom(virtualFile));
                     mavenBuildFile.setProjectType(Constants.ProjectType.LIBERTY_MAVEN_PROJECT);
                     buildFiles.add(mavenBuildFile);
-                } catch (Exception e) {
+                } catch (IOException e) {
                     LOGGER.error(String.format("Could not resolve project name from pom.xml: %s", virtualFile), e.getMessage());
                 }
             }
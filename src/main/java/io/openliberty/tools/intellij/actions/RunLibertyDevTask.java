@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2025 IBM Corporation.
+ * Copyright (c) 2020, 2026 IBM Corporation.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -19,6 +19,8 @@ import com.intellij.openapi.wm.ToolWindowManager;
 import com.intellij.ui.components.JBScrollPane;
 import com.intellij.ui.content.Content;
 import com.intellij.ui.treeStructure.Tree;
+import com.intellij.util.ui.tree.TreeUtil;
+import io.openliberty.tools.intellij.LibertyActionNode;
 import io.openliberty.tools.intellij.LibertyPluginIcons;
 import io.openliberty.tools.intellij.util.Constants;
 import io.openliberty.tools.intellij.util.LibertyProjectUtil;
@@ -74,8 +76,9 @@ public class RunLibertyDevTask extends AnAction {
                         libertyTree = (Tree) view;
                         TreePath[] selectionPaths = libertyTree.getSelectionPaths();
                         if (selectionPaths != null && selectionPaths.length == 1) {
-                            String lastPathComponent = selectionPaths[0].getLastPathComponent().toString();
-                            if (Constants.FULL_ACTIONS_MAP.containsKey(lastPathComponent)) {
+                            Object node = TreeUtil.getLastUserObject(selectionPaths[0]);
+                            String lastPathComponent = node instanceof LibertyActionNode actionNode ? actionNode.getName() : null;
+                            if (lastPathComponent != null && Constants.FULL_ACTIONS_MAP.containsKey(lastPathComponent)) {
                                 if (isUpdate) {
                                     // when only one child node is selected, enable this action
                                     e.getPresentation().setEnabled(true);
@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.actions;
+
+import com.intellij.notification.Notification;
+import com.intellij.notification.NotificationType;
+import com.intellij.notification.Notifications;
+import com.intellij.openapi.actionSystem.ActionUpdateThread;
+import com.intellij.openapi.actionSystem.AnAction;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.progress.Task;
+import com.intellij.openapi.project.Project;
+import com.intellij.problems.WolfTheProblemSolver;
+import io.openliberty.tools.intellij.LibertyPluginIcons;
+import io.openliberty.tools.intellij.util.Constants;
+import io.openliberty.tools.intellij.util.LibertyProjectUtil;
+import io.openliberty.tools.intellij.util.LocalizedResourceUtil;
+import io.openliberty.tools.intellij.validation.JavaValidationView;
+import io.openliberty.tools.intellij.validation.LibertyJavaValidator;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Validates all the Java files of the Liberty modules of the project in a
+ * background task. The MicroProfile and Jakarta EE diagnostics are listed in a
+ * tab of the Messages tool window as each file is validated, and the files with
+ * diagnostics are marked as problem files in the project view.
+ */
+public class ValidateLibertyJavaFilesAction extends AnAction {
+    private static final Logger LOGGER = Logger.getInstance(ValidateLibertyJavaFilesAction.class);
+
+    @Override
+    public @NotNull ActionUpdateThread getActionUpdateThread() {
+        return ActionUpdateThread.BGT;
+    }
+
+    @Override
+    public void update(@NotNull AnActionEvent e) {
+        e.getPresentation().setEnabledAndVisible(LibertyProjectUtil.getProject(e.getDataContext()) != null);
+    }
+
+    @Override
+    public void actionPerformed(@NotNull AnActionEvent e) {
+        final Project project = LibertyProjectUtil.getProject(e.getDataContext());
+        if (project == null) {
+            LOGGER.debug("Unable to validate Liberty Java files, could not resolve project");
+            return;
+        }
+        JavaValidationView view = JavaValidationView.open(project,
+                LocalizedResourceUtil.getMessage("liberty.validation.view.title"));
+        ProgressManager.getInstance().run(new Task.Backgroundable(project,
+                LocalizedResourceUtil.getMessage("liberty.validation.task.title"), true) {
+            private LibertyJavaValidator.Summary summary;
+
+            @Override
+            public void run(@NotNull ProgressIndicator indicator) {
+                WolfTheProblemSolver problemSolver = WolfTheProblemSolver.getInstance(project);
+                summary = new LibertyJavaValidator(project).validate(indicator, (file, pipeline, diagnostics) -> {
+                    view.fileValidated(file, pipeline, diagnostics);
+                    if (diagnostics.isEmpty()) {
+                        problemSolver.clearProblemsFromExternalSource(file, pipeline);
+                    } else {
+                        problemSolver.reportProblemsFromExternalSource(file, pipeline);
+                    }
+                    indicator.setText2(file.getPresentableUrl());
+                });
+            }
+
+            @Override
+            public void onFinished() {
+                if (summary == null) {
+                    return;
+                }
+                String key = summary.canceled() ? "liberty.validation.canceled" : "liberty.validation.completed";
+                Notification notif = new Notification(Constants.LIBERTY_DEV_DASHBOARD_ID,
+                        LocalizedResourceUtil.getMessage("liberty.validation.task.title"),
+                        LocalizedResourceUtil.getMessage(key, summary.files(), summary.diagnostics(),
+                                summary.filesWithDiagnostics()),
+                        summary.filesWithDiagnostics() > 0 ? NotificationType.WARNING : NotificationType.INFORMATION);
+                notif.setIcon(LibertyPluginIcons.libertyIcon);
+                Notifications.Bus.notify(notif, project);
+            }
+        });
+    }
+}
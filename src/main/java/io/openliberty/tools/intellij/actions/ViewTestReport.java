@@ -22,22 +22,20 @@ import io.openliberty.tools.intellij.LibertyPluginIcons;
 import io.openliberty.tools.intellij.util.Constants;
 import io.openliberty.tools.intellij.util.LibertyGradleUtil;
 import io.openliberty.tools.intellij.util.LocalizedResourceUtil;
+import io.openliberty.tools.intellij.util.TestReportLocator;
 
 import java.io.File;
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 public class ViewTestReport extends LibertyGeneralAction {
     protected static final Logger LOGGER = Logger.getInstance(ViewTestReport.class);
 
+    private static final Pattern TEST_REPORT_DESTINATION_PATTERN = Pattern.compile("(?<=reports.html.destination[\\s\\=|\\=]).*([\"|'])(.*)([\"|'])");
+
     /**
      * Returns the name of the action command being processed.
      *
@@ -72,11 +70,8 @@ public class ViewTestReport extends LibertyGeneralAction {
         if (testReportDest != null) {
             testReportFile = new File(testReportDest);
             if (!testReportFile.exists()) {
-                try {
-                    testReportFile = findCustomTestReport(parentFile);
-                } catch (IOException ioException) {
-                    LOGGER.debug(ioException);
-                }
+                // look for the most recently modified test report in the module
+                testReportFile = TestReportLocator.getInstance(project).findTestReport(parentFile);
             }
         }
 
@@ -105,10 +100,7 @@ public class ViewTestReport extends LibertyGeneralAction {
 
     private String getTestReportDestination(VirtualFile file) throws IOException {
         String buildFile = LibertyGradleUtil.fileToString(file.getPath());
-        String testReportRegex = "(?<=reports.html.destination[\\s\\=|\\=]).*([\"|'])(.*)([\"|'])";
-
-        Pattern pattern = Pattern.compile(testReportRegex);
-        Matcher matcher = pattern.matcher(buildFile);
+        Matcher matcher = TEST_REPORT_DESTINATION_PATTERN.matcher(buildFile);
         if (matcher.find()) {
             if (!matcher.group(2).isEmpty()) {
                 // group 2 is the string enclosed in quotation marks
@@ -117,45 +109,4 @@ public class ViewTestReport extends LibertyGeneralAction {
         }
         return null;
     }
-
-
-    private File findCustomTestReport(VirtualFile parentFile) throws IOException {
-        // look for the most recently modified index.html files in the workspace
-        ArrayList<File> customTestReports = new ArrayList<File>();
-        try (Stream<Path> walk = Files.walk(Paths.get(parentFile.getPath()))
-                .filter(Files::isRegularFile)) {
-            List<String> result = walk.map(x -> x.toString())
-                    // exclude files from {bin, classes, target} dirs
-                    .filter(f -> !f.contains("bin") || !f.contains("classes") || !f.contains("target"))
-                    .filter(f -> f.endsWith("index.html")).collect(Collectors.toList());
-
-            // check to see if the index.html contains the TEST_REPORT_STRING
-            for (String s : result) {
-                String file = LibertyGradleUtil.fileToString(s);
-                if (file.contains(Constants.TEST_REPORT_STRING)) {
-                    File newFile = new File(s);
-                    if (newFile.exists()) {
-                        customTestReports.add(newFile);
-                    }
-                }
-            }
-
-            if (customTestReports.size() > 1) {
-                File mostRecentlyModified = customTestReports.get(0);
-                for (File f : customTestReports) {
-                    if (f.lastModified() > mostRecentlyModified.lastModified()) {
-                        mostRecentlyModified = f;
-                    }
-                }
-                // return the most recently modified file
-                return mostRecentlyModified;
-            } else if (customTestReports.size() == 1) {
-                return customTestReports.get(0);
-            }
-        } catch (IOException e) {
-            LOGGER.debug(e);
-        }
-
-        return null;
-    }
-}
\ No newline at end of file
+}
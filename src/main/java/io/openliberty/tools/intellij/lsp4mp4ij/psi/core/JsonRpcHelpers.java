@@ -14,12 +14,10 @@ import com.intellij.openapi.editor.Document;
 
 public class JsonRpcHelpers {
     public static int[] toLine(Document buffer, int offset) {
-        int line = buffer.getLineNumber(offset);
-        int column = offset - buffer.getLineStartOffset(line);
-        return new int[] { line, column };
+        return PositionMapper.getInstance(buffer).toLine(offset);
     }
 
     public static int toOffset(Document document, int line, int character) {
-        return document.getLineStartOffset(line) + character;
+        return PositionMapper.getInstance(document).toOffset(line, character);
     }
 }
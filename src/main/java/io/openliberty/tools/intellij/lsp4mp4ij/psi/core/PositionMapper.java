@@ -0,0 +1,155 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial API and implementation
+*******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.core;
+
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.util.Key;
+
+import java.util.Arrays;
+
+/**
+ * Converts offsets of a document to LSP lines and UTF-16 columns, and back.
+ *
+ * <p>
+ * The offsets of the start of the lines are computed once per modification
+ * stamp of the document and shared by all the requests which use the same
+ * version of the document. The mapper remembers the line of the last offset
+ * it converted, so that offsets converted in document order, like the ranges
+ * produced by a diagnostics pass, resolve in a single forward sweep of the
+ * lines rather than in one lookup each.
+ * </p>
+ */
+public final class PositionMapper {
+
+	private static final Key<PositionMapper> KEY = Key.create(PositionMapper.class.getName());
+
+	// number of lines to step forward from the last line before falling back to a binary search
+	private static final int MAX_SWEEP = 8;
+
+	private final long modificationStamp;
+
+	private final int textLength;
+
+	private final int[] lineStarts;
+
+	// line of the last converted offset, it is only a hint so it doesn't need to be synchronized
+	private int lastLine;
+
+	PositionMapper(CharSequence text, long modificationStamp) {
+		this.modificationStamp = modificationStamp;
+		this.textLength = text.length();
+		int[] starts = new int[64];
+		int count = 1;
+		for (int i = 0; i < textLength; i++) {
+			if (text.charAt(i) == '\n') {
+				if (count == starts.length) {
+					starts = Arrays.copyOf(starts, starts.length * 2);
+				}
+				starts[count++] = i + 1;
+			}
+		}
+		this.lineStarts = Arrays.copyOf(starts, count);
+	}
+
+	/**
+	 * Returns the position mapper for the current version of the given document.
+	 *
+	 * @param document the document.
+	 * @return the position mapper.
+	 */
+	public static PositionMapper getInstance(Document document) {
+		long modificationStamp = document.getModificationStamp();
+		PositionMapper mapper = document.getUserData(KEY);
+		if (mapper == null || mapper.modificationStamp != modificationStamp) {
+			mapper = new PositionMapper(document.getImmutableCharSequence(), modificationStamp);
+			document.putUserData(KEY, mapper);
+		}
+		return mapper;
+	}
+
+	public int getLineCount() {
+		return lineStarts.length;
+	}
+
+	/**
+	 * Returns the line of the given offset, like
+	 * {@link Document#getLineNumber(int)}.
+	 *
+	 * @param offset the offset, between 0 and the length of the document.
+	 * @return the line of the given offset.
+	 */
+	public int getLineNumber(int offset) {
+		if (offset < 0 || offset > textLength) {
+			throw new IndexOutOfBoundsException("Wrong offset: " + offset + ". Should be in range: [0, " + textLength + "]");
+		}
+		int line = lastLine;
+		if (offset < lineStarts[line]) {
+			line = findLine(offset, 0, line);
+		} else {
+			int last = lineStarts.length - 1;
+			for (int i = 0; i < MAX_SWEEP && line < last && offset >= lineStarts[line + 1]; i++) {
+				line++;
+			}
+			if (line < last && offset >= lineStarts[line + 1]) {
+				line = findLine(offset, line + 1, lineStarts.length);
+			}
+		}
+		lastLine = line;
+		return line;
+	}
+
+	/**
+	 * Returns the offset of the start of the given line, like
+	 * {@link Document#getLineStartOffset(int)}.
+	 *
+	 * @param line the line.
+	 * @return the offset of the start of the line.
+	 */
+	public int getLineStartOffset(int line) {
+		if (line < 0 || line >= lineStarts.length) {
+			throw new IndexOutOfBoundsException("Wrong line: " + line + ". Available lines count: " + lineStarts.length);
+		}
+		return lineStarts[line];
+	}
+
+	/**
+	 * Returns the line and the column of the given offset.
+	 *
+	 * @param offset the offset.
+	 * @return the line and the column of the given offset.
+	 */
+	public int[] toLine(int offset) {
+		int line = getLineNumber(offset);
+		return new int[] { line, offset - lineStarts[line] };
+	}
+
+	/**
+	 * Returns the offset of the given line and column.
+	 *
+	 * @param line      the line.
+	 * @param character the column.
+	 * @return the offset.
+	 */
+	public int toOffset(int line, int character) {
+		return getLineStartOffset(line) + character;
+	}
+
+	/**
+	 * Returns the last line between <code>from</code> (inclusive) and
+	 * <code>to</code> (exclusive) which starts at or before the given offset.
+	 */
+	private int findLine(int offset, int from, int to) {
+		int index = Arrays.binarySearch(lineStarts, from, to, offset);
+		return index >= 0 ? index : -index - 2;
+	}
+}
@@ -15,7 +15,12 @@ import com.intellij.openapi.module.Module;
 import com.intellij.openapi.module.ModuleManager;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.project.ProjectManager;
+import com.intellij.openapi.roots.ProjectRootManager;
+import com.intellij.openapi.util.Key;
 import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.ls.PsiUtilsLSImpl;
 import org.eclipse.lsp4mp.commons.MicroProfileJavaProjectLabelsParams;
@@ -23,7 +28,11 @@ import org.eclipse.lsp4mp.commons.ProjectLabelInfoEntry;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Project label manager which provides <code>ProjectLabelInfo</code> containing
@@ -35,6 +44,9 @@ import java.util.List;
 public class ProjectLabelManager {
 	private static final ProjectLabelManager INSTANCE = new ProjectLabelManager();
 
+	private static final Key<CachedValue<Map<List<String>, List<String>>>> PROJECT_LABELS_KEY = Key
+			.create("liberty.projectLabels");
+
 	public static ProjectLabelManager getInstance() {
 		return INSTANCE;
 	}
@@ -102,12 +114,37 @@ public class ProjectLabelManager {
 
 	/**
 	 * Returns the project labels for the given project.
-	 * 
+	 *
+	 * The labels are cached per module and per list of types, and the cache is
+	 * dropped when the module or library roots of the project change.
+	 *
 	 * @param project the Eclipse project.
 	 * @param types   the Java type list to check.
 	 * @return the project labels for the given project.
 	 */
 	private List<String> getProjectLabels(Module project, List<String> types, IPsiUtils utils) {
+		Map<List<String>, List<String>> labelsByTypes = CachedValuesManager.getManager(project.getProject())
+				.getCachedValue(project, PROJECT_LABELS_KEY,
+						() -> CachedValueProvider.Result.create(new ConcurrentHashMap<>(),
+								ProjectRootManager.getInstance(project.getProject())),
+						false);
+		// the client may send null types, they can't be found in the classpath
+		List<String> typesKey = types != null ? types.stream().filter(Objects::nonNull).toList()
+				: Collections.emptyList();
+		List<String> projectLabels = labelsByTypes.get(typesKey);
+		if (projectLabels == null) {
+			// computed outside of the map lock, so that requests for other types are not blocked by the
+			// label providers and the classpath lookups; concurrent requests may compute the same labels
+			List<String> computed = Collections.unmodifiableList(computeProjectLabels(project, typesKey, utils));
+			projectLabels = labelsByTypes.putIfAbsent(typesKey, computed);
+			if (projectLabels == null) {
+				projectLabels = computed;
+			}
+		}
+		return new ArrayList<>(projectLabels);
+	}
+
+	private List<String> computeProjectLabels(Module project, List<String> types, IPsiUtils utils) {
 		// Update labels by using the
 		// "com.redhat.microprofile.jdt.core.projectLabelProviders" extension point (ex
 		// : "maven", "gradle", "quarkus", "microprofile").
@@ -118,11 +155,9 @@ public class ProjectLabelManager {
 		}
 		// Update labels by checking if some Java types are in the classpath of the Java
 		// project.
-		if (types != null) {
-			for (String type : types) {
-				if (utils.findClass(project, type) != null) {
-					projectLabels.add(type);
-				}
+		for (String type : types) {
+			if (utils.findClass(project, type) != null) {
+				projectLabels.add(type);
 			}
 		}
 
@@ -10,12 +10,14 @@
  ******************************************************************************/
 package io.openliberty.tools.intellij.lsp4mp4ij.psi.core;
 
+import com.intellij.concurrency.JobLauncher;
 import com.intellij.lang.jvm.JvmParameter;
 import com.intellij.openapi.application.ApplicationManager;
 import com.intellij.openapi.editor.Document;
 import com.intellij.openapi.module.Module;
 import com.intellij.openapi.module.ModuleManager;
 import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.ProgressManager;
 import com.intellij.openapi.util.Computable;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.*;
@@ -32,6 +34,7 @@ import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.hover.JavaHoverCont
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.java.codeaction.CodeActionHandler;
 import org.eclipse.lsp4j.*;
+import org.eclipse.lsp4j.jsonrpc.messages.Either;
 import org.eclipse.lsp4mp.commons.*;
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
@@ -42,6 +45,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * JDT quarkus manager for Java files.
@@ -55,6 +59,10 @@ public final class PropertiesManagerForJava {
 
     private static final String GROUP_NAME = "mp";
 
+    private static final String HOVER_SEPARATOR_MARKDOWN = "\n\n---\n\n";
+
+    private static final String HOVER_SEPARATOR_PLAINTEXT = "\n\n";
+
     private static final PropertiesManagerForJava INSTANCE = new PropertiesManagerForJava();
 
     public static PropertiesManagerForJava getInstance() {
@@ -262,11 +270,65 @@ public final class PropertiesManagerForJava {
             if (hovers.isEmpty()) {
                 return null;
             }
-            // TODO : aggregate the hover
-            return hovers.get(0);
+            return mergeHovers(hovers);
         });
     }
 
+    /**
+     * Returns a hover with the contents of all the given hovers, separated by
+     * a horizontal rule, and with a range which covers all their ranges. The
+     * hovers are merged as markdown if one of them is markdown.
+     *
+     * @param hovers the hovers collected by the participants
+     * @return a hover with the contents of all the given hovers, or null if none
+     *         of them has contents
+     */
+    static Hover mergeHovers(List<Hover> hovers) {
+        List<Hover> nonEmpty = hovers.stream()
+                .filter(hover -> hover != null && hover.getContents() != null)
+                .toList();
+        if (nonEmpty.size() <= 1) {
+            return nonEmpty.isEmpty() ? null : nonEmpty.get(0);
+        }
+        List<MarkupContent> contents = nonEmpty.stream().map(PropertiesManagerForJava::toMarkupContent).toList();
+        // plain text can be shown as markdown, not the other way around
+        boolean markdown = contents.stream().anyMatch(content -> MarkupKind.MARKDOWN.equals(content.getKind()));
+        String value = contents.stream()
+                .map(MarkupContent::getValue)
+                .collect(Collectors.joining(markdown ? HOVER_SEPARATOR_MARKDOWN : HOVER_SEPARATOR_PLAINTEXT));
+        Range range = null;
+        for (Hover hover : nonEmpty) {
+            range = union(range, hover.getRange());
+        }
+        return new Hover(new MarkupContent(markdown ? MarkupKind.MARKDOWN : MarkupKind.PLAINTEXT, value), range);
+    }
+
+    private static MarkupContent toMarkupContent(Hover hover) {
+        Either<List<Either<String, MarkedString>>, MarkupContent> contents = hover.getContents();
+        if (contents.isRight()) {
+            return contents.getRight();
+        }
+        String value = contents.getLeft().stream()
+                .map(content -> content.isLeft() ? content.getLeft()
+                        : "```" + content.getRight().getLanguage() + "\n" + content.getRight().getValue() + "\n```")
+                .collect(Collectors.joining("\n\n"));
+        return new MarkupContent(MarkupKind.MARKDOWN, value);
+    }
+
+    private static Range union(Range range, Range other) {
+        if (range == null || other == null) {
+            return range == null ? other : range;
+        }
+        Position start = compare(range.getStart(), other.getStart()) <= 0 ? range.getStart() : other.getStart();
+        Position end = compare(range.getEnd(), other.getEnd()) >= 0 ? range.getEnd() : other.getEnd();
+        return new Range(start, end);
+    }
+
+    private static int compare(Position position, Position other) {
+        int line = Integer.compare(position.getLine(), other.getLine());
+        return line != 0 ? line : Integer.compare(position.getCharacter(), other.getCharacter());
+    }
+
     /**
      * Returns the cursor context for the given file and cursor position.
      *
@@ -336,14 +398,22 @@ public final class PropertiesManagerForJava {
                         return;
                     }
 
-                    // Begin, collect, end participants
+                    // Begin, collect, end participants. The participants collect their hover concurrently,
+                    // in the read action of the caller, and the hovers are kept in the order of the participants.
                     definitions.forEach(definition -> definition.beginHover(context));
-                    definitions.forEach(definition -> {
-                        Hover hover = definition.collectHover(context);
+                    Hover[] collected = new Hover[definitions.size()];
+                    JobLauncher.getInstance().invokeConcurrentlyUnderProgress(
+                            IntStream.range(0, collected.length).boxed().collect(Collectors.toList()),
+                            ProgressManager.getGlobalProgressIndicator(), index -> {
+                                ProgressManager.checkCanceled();
+                                collected[index] = definitions.get(index).collectHover(context);
+                                return true;
+                            });
+                    for (Hover hover : collected) {
                         if (hover != null) {
                             hovers.add(hover);
                         }
-                    });
+                    }
                     definitions.forEach(definition -> definition.endHover(context));
                 }
             }
@@ -21,7 +21,6 @@ import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiLiteral;
 import com.intellij.psi.PsiModifierListOwner;
 import com.intellij.psi.PsiNameValuePair;
-import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.JsonRpcHelpers;
 import org.eclipse.lsp4j.Position;
 import org.eclipse.lsp4j.Range;
 
@@ -41,8 +40,10 @@ public class PsiUtils {
         int[] loc = null;
         int[] endLoc = null;
         if (document != null && (offset > 0 || length > 0)) {
-            loc = JsonRpcHelpers.toLine(document, offset);
-            endLoc = JsonRpcHelpers.toLine(document, offset + length);
+            // the end is resolved from the line of the start
+            PositionMapper mapper = PositionMapper.getInstance(document);
+            loc = mapper.toLine(offset);
+            endLoc = mapper.toLine(offset + length);
         }
         if (loc == null) {
             loc = new int[2];
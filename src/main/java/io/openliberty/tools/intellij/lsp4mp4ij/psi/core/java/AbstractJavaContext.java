@@ -13,10 +13,12 @@ package io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.intellij.openapi.module.Module;
 import com.intellij.psi.PsiFile;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
+import org.jetbrains.annotations.TestOnly;
 
 /**
  * Abstract class for Java context for a given compilation unit.
@@ -29,13 +31,33 @@ public abstract class AbstractJavaContext {
 
 	private final String uri;
 
-	private final PsiFile typeRoot;
+	private PsiFile typeRoot;
+
+	// true until the in memory copy of typeRoot is created, see TypeRootCopy
+	private boolean copyPending;
+
+	// true once typeRoot is the in memory copy of this context, which the context may modify
+	private boolean copied;
+
+	private static final AtomicInteger copyCount = new AtomicInteger();
 
 	private final IPsiUtils utils;
 	private final Module module;
 
 	private Map<String, Object> cache;
 
+	/**
+	 * The compilation unit of a copy of a context, see
+	 * {@link #getTypeRootToCopy()}.
+	 *
+	 * @param typeRoot the compilation unit.
+	 * @param copied   true if the compilation unit is already the in memory copy
+	 *                 of the new context, false if the new context must copy it
+	 *                 the first time it is accessed.
+	 */
+	protected record TypeRootCopy(PsiFile typeRoot, boolean copied) {
+	}
+
 	public AbstractJavaContext(String uri, PsiFile typeRoot, IPsiUtils utils, Module module) {
 		this.uri = uri;
 		this.typeRoot = typeRoot;
@@ -43,14 +65,61 @@ public abstract class AbstractJavaContext {
 		this.module = module;
 	}
 
+	/**
+	 * Creates a context which uses its own in memory copy of the compilation unit.
+	 * Unless it is already copied, the copy is only created the first time the
+	 * compilation unit of the context is accessed, so a context which only uses
+	 * the URI or the parameters of the request does not copy it.
+	 */
+	protected AbstractJavaContext(String uri, TypeRootCopy typeRootCopy, IPsiUtils utils, Module module) {
+		this(uri, typeRootCopy.typeRoot(), utils, module);
+		this.copied = typeRootCopy.copied();
+		this.copyPending = !typeRootCopy.copied();
+	}
+
 	public String getUri() {
 		return uri;
 	}
 
 	public PsiFile getTypeRoot() {
+		if (copyPending) {
+			typeRoot = copyTypeRoot(typeRoot);
+			copyPending = false;
+			copied = true;
+		}
 		return typeRoot;
 	}
 
+	/**
+	 * Returns the compilation unit of a copy of this context.
+	 *
+	 * <p>
+	 * If this context has its own in memory copy, it may already be modified and
+	 * it is copied now, so that the new context sees it as it is when the context
+	 * is copied. Otherwise this context uses the compilation unit of the request,
+	 * which is not modified while the request is processed in a read action, and
+	 * the copy is left to the new context.
+	 * </p>
+	 *
+	 * @return the compilation unit of the copy.
+	 */
+	protected TypeRootCopy getTypeRootToCopy() {
+		return copied ? new TypeRootCopy(copyTypeRoot(typeRoot), true) : new TypeRootCopy(typeRoot, false);
+	}
+
+	private static PsiFile copyTypeRoot(PsiFile typeRoot) {
+		copyCount.incrementAndGet();
+		return typeRoot.getViewProvider().clone().getPsi(typeRoot.getLanguage());
+	}
+
+	/**
+	 * @return number of in memory copies of compilation units made by the contexts since startup
+	 */
+	@TestOnly
+	public static int getCopyCount() {
+		return copyCount.get();
+	}
+
 	public Module getJavaProject() {
 		return module;
 	}
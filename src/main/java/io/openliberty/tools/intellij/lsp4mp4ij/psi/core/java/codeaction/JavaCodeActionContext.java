@@ -52,6 +52,15 @@ public class JavaCodeActionContext extends AbstractJavaContext implements IInvoc
 		this.source = source;
 	}
 
+	protected JavaCodeActionContext(TypeRootCopy typeRootCopy, int selectionOffset, int selectionLength, IPsiUtils utils,
+									Module module, MicroProfileJavaCodeActionParams params, JavaCodeActionContext source) {
+		super(params.getUri(), typeRootCopy, utils, module);
+		this.selectionOffset = selectionOffset;
+		this.selectionLength = selectionLength;
+		this.params = params;
+		this.source = source;
+	}
+
 	public JavaCodeActionContext(PsiFile typeRoot, int selectionOffset, int selectionLength, IPsiUtils utils,
 								 MicroProfileJavaCodeActionParams params) {
 		this(typeRoot, selectionOffset, selectionLength,utils, utils.getModule(), params, null);
@@ -59,13 +68,16 @@ public class JavaCodeActionContext extends AbstractJavaContext implements IInvoc
 	}
 
 	/**
-	 * Return a copy of the context with its own in memory compilation unit
+	 * Return a copy of the context with its own in memory compilation unit. The
+	 * compilation unit of the request is only copied when the new context
+	 * accesses it, most code action participants only create unresolved code
+	 * actions and never do.
 	 *
 	 * @return the new context
 	 */
 	public JavaCodeActionContext copy() {
-		return new JavaCodeActionContext(getTypeRoot().getViewProvider().clone().getPsi(getTypeRoot().getLanguage()), selectionOffset,
-				selectionLength, getUtils(), getJavaProject(), params, this.source);
+		return new JavaCodeActionContext(getTypeRootToCopy(), selectionOffset, selectionLength, getUtils(),
+				getJavaProject(), params, this.source);
 	}
 
 	public MicroProfileJavaCodeActionParams getParams() {
@@ -35,19 +35,27 @@ public class JavaCodeActionResolveContext extends JavaCodeActionContext {
 
 	public JavaCodeActionResolveContext(PsiFile typeRoot, int selectionOffset, int selectionLength, IPsiUtils utils,
 										MicroProfileJavaCodeActionParams params, CodeAction unresolved, JavaCodeActionResolveContext source) {
-		super(typeRoot, selectionOffset, selectionLength, utils, params);
+		super(typeRoot, selectionOffset, selectionLength, utils, utils.getModule(), params, source);
+		this.unresolved = unresolved;
+	}
+
+	private JavaCodeActionResolveContext(TypeRootCopy typeRootCopy, int selectionOffset, int selectionLength, IPsiUtils utils,
+										 MicroProfileJavaCodeActionParams params, CodeAction unresolved,
+										 JavaCodeActionResolveContext source) {
+		super(typeRootCopy, selectionOffset, selectionLength, utils, utils.getModule(), params, source);
 		this.unresolved = unresolved;
-		this.source = source;
 	}
 
 	/**
-	 * Return a copy of the context with its own in memory compilation unit
+	 * Return a copy of the context with its own in memory compilation unit. The
+	 * compilation unit of the request is only copied when the new context
+	 * accesses it.
 	 *
 	 * @return the new context
 	 */
 	@Override
 	public JavaCodeActionResolveContext copy() {
-		return new JavaCodeActionResolveContext(getTypeRoot().getViewProvider().clone().getPsi(getTypeRoot().getLanguage()), super.getSelectionOffset(),
+		return new JavaCodeActionResolveContext(getTypeRootToCopy(), super.getSelectionOffset(),
 				super.getSelectionLength(), getUtils(), super.getParams(), this.unresolved, getSource());
 	}
 
@@ -38,6 +38,12 @@ public final class CompletionHandler {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(CompletionHandler.class);
 
+    /**
+     * Maximum number of completion items returned by each participant for one request. When a participant
+     * has more items, the completion list is incomplete and the client asks for it again as the user types.
+     */
+    static final int MAX_COMPLETION_ITEMS = 500;
+
     private final String group;
 
     public CompletionHandler(String group) {
@@ -70,7 +76,9 @@ public final class CompletionHandler {
                         completionPosition.getCharacter());
 
                 List<CompletionItem> completionItems = new ArrayList<>();
-                JavaCompletionContext completionContext = new JavaCompletionContext(uri, typeRoot, utils, module, completionOffset);
+                String prefix = getCompletionPrefix(typeRoot.getViewProvider().getContents(), completionOffset);
+                JavaCompletionContext completionContext = new JavaCompletionContext(uri, typeRoot, utils, module,
+                        completionOffset, prefix, MAX_COMPLETION_ITEMS);
 
                 List<JavaCompletionDefinition> completions = JavaCompletionDefinition.EP_NAME.getExtensionList()
                         .stream()
@@ -85,12 +93,13 @@ public final class CompletionHandler {
                 completions.forEach(completion -> {
                     List<? extends CompletionItem> collectedCompletionItems = completion.collectCompletionItems(completionContext);
                     if (collectedCompletionItems != null) {
-                        completionItems.addAll(collectedCompletionItems);
+                        completionItems.addAll(limit(collectedCompletionItems, completionContext));
                     }
                 });
 
                 CompletionList completionList = new CompletionList();
                 completionList.setItems(completionItems);
+                completionList.setIsIncomplete(completionContext.isIncomplete());
                 return completionList;
             } catch (IOException e) {
                 LOGGER.warn(e.getLocalizedMessage(), e);
@@ -229,6 +238,36 @@ public final class CompletionHandler {
         return fileContents.substring(i, completionOffset);
     }
 
+    /**
+     * Returns the first {@link JavaCompletionContext#getMaxItems()} items collected by a participant, the
+     * completion list is marked incomplete when the participant returned more items. The cap is applied to
+     * each participant so that a participant with many items does not hide the items of the others.
+     */
+    static @NotNull List<? extends CompletionItem> limit(@NotNull List<? extends CompletionItem> items,
+                                                         @NotNull JavaCompletionContext context) {
+        if (items.size() <= context.getMaxItems()) {
+            return items;
+        }
+        context.setIncomplete();
+        return items.subList(0, context.getMaxItems());
+    }
+
+    /**
+     * Returns the name typed before the completion offset, made of Java identifier characters, dots (ex :
+     * qualified names, property names) and dashes (ex : property names).
+     */
+    static @NotNull String getCompletionPrefix(@NotNull CharSequence text, int completionOffset) {
+        int start = Math.min(completionOffset, text.length());
+        while (start > 0) {
+            char c = text.charAt(start - 1);
+            if (!Character.isJavaIdentifierPart(c) && c != '.' && c != '-') {
+                break;
+            }
+            start--;
+        }
+        return text.subSequence(start, Math.min(completionOffset, text.length())).toString();
+    }
+
     private static int getMethodStartOffset(PsiMethod psiMethod) {
         int startOffset = psiMethod.getTextOffset();
 
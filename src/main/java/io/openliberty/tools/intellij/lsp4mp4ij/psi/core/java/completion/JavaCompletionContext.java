@@ -27,9 +27,22 @@ public class JavaCompletionContext extends AbstractJavaContext {
 
 	private int offset;
 
+	private final String prefix;
+
+	private final int maxItems;
+
+	private volatile boolean incomplete;
+
 	public JavaCompletionContext(String uri, PsiFile typeRoot, IPsiUtils utils, Module module, int offset) {
+		this(uri, typeRoot, utils, module, offset, "", Integer.MAX_VALUE);
+	}
+
+	public JavaCompletionContext(String uri, PsiFile typeRoot, IPsiUtils utils, Module module, int offset,
+			String prefix, int maxItems) {
 		super(uri, typeRoot, utils, module);
 		this.offset = offset;
+		this.prefix = prefix;
+		this.maxItems = maxItems;
 	}
 
 	/**
@@ -43,4 +56,44 @@ public class JavaCompletionContext extends AbstractJavaContext {
 		return offset;
 	}
 
+	/**
+	 * Returns the name typed before the offset where completion was triggered,
+	 * made of Java identifier characters, dots and dashes
+	 *
+	 * @return the name typed before the offset where completion was triggered
+	 */
+	public String getPrefix() {
+		return prefix;
+	}
+
+	/**
+	 * Returns the maximum number of completion items to return. Participants
+	 * which have more items matching the prefix should return the first ones and
+	 * call {@link #setIncomplete()}.
+	 *
+	 * @return the maximum number of completion items to return
+	 */
+	public int getMaxItems() {
+		return maxItems;
+	}
+
+	/**
+	 * Marks the completion items as incomplete, so that the client requests them
+	 * again as the prefix is typed further
+	 */
+	public void setIncomplete() {
+		this.incomplete = true;
+	}
+
+	/**
+	 * Returns true if a participant didn't return all the completion items
+	 * matching the prefix and false otherwise
+	 *
+	 * @return true if a participant didn't return all the completion items
+	 *         matching the prefix and false otherwise
+	 */
+	public boolean isIncomplete() {
+		return incomplete;
+	}
+
 }
@@ -0,0 +1,128 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial API and implementation
+*******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.completion;
+
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Index of the MicroProfile properties of a project by name.
+ *
+ * <p>
+ * The properties are sorted by name, so the properties whose name starts with
+ * a given prefix are a contiguous range which starts where a binary search
+ * finds the prefix, and the first completion items can be returned without
+ * going through all the properties of the project.
+ * </p>
+ */
+public final class PropertyNameIndex {
+
+	private static final PropertyNameIndex EMPTY = new PropertyNameIndex(new ItemMetadata[0]);
+
+	private final ItemMetadata[] properties;
+
+	private PropertyNameIndex(ItemMetadata[] properties) {
+		this.properties = properties;
+	}
+
+	/**
+	 * Returns the index of the properties of the given project information.
+	 * When several properties have the same name, the first one is kept.
+	 *
+	 * @param info the MicroProfile project information.
+	 * @return the index of the properties of the given project information.
+	 */
+	public static PropertyNameIndex create(MicroProfileProjectInfo info) {
+		return create(info.getProperties());
+	}
+
+	/**
+	 * Returns the index of the given properties. When several properties have
+	 * the same name, the first one is kept.
+	 *
+	 * @param properties the MicroProfile properties.
+	 * @return the index of the given properties.
+	 */
+	public static PropertyNameIndex create(List<ItemMetadata> properties) {
+		if (properties == null || properties.isEmpty()) {
+			return EMPTY;
+		}
+		// the sort is stable, so the first property of each name stays first
+		ItemMetadata[] sorted = properties.stream()
+				.filter(property -> property.getName() != null)
+				.sorted(Comparator.comparing(ItemMetadata::getName))
+				.toArray(ItemMetadata[]::new);
+		int count = 0;
+		for (ItemMetadata property : sorted) {
+			if (count == 0 || !sorted[count - 1].getName().equals(property.getName())) {
+				sorted[count++] = property;
+			}
+		}
+		return new PropertyNameIndex(Arrays.copyOf(sorted, count));
+	}
+
+	/**
+	 * Returns the number of distinct property names.
+	 *
+	 * @return the number of distinct property names.
+	 */
+	public int size() {
+		return properties.length;
+	}
+
+	/**
+	 * Collects, in name order, the properties whose name starts with the given
+	 * prefix.
+	 *
+	 * @param prefix   the prefix.
+	 * @param limit    the maximum number of properties to collect.
+	 * @param consumer the consumer of the properties.
+	 * @return true if all the properties whose name starts with the prefix were
+	 *         collected and false if there were more than <code>limit</code>.
+	 */
+	public boolean collect(String prefix, int limit, Consumer<ItemMetadata> consumer) {
+		int from = firstIndexOf(prefix);
+		int count = 0;
+		for (int i = from; i < properties.length && properties[i].getName().startsWith(prefix); i++) {
+			if (count++ == limit) {
+				return false;
+			}
+			consumer.accept(properties[i]);
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the index of the first property whose name is greater than or
+	 * equal to the given prefix, which is the first property which starts with
+	 * the prefix if there is one.
+	 */
+	private int firstIndexOf(String prefix) {
+		int low = 0;
+		int high = properties.length;
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (properties[middle].getName().compareTo(prefix) < 0) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return low;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022 Red Hat, Inc.
+ * Copyright (c) 2022, 2026 Red Hat, Inc.
  * Distributed under license by Red Hat, Inc. All rights reserved.
  * This program is made available under the terms of the
  * Eclipse Public License v2.0 which accompanies this distribution,
@@ -13,12 +13,15 @@ package io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.corrections.propos
 import com.intellij.openapi.editor.Document;
 import com.intellij.openapi.editor.event.DocumentEvent;
 import com.intellij.openapi.editor.event.DocumentListener;
-import com.intellij.psi.PsiElement;
-import com.intellij.psi.PsiFile;
+import com.intellij.openapi.util.TextRange;
+import com.intellij.psi.*;
 import com.intellij.psi.codeStyle.CodeStyleManager;
+import com.intellij.psi.util.PsiTreeUtil;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.java.TextDiff;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
 public abstract class ASTRewriteCorrectionProposal extends ChangeCorrectionProposal {
@@ -41,10 +44,70 @@ public abstract class ASTRewriteCorrectionProposal extends ChangeCorrectionPropo
 
     @Override
     public final Change getChange() {
+        PsiFile file = getElement().getContainingFile();
+        String textBeforeUpdate = file.getText();
         performUpdate();
-        Document document = getElement().getContainingFile().getViewProvider().getDocument();
-        CodeStyleManager.getInstance(getElement().getProject()).reformatText(getElement().getContainingFile(),
-                0, document.getTextLength());
+        file = getElement().getContainingFile();
+        Document document = file.getViewProvider().getDocument();
+        // only reformat the code touched by the update, the rest of the file is left as the user wrote it
+        List<TextRange> ranges = getReformatRanges(file, textBeforeUpdate);
+        if (!ranges.isEmpty()) {
+            CodeStyleManager.getInstance(getElement().getProject()).reformatText(file, ranges);
+        }
         return new Change(sourceCU.getViewProvider().getDocument(), document);
     }
+
+    /**
+     * Returns the ranges of the given file which changed since it had the given text, each widened to the member,
+     * class declaration, import list or package statement which encloses it.
+     *
+     * @param file the updated file.
+     * @param textBeforeUpdate the text of the file before the update.
+     * @return the ranges to reformat, sorted and not overlapping.
+     */
+    static List<TextRange> getReformatRanges(PsiFile file, String textBeforeUpdate) {
+        List<TextRange> ranges = new ArrayList<>();
+        int delta = 0;
+        for (TextDiff.Edit edit : TextDiff.diff(textBeforeUpdate, file.getText())) {
+            int start = edit.start() + delta;
+            int end = start + edit.newText().length();
+            delta += edit.newText().length() - (edit.end() - edit.start());
+            ranges.add(getEnclosingRange(file, start, end));
+        }
+        ranges.sort(Comparator.comparingInt(TextRange::getStartOffset));
+        List<TextRange> merged = new ArrayList<>();
+        for (TextRange range : ranges) {
+            int last = merged.size() - 1;
+            if (last >= 0 && merged.get(last).getEndOffset() >= range.getStartOffset()) {
+                merged.set(last, merged.get(last).union(range));
+            } else {
+                merged.add(range);
+            }
+        }
+        return merged;
+    }
+
+    private static TextRange getEnclosingRange(PsiFile file, int start, int end) {
+        TextRange changed = new TextRange(start, end);
+        PsiElement startElement = file.findElementAt(start);
+        PsiElement endElement = file.findElementAt(Math.max(start, end - 1));
+        if (startElement == null || endElement == null) {
+            return changed;
+        }
+        PsiElement enclosing = PsiTreeUtil.getParentOfType(PsiTreeUtil.findCommonParent(startElement, endElement), false,
+                PsiMember.class, PsiImportList.class, PsiPackageStatement.class);
+        if (enclosing == null) {
+            return changed;
+        }
+        if (enclosing instanceof PsiClass psiClass && psiClass.getLBrace() != null) {
+            int bodyStart = psiClass.getLBrace().getTextRange().getEndOffset();
+            if (start >= bodyStart) {
+                // between two members of the class, e.g. a member which was removed
+                return changed;
+            }
+            // the annotations, modifiers and declaration of the class, not its members
+            return new TextRange(psiClass.getTextRange().getStartOffset(), Math.max(end, bodyStart));
+        }
+        return enclosing.getTextRange().union(changed);
+    }
 }
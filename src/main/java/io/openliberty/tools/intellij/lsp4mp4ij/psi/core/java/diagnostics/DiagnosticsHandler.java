@@ -23,14 +23,15 @@ import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.PublishDiagnosticsParams;
 import org.eclipse.lsp4mp.commons.DocumentFormat;
 import org.eclipse.lsp4mp.commons.MicroProfileJavaDiagnosticsParams;
-import org.eclipse.lsp4mp.commons.MicroProfileJavaDiagnosticsSettings;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 public final class DiagnosticsHandler {
 
@@ -42,6 +43,19 @@ public final class DiagnosticsHandler {
         this.group = group;
     }
 
+    /**
+     * Returns diagnostics for the given uris list.
+     *
+     * <p>
+     * The uris are grouped by module so that the module-level facts (adapted
+     * diagnostics definitions, settings, types on the classpath) are computed
+     * once per module and shared by all the compilation units of the module.
+     * </p>
+     *
+     * @param params the diagnostics parameters
+     * @param utils  the utilities class
+     * @return diagnostics for the given uris list.
+     */
     public List<PublishDiagnosticsParams> collectDiagnostics(MicroProfileJavaDiagnosticsParams params, IPsiUtils utils) {
         List<String> uris = params.getUris();
         if (uris == null) {
@@ -49,44 +63,59 @@ public final class DiagnosticsHandler {
         }
         DocumentFormat documentFormat = params.getDocumentFormat();
         List<PublishDiagnosticsParams> publishDiagnostics = new ArrayList<>();
+        Map<Module, List<CompilationUnitDiagnostics>> unitsByModule = new LinkedHashMap<>();
         for (String uri : uris) {
             List<Diagnostic> diagnostics = new ArrayList<>();
             PublishDiagnosticsParams publishDiagnostic = new PublishDiagnosticsParams(uri, diagnostics);
             publishDiagnostics.add(publishDiagnostic);
-            collectDiagnostics(uri, utils, documentFormat, params.getSettings(), diagnostics);
+            PsiFile typeRoot = ApplicationManager.getApplication().runReadAction((Computable<PsiFile>) () -> resolveTypeRoot(uri, utils));
+            if (typeRoot == null) {
+                continue;
+            }
+            try {
+                Module module = ApplicationManager.getApplication().runReadAction((ThrowableComputable<Module, IOException>) () -> utils.getModule(uri));
+                unitsByModule.computeIfAbsent(module, m -> new ArrayList<>())
+                        .add(new CompilationUnitDiagnostics(uri, typeRoot, diagnostics));
+            } catch (IOException e) {
+                LOGGER.warn(e.getLocalizedMessage(), e);
+            }
         }
+        unitsByModule.forEach((module, units) -> {
+            JavaDiagnosticsModuleContext moduleContext = new JavaDiagnosticsModuleContext(module, utils,
+                    documentFormat, params.getSettings());
+            for (CompilationUnitDiagnostics unit : units) {
+                collectDiagnostics(unit, moduleContext);
+            }
+        });
         return publishDiagnostics;
     }
 
-    private void collectDiagnostics(String uri, IPsiUtils utils, DocumentFormat documentFormat,
-                                    MicroProfileJavaDiagnosticsSettings settings, List<Diagnostic> diagnostics) {
-        PsiFile typeRoot = ApplicationManager.getApplication().runReadAction((Computable<PsiFile>) () -> resolveTypeRoot(uri, utils));
-        if (typeRoot == null) {
-            return;
-        }
-
-        try {
-            Module module = ApplicationManager.getApplication().runReadAction((ThrowableComputable<Module, IOException>) () -> utils.getModule(uri));
-            // Collect all adapted diagnostic definitions
-            JavaDiagnosticsContext context = new JavaDiagnosticsContext(uri, typeRoot, utils, module, documentFormat, settings);
-            List<JavaDiagnosticsDefinition> definitions = JavaDiagnosticsDefinition.EP_NAME.getExtensionList()
+    private void collectDiagnostics(CompilationUnitDiagnostics unit, JavaDiagnosticsModuleContext moduleContext) {
+        JavaDiagnosticsContext context = new JavaDiagnosticsContext(unit.uri(), unit.typeRoot(), moduleContext);
+        List<JavaDiagnosticsDefinition> definitions = moduleContext.getDefinitions();
+        if (definitions == null) {
+            // Collect all adapted diagnostic definitions once for the module
+            definitions = JavaDiagnosticsDefinition.EP_NAME.getExtensionList()
                     .stream()
                     .filter(definition -> group.equals(definition.getGroup()))
                     .filter(definition -> definition.isAdaptedForDiagnostics(context))
                     .toList();
-
-            // Begin, collect, end participants
-            definitions.forEach(definition -> definition.beginDiagnostics(context));
-            definitions.forEach(definition -> {
-                List<Diagnostic> collectedDiagnostics = definition.collectDiagnostics(context);
-                if (collectedDiagnostics != null && !collectedDiagnostics.isEmpty()) {
-                    diagnostics.addAll(collectedDiagnostics);
-                }
-            });
-            definitions.forEach(definition -> definition.endDiagnostics(context));
-        } catch (IOException e) {
-            LOGGER.warn(e.getLocalizedMessage(), e);
+            moduleContext.setDefinitions(definitions);
         }
+
+        // Begin, collect, end participants
+        List<Diagnostic> diagnostics = unit.diagnostics();
+        definitions.forEach(definition -> definition.beginDiagnostics(context));
+        definitions.forEach(definition -> {
+            List<Diagnostic> collectedDiagnostics = definition.collectDiagnostics(context);
+            if (collectedDiagnostics != null && !collectedDiagnostics.isEmpty()) {
+                diagnostics.addAll(collectedDiagnostics);
+            }
+        });
+        definitions.forEach(definition -> definition.endDiagnostics(context));
+    }
+
+    private record CompilationUnitDiagnostics(String uri, PsiFile typeRoot, List<Diagnostic> diagnostics) {
     }
 
     // REVISIT: Make this a public method on a common utility class?
@@ -35,6 +35,12 @@ public interface IJavaDiagnosticsParticipant {
 	 * Collection is done by default. Participants can override this to check if
 	 * some classes are on the classpath before deciding to process the collection.
 	 * </p>
+	 *
+	 * <p>
+	 * This method is called once per module and diagnostics request, the result
+	 * applies to all the compilation units of the module. It must only depend on
+	 * module-level information (see {@link JavaDiagnosticsContext#isTypeOnClasspath(String)}).
+	 * </p>
 	 * 
 	 * @param context the java diagnostics context
 	 * @return true if diagnostics must be collected for the given context and false
@@ -22,8 +22,6 @@ import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4mp.commons.DocumentFormat;
 import org.eclipse.lsp4mp.commons.MicroProfileJavaDiagnosticsSettings;
 
-import java.util.Collections;
-
 /**
  * Java diagnostics context for a given compilation unit.
  * 
@@ -33,22 +31,29 @@ import java.util.Collections;
  */
 public class JavaDiagnosticsContext extends AbstractJavaContext {
 
-	private final DocumentFormat documentFormat;
-
-	private final MicroProfileJavaDiagnosticsSettings settings;
+	private final JavaDiagnosticsModuleContext moduleContext;
 
 	public JavaDiagnosticsContext(String uri, PsiFile typeRoot, IPsiUtils utils, Module module, DocumentFormat documentFormat, MicroProfileJavaDiagnosticsSettings settings) {
-		super(uri, typeRoot, utils, module);
-		this.documentFormat = documentFormat;
-		if (settings == null) {
-			this.settings = new MicroProfileJavaDiagnosticsSettings(Collections.emptyList());
-		} else {
-			this.settings = settings;
-		}
+		this(uri, typeRoot, new JavaDiagnosticsModuleContext(module, utils, documentFormat, settings));
+	}
+
+	public JavaDiagnosticsContext(String uri, PsiFile typeRoot, JavaDiagnosticsModuleContext moduleContext) {
+		super(uri, typeRoot, moduleContext.getUtils(), moduleContext.getJavaProject());
+		this.moduleContext = moduleContext;
+	}
+
+	/**
+	 * Returns the context shared by all the compilation units of the module
+	 * validated in the same diagnostics request.
+	 *
+	 * @return the context shared by all the compilation units of the module.
+	 */
+	public JavaDiagnosticsModuleContext getModuleContext() {
+		return moduleContext;
 	}
 
 	public DocumentFormat getDocumentFormat() {
-		return documentFormat;
+		return moduleContext.getDocumentFormat();
 	}
 
 	/**
@@ -59,7 +64,19 @@ public class JavaDiagnosticsContext extends AbstractJavaContext {
 	 * @return the MicroProfileJavaDiagnosticsSettings
 	 */
 	public MicroProfileJavaDiagnosticsSettings getSettings() {
-		return this.settings;
+		return moduleContext.getSettings();
+	}
+
+	/**
+	 * Returns true if the given type is on the classpath of the module and false
+	 * otherwise. The result is shared by all the compilation units of the module.
+	 *
+	 * @param typeName the fully qualified name of the type.
+	 * @return true if the given type is on the classpath of the module and false
+	 *         otherwise.
+	 */
+	public boolean isTypeOnClasspath(String typeName) {
+		return moduleContext.isTypeOnClasspath(typeName);
 	}
 
 	public Diagnostic createDiagnostic(String uri, String message, Range range, String source, IJavaErrorCode code) {
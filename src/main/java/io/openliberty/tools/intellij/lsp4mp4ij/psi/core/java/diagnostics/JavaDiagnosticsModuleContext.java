@@ -0,0 +1,135 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial API and implementation
+*******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.diagnostics;
+
+import com.intellij.openapi.module.Module;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.PsiTypeUtils;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.java.corrections.JavaDiagnosticsDefinition;
+import org.eclipse.lsp4mp.commons.DocumentFormat;
+import org.eclipse.lsp4mp.commons.MicroProfileJavaDiagnosticsSettings;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiPredicate;
+
+/**
+ * Java diagnostics context shared by all the compilation units of a module
+ * which are validated in the same diagnostics request.
+ *
+ * <p>
+ * It holds the facts which only depend on the module: the diagnostics
+ * settings, the diagnostics definitions which are adapted for the module and
+ * whether a given type is on the module classpath. They are computed once and
+ * reused by every {@link JavaDiagnosticsContext} created for the module.
+ * </p>
+ */
+public class JavaDiagnosticsModuleContext {
+
+	private final Module module;
+
+	private final IPsiUtils utils;
+
+	private final DocumentFormat documentFormat;
+
+	private final MicroProfileJavaDiagnosticsSettings settings;
+
+	private final Map<String, Boolean> typesOnClasspath;
+
+	private final BiPredicate<Module, String> typeLookup;
+
+	private List<JavaDiagnosticsDefinition> definitions;
+
+	public JavaDiagnosticsModuleContext(Module module, IPsiUtils utils, DocumentFormat documentFormat,
+										MicroProfileJavaDiagnosticsSettings settings) {
+		this(module, utils, documentFormat, settings, (javaProject, typeName) -> PsiTypeUtils.findType(javaProject, typeName) != null);
+	}
+
+	/**
+	 * @param typeLookup returns true if the given type is on the classpath of
+	 *                   the given module, called once per type.
+	 */
+	JavaDiagnosticsModuleContext(Module module, IPsiUtils utils, DocumentFormat documentFormat,
+								 MicroProfileJavaDiagnosticsSettings settings, BiPredicate<Module, String> typeLookup) {
+		this.module = module;
+		this.typeLookup = typeLookup;
+		this.utils = utils;
+		this.documentFormat = documentFormat;
+		if (settings == null) {
+			this.settings = new MicroProfileJavaDiagnosticsSettings(Collections.emptyList());
+		} else {
+			this.settings = settings;
+		}
+		this.typesOnClasspath = new HashMap<>();
+	}
+
+	public Module getJavaProject() {
+		return module;
+	}
+
+	public IPsiUtils getUtils() {
+		return utils;
+	}
+
+	public DocumentFormat getDocumentFormat() {
+		return documentFormat;
+	}
+
+	/**
+	 * Returns the MicroProfileJavaDiagnosticsSettings.
+	 *
+	 * Should not be null.
+	 *
+	 * @return the MicroProfileJavaDiagnosticsSettings
+	 */
+	public MicroProfileJavaDiagnosticsSettings getSettings() {
+		return settings;
+	}
+
+	/**
+	 * Returns true if the given type is on the classpath of the module and false
+	 * otherwise.
+	 *
+	 * @param typeName the fully qualified name of the type.
+	 * @return true if the given type is on the classpath of the module and false
+	 *         otherwise.
+	 */
+	public boolean isTypeOnClasspath(String typeName) {
+		if (module == null) {
+			return false;
+		}
+		Boolean onClasspath = typesOnClasspath.get(typeName);
+		if (onClasspath == null) {
+			onClasspath = typeLookup.test(module, typeName);
+			typesOnClasspath.put(typeName, onClasspath);
+		}
+		return onClasspath;
+	}
+
+	/**
+	 * Returns the diagnostics definitions adapted for the module and null if they
+	 * have not been computed yet.
+	 *
+	 * @return the diagnostics definitions adapted for the module and null if they
+	 *         have not been computed yet.
+	 */
+	public List<JavaDiagnosticsDefinition> getDefinitions() {
+		return definitions;
+	}
+
+	public void setDefinitions(List<JavaDiagnosticsDefinition> definitions) {
+		this.definitions = definitions;
+	}
+}
@@ -57,6 +57,9 @@ public class PropertiesHoverParticipant implements IJavaHoverParticipant {
 
 	private final String[] annotationMembers;
 
+	// patterns which match an annotation declaring the annotation members, in the same order
+	private final Pattern[] annotationMemberPatterns;
+
 	private Function<String, String> propertyReplacer;
 
 	public PropertiesHoverParticipant(String annotationName, String annotationMemberName) {
@@ -95,6 +98,11 @@ public class PropertiesHoverParticipant implements IJavaHoverParticipant {
 									  String defaultValueAnnotationMemberName) {
 		this.annotationName = annotationName;
 		this.annotationMembers = annotationMembers;
+		this.annotationMemberPatterns = new Pattern[annotationMembers.length];
+		for (int i = 0; i < annotationMembers.length; i++) {
+			annotationMemberPatterns[i] = Pattern.compile(".*[^\"]\\s*(" + annotationMembers[i] + ")\\s*=.*",
+					Pattern.DOTALL);
+		}
 		this.defaultValueAnnotationMemberName = defaultValueAnnotationMemberName;
 	}
 
@@ -118,6 +126,10 @@ public class PropertiesHoverParticipant implements IJavaHoverParticipant {
 
 	@Override
 	public boolean isAdaptedForHover(JavaHoverContext context) {
+		// Check the hovered element first, it is cheaper than searching the annotation in the classpath
+		if (!isAdaptableFor(context.getHoverElement())) {
+			return false;
+		}
 		// Definition is done only if the annotation is on the classpath
 		Module javaProject = context.getJavaProject();
 		return PsiTypeUtils.findType(javaProject, annotationName) != null;
@@ -146,13 +158,11 @@ public class PropertiesHoverParticipant implements IJavaHoverParticipant {
 		String propertyKey = null;
 		Range propertyKeyRange = null;
 		boolean found = false;
-		for (String annotationMemberName : annotationMembers) {
-			propertyKey = getAnnotationMemberValue(annotation, annotationMemberName);
+		for (int i = 0; i < annotationMembers.length; i++) {
+			propertyKey = getAnnotationMemberValue(annotation, annotationMembers[i]);
 			if (propertyKey != null) {
 				TextRange r = annotation.getTextRange();
-				Pattern memberPattern = Pattern.compile(".*[^\"]\\s*(" + annotationMemberName + ")\\s*=.*",
-						Pattern.DOTALL);
-				Matcher match = memberPattern.matcher(annotationSource);
+				Matcher match = annotationMemberPatterns[i].matcher(annotationSource);
 				if (match.matches()) {
 					int offset = annotationSource.indexOf(propertyKey);
 					propertyKeyRange = utils.toRange(typeRoot, r.getStartOffset() + offset, propertyKey.length());
@@ -84,8 +84,21 @@ public class AnnotationAttributeRule {
 	 */
 	public String validate(String value) {
 		if (rangeExpression != null) {
-			Double valueAsDouble = Double.parseDouble(value);
-			return rangeExpression.validate(valueAsDouble);
+			return validate(Double.parseDouble(value));
+		}
+		return null;
+	}
+
+	/**
+	 * Validate the given numeric attribute <code>value</code>.
+	 * 
+	 * @param value the attribute value.
+	 * @return the error message of the validation result of the attribute value and
+	 *         null otherwise.
+	 */
+	public String validate(double value) {
+		if (rangeExpression != null) {
+			return rangeExpression.validate(value);
 		}
 		return null;
 	}
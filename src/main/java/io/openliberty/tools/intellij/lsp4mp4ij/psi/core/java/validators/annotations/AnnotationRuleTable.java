@@ -0,0 +1,93 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial API and implementation
+*******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.validators.annotations;
+
+import com.intellij.psi.PsiAnnotation;
+import com.intellij.psi.PsiJavaCodeReferenceElement;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.AnnotationUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Annotation rules indexed by the simple name of their annotation.
+ *
+ * <p>
+ * An annotation can only match the rules of its simple name, so the rules of
+ * an annotation are found with one lookup of the name written in the code,
+ * then checked against the qualified name of the annotation, instead of
+ * checking every rule against every annotation.
+ * </p>
+ */
+public final class AnnotationRuleTable {
+
+	private static final AnnotationRule[] NO_RULES = new AnnotationRule[0];
+
+	private final Map<String /* annotation simple name */, AnnotationRule[]> rulesBySimpleName;
+
+	private final AnnotationRule[] rules;
+
+	public AnnotationRuleTable(Collection<AnnotationRule> rules) {
+		this.rules = rules.toArray(NO_RULES);
+		Map<String, List<AnnotationRule>> rulesBySimpleName = new HashMap<>();
+		for (AnnotationRule rule : this.rules) {
+			rulesBySimpleName.computeIfAbsent(getSimpleName(rule.getAnnotation()), name -> new ArrayList<>())
+					.add(rule);
+		}
+		this.rulesBySimpleName = new HashMap<>();
+		rulesBySimpleName.forEach((name, list) -> this.rulesBySimpleName.put(name, list.toArray(NO_RULES)));
+	}
+
+	/**
+	 * Returns all the rules of the table, in the order of the rules given to the
+	 * table.
+	 *
+	 * @return the unmodifiable list of the rules of the table.
+	 */
+	public List<AnnotationRule> getRules() {
+		return List.of(rules);
+	}
+
+	/**
+	 * Returns the rules which match the given annotation, in the order of the
+	 * rules given to the table.
+	 *
+	 * @param annotation the annotation.
+	 * @return the rules which match the given annotation.
+	 */
+	public List<AnnotationRule> getRules(PsiAnnotation annotation) {
+		PsiJavaCodeReferenceElement reference = annotation.getNameReferenceElement();
+		String referenceName = reference != null ? reference.getReferenceName() : null;
+		// without a name in the code, the annotation is matched with its qualified name only
+		AnnotationRule[] candidates = referenceName != null ? rulesBySimpleName.getOrDefault(referenceName, NO_RULES)
+				: rules;
+		List<AnnotationRule> matchingRules = null;
+		for (AnnotationRule rule : candidates) {
+			if (AnnotationUtils.isMatchAnnotation(annotation, rule.getAnnotation())) {
+				if (matchingRules == null) {
+					matchingRules = new ArrayList<>(1);
+				}
+				matchingRules.add(rule);
+			}
+		}
+		return matchingRules != null ? matchingRules : Collections.emptyList();
+	}
+
+	private static String getSimpleName(String annotationName) {
+		return annotationName.substring(annotationName.lastIndexOf('.') + 1);
+	}
+}
@@ -23,7 +23,6 @@ import com.intellij.psi.PsiPrefixExpression;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.AnnotationUtils;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.java.validators.JavaASTValidatorRegistry;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.validators.JavaASTValidator;
-import org.apache.commons.lang3.StringUtils;
 import org.eclipse.lsp4j.DiagnosticSeverity;
 
 import java.util.Collection;
@@ -41,29 +40,29 @@ public class AnnotationRulesJavaASTValidator extends JavaASTValidator {
 
 	private static final Logger LOGGER = Logger.getLogger(AnnotationRulesJavaASTValidator.class.getName());
 
-	private final Collection<AnnotationRule> rules;
+	private final AnnotationRuleTable rules;
 
 	public AnnotationRulesJavaASTValidator(Collection<AnnotationRule> rules) {
+		this(new AnnotationRuleTable(rules));
+	}
+
+	public AnnotationRulesJavaASTValidator(AnnotationRuleTable rules) {
 		this.rules = rules;
 	}
 
 	@Override
 	public void visitAnnotation(PsiAnnotation annotation) {
-		// Loop for rules
-		for (AnnotationRule annotationRule : rules) {
-			if (AnnotationUtils.isMatchAnnotation(annotation, annotationRule.getAnnotation())) {
-				// The AST annotation matches a rule
-				List<AnnotationAttributeRule> attributeRules = annotationRule.getRules();
-				// Validate attributes of the AST annotation
-				for (AnnotationAttributeRule attributeRule : attributeRules) {
+		// Loop for the rules which match the AST annotation
+		for (AnnotationRule annotationRule : rules.getRules(annotation)) {
+			List<AnnotationAttributeRule> attributeRules = annotationRule.getRules();
+			// Validate attributes of the AST annotation
+			for (AnnotationAttributeRule attributeRule : attributeRules) {
 
-					PsiAnnotationMemberValue attributeValueExpr = AnnotationUtils.getAnnotationMemberValueExpression(annotation,
-							attributeRule.getAttribute());
-					if (attributeValueExpr != null) {
-						validateAnnotationAttributeValue(attributeValueExpr, attributeRule);
-					}
+				PsiAnnotationMemberValue attributeValueExpr = AnnotationUtils.getAnnotationMemberValueExpression(annotation,
+						attributeRule.getAttribute());
+				if (attributeValueExpr != null) {
+					validateAnnotationAttributeValue(attributeValueExpr, attributeRule);
 				}
-
 			}
 		}
 	}
@@ -86,13 +85,13 @@ public class AnnotationRulesJavaASTValidator extends JavaASTValidator {
 		}
 
 		// Get the value of the AST attribute
-		Object valueAsObject = JavaPsiFacade.getInstance(getContext().getJavaProject().getProject()).getConstantEvaluationHelper().computeConstantExpression(attributeValueExpr);
-		String valueAsString = valueAsObject != null ? valueAsObject.toString() : null;
-		if (StringUtils.isEmpty(valueAsString)) {
+		Object valueAsObject = computeConstantExpression(attributeValueExpr);
+		if (!(valueAsObject instanceof Number)) {
 			return;
 		}
 		// Validate the value with the rule
-		String validationResult = JavaASTValidatorRegistry.getInstance().validate(valueAsString, attributeRule);
+		String validationResult = JavaASTValidatorRegistry.getInstance().validate(((Number) valueAsObject).doubleValue(),
+				attributeRule);
 		if (validationResult != null) {
 			// There is an error, report a diagnostic
 			super.addDiagnostic(validationResult, attributeRule.getSource(), attributeValueExpr, null,
@@ -100,6 +99,21 @@ public class AnnotationRulesJavaASTValidator extends JavaASTValidator {
 		}
 	}
 
+	/**
+	 * Returns the constant value of the given AST attribute value expression and
+	 * null otherwise. The constant values of the fields referenced by the
+	 * expression are cached by the platform until the next PSI change, so a
+	 * constant referenced by several annotations is evaluated once per change.
+	 *
+	 * @param attributeValueExpr the AST attribute value expression.
+	 * @return the constant value of the given AST attribute value expression and
+	 *         null otherwise.
+	 */
+	private static Object computeConstantExpression(PsiAnnotationMemberValue attributeValueExpr) {
+		return JavaPsiFacade.getInstance(attributeValueExpr.getProject()).getConstantEvaluationHelper()
+				.computeConstantExpression(attributeValueExpr);
+	}
+
 	private static boolean isInteger(PsiAnnotationMemberValue attributeValueExpr) {
 		if ((attributeValueExpr instanceof PsiLiteral && ((PsiLiteral) attributeValueExpr).getValue() instanceof Number) || (attributeValueExpr instanceof PsiPrefixExpression
 				&& (((PsiPrefixExpression) attributeValueExpr).getOperationTokenType() == JavaTokenType.MINUS
@@ -80,6 +80,13 @@ public class AnnotationValidator {
 		}
 	}
 
+	/**
+	 * Unregister all the annotation rules.
+	 */
+	protected void unregisterRules() {
+		this.rulesByAnnotation.clear();
+	}
+
 	/**
 	 * Validate the give attribute <code>value</code> by using the annotation rule.
 	 * 
@@ -103,6 +110,29 @@ public class AnnotationValidator {
 		);
 	}
 
+	/**
+	 * Validate the give numeric attribute <code>value</code> by using the annotation rule.
+	 * 
+	 * @param value the attribute vale to validate.
+	 * @param rule  the annotation rule to use for validate the value.
+	 * 
+	 * @return the error message of the validation result of the attribute value and null otherwise.
+	 */
+	public String validate(double value, AnnotationAttributeRule rule) {
+		return ExceptionUtil.executeWithExceptionHandling(
+			() -> {
+				if (rule == null) {
+					return null;
+				}
+				return rule.validate(value);
+			},
+			e -> {
+				LOGGER.log(Level.WARNING, e.getLocalizedMessage(), e);
+				return null;
+			}
+		);
+	}
+
 	/**
 	 * Returns the registered annotation rules.
 	 * 
@@ -12,16 +12,34 @@ package io.openliberty.tools.intellij.lsp4mp4ij.psi.core.project;
 import com.intellij.openapi.application.ReadAction;
 import com.intellij.openapi.compiler.CompilerPaths;
 import com.intellij.openapi.module.Module;
+import com.intellij.openapi.progress.EmptyProgressIndicator;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.project.Project;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiFile;
 import com.intellij.psi.PsiManager;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.PropertiesManager;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.completion.PropertyNameIndex;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.project.ConfigSourcePropertiesProvider;
 import com.redhat.devtools.lsp4ij.LSPIJUtils;
+import org.eclipse.lsp4mp.commons.ClasspathKind;
+import org.eclipse.lsp4mp.commons.DocumentFormat;
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
+import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
 import org.eclipse.lsp4mp.commons.utils.ConfigSourcePropertiesProviderUtils;
 import org.eclipse.lsp4mp.commons.utils.IConfigSourcePropertiesProvider;
 import org.eclipse.lsp4mp.commons.utils.PropertyValueExpander;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
@@ -39,6 +57,35 @@ public class PsiMicroProfileProject {
     private transient IConfigSourcePropertiesProvider aggregatedPropertiesProvider = null;
     private transient PropertyValueExpander propertyValueExpander = null;
 
+    // property informations with expanded values by property key, replaced when the config sources are evicted
+    private volatile Map<String, List<MicroProfileConfigPropertyInformation>> propertyInformationsCache = new ConcurrentHashMap<>();
+
+    // delay after the last change of a Java file or of a library before the property name index is refreshed
+    private static final long PROPERTY_NAME_INDEX_REFRESH_DELAY_MILLIS = 500;
+
+    /**
+     * The index of the property names and the properties declared in the
+     * dependencies it was built with.
+     */
+    private record PropertyNames(PropertyNameIndex index, List<ItemMetadata> dependencyProperties) {
+    }
+
+    private volatile PropertyNames propertyNames;
+
+    // the fields below are guarded by this
+
+    private IPsiUtils propertyNamesUtils;
+
+    // true once the index was requested, the index is only built and refreshed after that
+    private boolean propertyNamesRequested;
+
+    private boolean dependencyPropertiesStale;
+
+    // incremented when the sources or the dependencies change, to drop refreshes started before the change
+    private long propertyNamesChanges;
+
+    private ScheduledFuture<?> propertyNamesRefresh;
+
     public PsiMicroProfileProject(Module javaProject) {
         this.javaProject = javaProject;
     }
@@ -152,6 +199,19 @@ public class PsiMicroProfileProject {
      * defined in this project.
      */
     public List<MicroProfileConfigPropertyInformation> getPropertyInformations(String propertyKey) {
+        // Read the cache before collecting the informations, so that informations collected
+        // while the config sources are evicted are not kept
+        Map<String, List<MicroProfileConfigPropertyInformation>> cache = propertyInformationsCache;
+        List<MicroProfileConfigPropertyInformation> propertyInformations = cache.get(propertyKey);
+        if (propertyInformations == null) {
+            propertyInformations = collectPropertyInformations(propertyKey);
+            cache.put(propertyKey, propertyInformations);
+        }
+        // Return a copy, callers can add the information of the default value
+        return new ArrayList<>(propertyInformations);
+    }
+
+    private List<MicroProfileConfigPropertyInformation> collectPropertyInformations(String propertyKey) {
         // Use a map to override property values
         // eg. if application.yaml defines a value for a property it should override the
         // value defined in application.properties
@@ -216,6 +276,137 @@ public class PsiMicroProfileProject {
         }
         propertyValueExpander = null;
         aggregatedPropertiesProvider = null;
+        propertyInformationsCache = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Returns the index of the MicroProfile properties declared in the sources
+     * and the dependencies of this project, or null if it is not built yet.
+     * <p>
+     * The first call starts building the index in the background and returns
+     * null, so that completion never waits for a scan of the project and can
+     * return an incomplete list until the index is ready. After that, the index
+     * is refreshed in the background once the Java files or the libraries of
+     * the project stop changing, and the previous index is returned until the
+     * refresh completes. Only the properties declared in the sources are
+     * collected again when a Java file changes, the properties declared in the
+     * dependencies are kept until the libraries change.
+     * </p>
+     *
+     * @param utils the utilities class
+     * @return the index of the MicroProfile properties of this project or null
+     * if it is not built yet
+     */
+    public @Nullable PropertyNameIndex getPropertyNameIndex(IPsiUtils utils) {
+        PropertyNames names = propertyNames;
+        if (names != null) {
+            return names.index();
+        }
+        synchronized (this) {
+            propertyNamesUtils = utils;
+            if (!propertyNamesRequested) {
+                propertyNamesRequested = true;
+                refreshPropertyNames();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Refreshes the properties declared in the sources in the index of the
+     * MicroProfile properties, as soon as a Java file of the project changes.
+     */
+    public synchronized void evictSourcePropertyNames() {
+        propertyNamesChanges++;
+        scheduleRefreshPropertyNames();
+    }
+
+    /**
+     * Refreshes all the properties in the index of the MicroProfile
+     * properties, as soon as a library of the project changes.
+     */
+    public synchronized void evictPropertyNames() {
+        propertyNamesChanges++;
+        dependencyPropertiesStale = true;
+        scheduleRefreshPropertyNames();
+    }
+
+    private void scheduleRefreshPropertyNames() {
+        if (!propertyNamesRequested) {
+            // built from the current sources and libraries on first use
+            return;
+        }
+        if (propertyNamesRefresh != null) {
+            propertyNamesRefresh.cancel(false);
+        }
+        propertyNamesRefresh = AppExecutorUtil.getAppScheduledExecutorService().schedule(this::refreshPropertyNames,
+                PROPERTY_NAME_INDEX_REFRESH_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    private void refreshPropertyNames() {
+        long changes;
+        IPsiUtils utils;
+        List<ItemMetadata> dependencyProperties;
+        synchronized (this) {
+            changes = propertyNamesChanges;
+            utils = propertyNamesUtils;
+            // the first build collects the dependencies too
+            dependencyProperties = dependencyPropertiesStale || propertyNames == null ? null
+                    : propertyNames.dependencyProperties();
+        }
+        Project project = javaProject.getProject();
+        ReadAction.nonBlocking(() -> collectPropertyNames(dependencyProperties, utils))
+                .inSmartMode(project)
+                .expireWhen(javaProject::isDisposed)
+                .coalesceBy(this)
+                .submit(AppExecutorUtil.getAppExecutorService())
+                .onSuccess(names -> {
+                    synchronized (this) {
+                        // a later change scheduled another refresh
+                        if (changes == propertyNamesChanges) {
+                            propertyNames = names;
+                            if (dependencyProperties == null) {
+                                dependencyPropertiesStale = false;
+                            }
+                        }
+                    }
+                })
+                .onError(error -> {
+                    if (!(error instanceof CancellationException)) {
+                        synchronized (this) {
+                            // the next completion request builds the index again
+                            if (propertyNames == null) {
+                                propertyNamesRequested = false;
+                            }
+                        }
+                    }
+                });
+    }
+
+    /**
+     * Collects the properties declared in the sources, and in the dependencies
+     * if the given dependency properties are null, and indexes them.
+     */
+    private PropertyNames collectPropertyNames(List<ItemMetadata> dependencyProperties, IPsiUtils utils) {
+        ProgressIndicator indicator = ProgressManager.getInstance().getProgressIndicator();
+        List<MicroProfilePropertiesScope> scopes = dependencyProperties == null
+                ? Arrays.asList(MicroProfilePropertiesScope.sources, MicroProfilePropertiesScope.dependencies)
+                : List.of(MicroProfilePropertiesScope.sources);
+        MicroProfileProjectInfo info = PropertiesManager.getInstance().getMicroProfileProjectInfo(javaProject,
+                scopes, ClasspathKind.SRC, utils, DocumentFormat.Markdown,
+                indicator != null ? indicator : new EmptyProgressIndicator());
+        List<ItemMetadata> properties = info.getProperties() != null ? info.getProperties() : List.of();
+        if (dependencyProperties == null) {
+            // the properties declared in the sources are marked by the properties collector
+            dependencyProperties = properties.stream()
+                    .filter(property -> !Boolean.TRUE.equals(property.getSource()))
+                    .collect(Collectors.toList());
+            return new PropertyNames(PropertyNameIndex.create(properties), dependencyProperties);
+        }
+        List<ItemMetadata> allProperties = new ArrayList<>(properties.size() + dependencyProperties.size());
+        allProperties.addAll(properties);
+        allProperties.addAll(dependencyProperties);
+        return new PropertyNames(PropertyNameIndex.create(allProperties), dependencyProperties);
     }
 
     private IConfigSource findConfigSource(VirtualFile file) {
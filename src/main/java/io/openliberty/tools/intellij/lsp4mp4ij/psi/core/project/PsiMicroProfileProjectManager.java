@@ -50,14 +50,27 @@ public final class PsiMicroProfileProjectManager implements Disposable {
 
 		@Override
 		public void librariesChanged() {
-			// Do nothing
+			// The properties declared in the libraries may have changed, refresh the index of the properties
+			for (Module module : ModuleManager.getInstance(project).getModules()) {
+				PsiMicroProfileProject mpProject = getMicroProfileProject(module, false);
+				if (mpProject != null) {
+					mpProject.evictPropertyNames();
+				}
+			}
 		}
 
 		@Override
 		public void sourceFilesChanged(Set<Pair<VirtualFile, Module>> sources) {
 			for (var pair : sources) {
 				VirtualFile file = pair.getFirst();
-				if (isConfigSource(file)) {
+				if (isJavaFile(file)) {
+					// A Java file may declare properties, refresh the properties of the sources in the index
+					Module javaProject = pair.getSecond();
+					PsiMicroProfileProject mpProject = javaProject != null ? getMicroProfileProject(javaProject, false) : null;
+					if (mpProject != null) {
+						mpProject.evictSourcePropertyNames();
+					}
+				} else if (isConfigSource(file)) {
 					// A microprofile config file properties file source has been updated, evict the cache of the properties
 					Module javaProject = pair.getSecond();
 					PsiMicroProfileProject mpProject = getMicroProfileProject(javaProject);
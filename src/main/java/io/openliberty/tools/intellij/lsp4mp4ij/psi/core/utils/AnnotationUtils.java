@@ -1,5 +1,5 @@
 /*******************************************************************************
-* Copyright (c) 2019 Red Hat Inc. and others.
+* Copyright (c) 2019, 2026 Red Hat Inc. and others.
 * All rights reserved. This program and the accompanying materials
 * which accompanies this distribution, and is available at
 * https://www.eclipse.org/legal/epl-v20.html
@@ -15,7 +15,11 @@ import com.intellij.psi.PsiAnnotationMemberValue;
 import com.intellij.psi.PsiAnnotationOwner;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiJavaCodeReferenceElement;
 import com.intellij.psi.PsiModifierListOwner;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
 import org.eclipse.lsp4j.Position;
 import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4j.util.Ranges;
@@ -159,10 +163,56 @@ public class AnnotationUtils {
 	 *         false otherwise.
 	 */
 	public static boolean isMatchAnnotation(PsiAnnotation annotation, String annotationName) {
-		if(annotation == null || annotation.getQualifiedName() == null){
+		if (annotation == null) {
 			return false;
 		}
-		return annotationName.endsWith(annotation.getQualifiedName());
+		// compare the simple names first, it doesn't require to resolve the annotation
+		PsiJavaCodeReferenceElement reference = annotation.getNameReferenceElement();
+		String referenceName = reference != null ? reference.getReferenceName() : null;
+		if (referenceName != null && !isSimpleName(annotationName, referenceName)) {
+			return false;
+		}
+		String qualifiedName = getQualifiedName(annotation);
+		if (qualifiedName == null) {
+			return false;
+		}
+		// the qualified name of an unresolved annotation is the name written in the code, e.g. Inject for @Inject
+		return qualifiedName.equals(annotationName) || isSimpleOrPartialName(annotationName, qualifiedName);
+	}
+
+	/**
+	 * Returns true if the given simple name is the simple name of the given
+	 * qualified name, e.g. <code>Inject</code> for
+	 * <code>jakarta.inject.Inject</code>.
+	 */
+	private static boolean isSimpleName(String qualifiedName, String simpleName) {
+		int start = qualifiedName.length() - simpleName.length();
+		return start >= 0 && (start == 0 || qualifiedName.charAt(start - 1) == '.')
+				&& qualifiedName.startsWith(simpleName, start);
+	}
+
+	/**
+	 * Returns true if the given name is the end of the given qualified name,
+	 * after a '.', e.g. <code>Inject</code> or <code>inject.Inject</code> for
+	 * <code>jakarta.inject.Inject</code>.
+	 */
+	private static boolean isSimpleOrPartialName(String qualifiedName, String name) {
+		int start = qualifiedName.length() - name.length();
+		return start > 0 && qualifiedName.charAt(start - 1) == '.' && qualifiedName.startsWith(name, start);
+	}
+
+	/**
+	 * Returns the qualified name of the given annotation. Resolving the
+	 * annotation is cached until the file or the Java code of the project
+	 * changes.
+	 */
+	private static String getQualifiedName(PsiAnnotation annotation) {
+		PsiFile file = annotation.getContainingFile();
+		if (file == null) {
+			return annotation.getQualifiedName();
+		}
+		return CachedValuesManager.getCachedValue(annotation, () -> CachedValueProvider.Result.create(
+				annotation.getQualifiedName(), file, PsiModificationTracker.MODIFICATION_COUNT));
 	}
 
 	/**
@@ -79,8 +79,7 @@ public class MicroProfileConfigASTValidator extends JavaASTValidator {
 
     @Override
     public boolean isAdaptedForDiagnostics(JavaDiagnosticsContext context) {
-        Module javaProject = context.getJavaProject();
-        return PsiTypeUtils.findType(javaProject, CONFIG_PROPERTY_ANNOTATION) != null;
+        return context.isTypeOnClasspath(CONFIG_PROPERTY_ANNOTATION);
     }
 
     private static List<String> getPatternsFromContext(JavaDiagnosticsContext context) {
@@ -0,0 +1,127 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial API and implementation
+*******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.config.java;
+
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.util.TextRange;
+import com.intellij.psi.PsiAnnotation;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiLiteralExpression;
+import com.intellij.psi.PsiNameValuePair;
+import com.intellij.psi.util.PsiTreeUtil;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.completion.IJavaCompletionParticipant;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.completion.JavaCompletionContext;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.completion.PropertyNameIndex;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.project.PsiMicroProfileProjectManager;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.AnnotationUtils;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.PsiTypeUtils;
+import org.eclipse.lsp4j.CompletionItem;
+import org.eclipse.lsp4j.CompletionItemKind;
+import org.eclipse.lsp4j.MarkupContent;
+import org.eclipse.lsp4j.MarkupKind;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.TextEdit;
+import org.eclipse.lsp4j.jsonrpc.messages.Either;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static io.openliberty.tools.intellij.lsp4mp4ij.psi.core.MicroProfileConfigConstants.CONFIG_PROPERTY_ANNOTATION;
+import static io.openliberty.tools.intellij.lsp4mp4ij.psi.core.MicroProfileConfigConstants.CONFIG_PROPERTY_ANNOTATION_NAME;
+
+/**
+ * Completion for the <code>name</code> of <code>@ConfigProperty</code> with
+ * the MicroProfile properties of the project.
+ *
+ * <p>
+ * The properties are looked up by the typed prefix in the
+ * {@link PropertyNameIndex} of the project, and only the first
+ * {@link JavaCompletionContext#getMaxItems()} properties are returned, the
+ * client asks for the others as the prefix is typed further. Until the index
+ * of the project is built, the completion list is empty and incomplete.
+ * </p>
+ */
+public class MicroProfileConfigPropertyNameCompletionParticipant implements IJavaCompletionParticipant {
+
+	@Override
+	public boolean isAdaptedForCompletion(JavaCompletionContext context) {
+		Module javaProject = context.getJavaProject();
+		return PsiTypeUtils.findType(javaProject, CONFIG_PROPERTY_ANNOTATION) != null;
+	}
+
+	@Override
+	public List<? extends CompletionItem> collectCompletionItems(JavaCompletionContext context) {
+		int offset = context.getOffset();
+		PsiLiteralExpression literal = getPropertyNameLiteral(context.getTypeRoot().findElementAt(offset));
+		if (literal == null) {
+			return null;
+		}
+		TextRange literalRange = literal.getTextRange();
+		String literalText = literal.getText();
+		int start = literalRange.getStartOffset() + 1;
+		int end = literalText.length() > 1 && literalText.endsWith("\"") ? literalRange.getEndOffset() - 1
+				: literalRange.getEndOffset();
+		String prefix = context.getPrefix();
+		if (offset < start || offset > end || offset - prefix.length() < start) {
+			return null;
+		}
+		Range range = context.getUtils().toRange(literal, start, end - start);
+
+		Module javaProject = context.getJavaProject();
+		PropertyNameIndex index = PsiMicroProfileProjectManager.getInstance(javaProject.getProject())
+				.getMicroProfileProject(javaProject).getPropertyNameIndex(context.getUtils());
+		if (index == null) {
+			// the index is built in the background, the client asks again as the user types
+			context.setIncomplete();
+			return Collections.emptyList();
+		}
+		List<CompletionItem> completionItems = new ArrayList<>();
+		boolean complete = index.collect(prefix, context.getMaxItems(),
+				property -> completionItems.add(makePropertyCompletionItem(property, range)));
+		if (!complete) {
+			context.setIncomplete();
+		}
+		return completionItems;
+	}
+
+	/**
+	 * Returns the string literal of the <code>name</code> of a
+	 * <code>@ConfigProperty</code> annotation which contains the given element
+	 * and null otherwise.
+	 */
+	private static PsiLiteralExpression getPropertyNameLiteral(PsiElement element) {
+		PsiLiteralExpression literal = PsiTreeUtil.getParentOfType(element, PsiLiteralExpression.class, false);
+		if (literal == null || !(literal.getParent() instanceof PsiNameValuePair pair)
+				|| !CONFIG_PROPERTY_ANNOTATION_NAME.equals(pair.getAttributeName())
+				|| !literal.getText().startsWith("\"")) {
+			return null;
+		}
+		PsiAnnotation annotation = PsiTreeUtil.getParentOfType(pair, PsiAnnotation.class);
+		return annotation != null && AnnotationUtils.isMatchAnnotation(annotation, CONFIG_PROPERTY_ANNOTATION) ? literal
+				: null;
+	}
+
+	private static CompletionItem makePropertyCompletionItem(ItemMetadata property, Range replaceRange) {
+		CompletionItem completionItem = new CompletionItem();
+		completionItem.setLabel(property.getName());
+		completionItem.setKind(CompletionItemKind.Property);
+		completionItem.setTextEdit(Either.forLeft(new TextEdit(replaceRange, property.getName())));
+		completionItem.setDetail(property.getType());
+		if (property.getDescription() != null) {
+			completionItem.setDocumentation(new MarkupContent(MarkupKind.MARKDOWN, property.getDescription()));
+		}
+		return completionItem;
+	}
+}
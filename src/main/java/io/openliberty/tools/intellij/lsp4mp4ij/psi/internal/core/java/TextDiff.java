@@ -0,0 +1,251 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial API and implementation
+*******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.java;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Computes the edits which transform a source text into a target text.
+ *
+ * <p>
+ * The common prefix and suffix of the two texts are trimmed first, the
+ * remaining lines are compared with the Myers diff algorithm and each
+ * changed block of lines is trimmed again to the characters which differ, so
+ * the size of the edits is proportional to the size of the change and not to
+ * the size of the text.
+ * </p>
+ */
+public final class TextDiff {
+
+	/**
+	 * Above this number of inserted and deleted lines, the changed region is
+	 * replaced as a whole rather than diffed line by line.
+	 */
+	private static final int MAX_EDIT_DISTANCE = 2_000;
+
+	private static final byte EQUAL = 0;
+	private static final byte DELETE = 1;
+	private static final byte INSERT = 2;
+
+	/**
+	 * Replacement of the source text between <code>start</code> (inclusive)
+	 * and <code>end</code> (exclusive) by <code>newText</code>.
+	 */
+	public record Edit(int start, int end, String newText) {
+	}
+
+	private TextDiff() {
+	}
+
+	/**
+	 * Returns the edits which transform the source text into the target text.
+	 *
+	 * @param source the source text.
+	 * @param target the target text.
+	 * @return the edits, sorted by offset and not overlapping, empty if the
+	 *         texts are equal.
+	 */
+	public static List<Edit> diff(CharSequence source, CharSequence target) {
+		int sourceLength = source.length();
+		int targetLength = target.length();
+		int maxCommon = Math.min(sourceLength, targetLength);
+		int prefix = 0;
+		while (prefix < maxCommon && source.charAt(prefix) == target.charAt(prefix)) {
+			prefix++;
+		}
+		if (prefix == sourceLength && prefix == targetLength) {
+			return Collections.emptyList();
+		}
+		int suffix = 0;
+		while (suffix < maxCommon - prefix
+				&& source.charAt(sourceLength - 1 - suffix) == target.charAt(targetLength - 1 - suffix)) {
+			suffix++;
+		}
+
+		// widen the changed region to whole lines, which are the same in both texts
+		int start = prefix;
+		while (start > 0 && source.charAt(start - 1) != '\n') {
+			start--;
+		}
+		int sourceEnd = sourceLength - suffix;
+		while (sourceEnd > 0 && sourceEnd < sourceLength && source.charAt(sourceEnd - 1) != '\n') {
+			sourceEnd++;
+		}
+		int targetEnd = targetLength - (sourceLength - sourceEnd);
+
+		int[] sourceLines = lineStarts(source, start, sourceEnd);
+		int[] targetLines = lineStarts(target, start, targetEnd);
+		byte[] script = diffLines(source, sourceLines, target, targetLines);
+		if (script == null) {
+			return List.of(new Edit(prefix, sourceLength - suffix,
+					target.subSequence(prefix, targetLength - suffix).toString()));
+		}
+
+		List<Edit> edits = new ArrayList<>();
+		int sourceLine = 0;
+		int targetLine = 0;
+		int i = 0;
+		while (i < script.length) {
+			if (script[i] == EQUAL) {
+				sourceLine++;
+				targetLine++;
+				i++;
+				continue;
+			}
+			int sourceFrom = sourceLine;
+			int targetFrom = targetLine;
+			while (i < script.length && script[i] != EQUAL) {
+				if (script[i] == DELETE) {
+					sourceLine++;
+				} else {
+					targetLine++;
+				}
+				i++;
+			}
+			edits.add(toEdit(source, sourceLines[sourceFrom], sourceLines[sourceLine], target,
+					targetLines[targetFrom], targetLines[targetLine]));
+		}
+		return edits;
+	}
+
+	/**
+	 * Returns the edit which replaces the given source block by the given target
+	 * block, without the characters which the two blocks have in common at their
+	 * start and end.
+	 */
+	private static Edit toEdit(CharSequence source, int sourceFrom, int sourceTo, CharSequence target,
+			int targetFrom, int targetTo) {
+		while (sourceFrom < sourceTo && targetFrom < targetTo && source.charAt(sourceFrom) == target.charAt(targetFrom)) {
+			sourceFrom++;
+			targetFrom++;
+		}
+		while (sourceFrom < sourceTo && targetFrom < targetTo
+				&& source.charAt(sourceTo - 1) == target.charAt(targetTo - 1)) {
+			sourceTo--;
+			targetTo--;
+		}
+		return new Edit(sourceFrom, sourceTo, target.subSequence(targetFrom, targetTo).toString());
+	}
+
+	/**
+	 * Returns the offsets of the lines between <code>start</code> and
+	 * <code>end</code>, followed by <code>end</code>. A line includes its line
+	 * terminator.
+	 */
+	private static int[] lineStarts(CharSequence text, int start, int end) {
+		int[] starts = new int[16];
+		int count = 0;
+		int offset = start;
+		while (offset < end) {
+			if (count == starts.length - 1) {
+				starts = Arrays.copyOf(starts, starts.length * 2);
+			}
+			starts[count++] = offset;
+			while (offset < end && text.charAt(offset++) != '\n') {
+				// skip to the start of the next line
+			}
+		}
+		starts[count] = end;
+		return Arrays.copyOf(starts, count + 1);
+	}
+
+	/**
+	 * Compares the lines of the source and target texts with the Myers diff
+	 * algorithm.
+	 *
+	 * @return the edit script, one {@link #EQUAL}, {@link #DELETE} or
+	 *         {@link #INSERT} operation per line, or null if the texts have more
+	 *         than {@link #MAX_EDIT_DISTANCE} different lines.
+	 */
+	private static byte[] diffLines(CharSequence source, int[] sourceLines, CharSequence target, int[] targetLines) {
+		int n = sourceLines.length - 1;
+		int m = targetLines.length - 1;
+		int limit = Math.min(n + m, MAX_EDIT_DISTANCE);
+		int offset = limit + 1;
+		int[] v = new int[2 * limit + 3];
+		// furthest reaching x of each diagonal k, for each edit distance d, indexed by k + d
+		List<int[]> trace = new ArrayList<>();
+		for (int d = 0; d <= limit; d++) {
+			for (int k = -d; k <= d; k += 2) {
+				int x;
+				if (k == -d || (k != d && v[offset + k - 1] < v[offset + k + 1])) {
+					x = v[offset + k + 1];
+				} else {
+					x = v[offset + k - 1] + 1;
+				}
+				int y = x - k;
+				while (x < n && y < m && lineEquals(source, sourceLines, x, target, targetLines, y)) {
+					x++;
+					y++;
+				}
+				v[offset + k] = x;
+				if (x >= n && y >= m) {
+					trace.add(Arrays.copyOfRange(v, offset - d, offset + d + 1));
+					return backtrack(trace, n, m);
+				}
+			}
+			trace.add(Arrays.copyOfRange(v, offset - d, offset + d + 1));
+		}
+		return null;
+	}
+
+	private static byte[] backtrack(List<int[]> trace, int n, int m) {
+		int d = trace.size() - 1;
+		// each equal line consumes a source line and a target line
+		byte[] script = new byte[(n + m + d) / 2];
+		int index = script.length;
+		int x = n;
+		int y = m;
+		for (; d > 0; d--) {
+			int[] previous = trace.get(d - 1);
+			int k = x - y;
+			// the previous diagonal is k + 1 for an insertion and k - 1 for a deletion
+			boolean insertion = k == -d || (k != d && previous[k - 1 + d - 1] < previous[k + 1 + d - 1]);
+			int previousK = insertion ? k + 1 : k - 1;
+			int previousX = previous[previousK + d - 1];
+			int previousY = previousX - previousK;
+			int snakeX = insertion ? previousX : previousX + 1;
+			while (x > snakeX) {
+				script[--index] = EQUAL;
+				x--;
+				y--;
+			}
+			script[--index] = insertion ? INSERT : DELETE;
+			x = previousX;
+			y = previousY;
+		}
+		while (index > 0) {
+			script[--index] = EQUAL;
+		}
+		return script;
+	}
+
+	private static boolean lineEquals(CharSequence source, int[] sourceLines, int sourceLine, CharSequence target,
+			int[] targetLines, int targetLine) {
+		int sourceStart = sourceLines[sourceLine];
+		int length = sourceLines[sourceLine + 1] - sourceStart;
+		int targetStart = targetLines[targetLine];
+		if (length != targetLines[targetLine + 1] - targetStart) {
+			return false;
+		}
+		for (int i = 0; i < length; i++) {
+			if (source.charAt(sourceStart + i) != target.charAt(targetStart + i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
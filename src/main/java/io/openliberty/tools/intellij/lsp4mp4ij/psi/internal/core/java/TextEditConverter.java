@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016-2025 Red Hat Inc. and others.
+ * Copyright (c) 2016-2026 Red Hat Inc. and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
  * which accompanies this distribution, and is available at
@@ -12,6 +12,7 @@
  *******************************************************************************/
 package io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.java;
 
+import com.intellij.openapi.editor.Document;
 import com.intellij.openapi.editor.event.DocumentEvent;
 import com.intellij.psi.PsiFile;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.corrections.proposal.Change;
@@ -51,10 +52,15 @@ public class TextEditConverter {
 	}
 
 	public List<org.eclipse.lsp4j.TextEdit> convert() {
-		org.eclipse.lsp4j.TextEdit te = new org.eclipse.lsp4j.TextEdit();
-		te.setNewText(source.getTargetDocument().getText());
-		te.setRange(utils.toRange(source.getSourceDocument(), 0, source.getSourceDocument().getTextLength()));
-		converted.add(te);
+		// only send the ranges which changed rather than the whole target document
+		Document sourceDocument = source.getSourceDocument();
+		for (TextDiff.Edit edit : TextDiff.diff(sourceDocument.getImmutableCharSequence(),
+				source.getTargetDocument().getImmutableCharSequence())) {
+			org.eclipse.lsp4j.TextEdit te = new org.eclipse.lsp4j.TextEdit();
+			te.setNewText(edit.newText());
+			te.setRange(utils.toRange(sourceDocument, edit.start(), edit.end() - edit.start()));
+			converted.add(te);
+		}
 		return converted;
 	}
 
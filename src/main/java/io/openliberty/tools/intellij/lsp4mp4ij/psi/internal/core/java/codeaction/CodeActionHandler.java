@@ -24,6 +24,7 @@ import org.eclipse.lsp4j.CodeAction;
 import org.eclipse.lsp4j.CodeActionContext;
 import org.eclipse.lsp4j.CodeActionKind;
 import org.eclipse.lsp4j.VersionedTextDocumentIdentifier;
+import org.eclipse.lsp4j.WorkspaceEdit;
 import org.eclipse.lsp4j.jsonrpc.messages.Either;
 import org.eclipse.lsp4mp.commons.MicroProfileJavaCodeActionParams;
 import org.eclipse.lsp4mp.commons.codeaction.CodeActionResolveData;
@@ -43,10 +44,16 @@ import java.util.stream.Collectors;
 public final class CodeActionHandler {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(CodeActionHandler.class);
+
+	private static final int RESOLVED_CODE_ACTION_CACHE_SIZE = 200;
+
 	private final String group;
 
+	private final ResolvedCodeActionCache resolvedCache;
+
 	public CodeActionHandler(String group) {
 		this.group = group;
+		this.resolvedCache = new ResolvedCodeActionCache(RESOLVED_CODE_ACTION_CACHE_SIZE);
 	}
 
 	/**
@@ -173,6 +180,9 @@ public final class CodeActionHandler {
 	/**
 	 * Returns the given unresolved CodeAction with the workspace edit resolved.
 	 *
+	 * The workspace edit is reused from a previous resolution of the same code
+	 * action if the document has not changed since.
+	 *
 	 * @param unresolved the unresolved CodeAction
 	 * @param utils      the JDT utils
 	 * @return the given unresolved CodeAction with the workspace edit resolved
@@ -188,6 +198,13 @@ public final class CodeActionHandler {
 				return null;
 			}
 
+			ResolvedCodeActionCache.Key key = ResolvedCodeActionCache.Key.of(unresolved, unit.getModificationStamp());
+			WorkspaceEdit cachedEdit = resolvedCache.get(key);
+			if (cachedEdit != null) {
+				unresolved.setEdit(cachedEdit);
+				return unresolved;
+			}
+
 			utils = utils.refine(utils.getModule(uri));
 
 			int start = DiagnosticsHelper.getStartOffset(unit, data.getRange(), utils);
@@ -211,7 +228,11 @@ public final class CodeActionHandler {
 					.filter(definition -> group.equals(definition.getGroup()))
 					.filter(definition -> participantId.equals(definition.getParticipantId()))
 					.findFirst().orElse(null);
-			return participant.resolveCodeAction(context.copy());
+			CodeAction resolved = participant.resolveCodeAction(context.copy());
+			if (resolved != null && resolved.getEdit() != null) {
+				resolvedCache.put(key, resolved.getEdit());
+			}
+			return resolved;
 		} catch (IOException e) {
 			LOGGER.error("Failed to resolve code action: "+ e.getMessage());
 			return unresolved;
@@ -0,0 +1,127 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial API and implementation
+*******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.java.codeaction;
+
+import com.google.gson.Gson;
+import org.eclipse.lsp4j.CodeAction;
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.WorkspaceEdit;
+import org.eclipse.lsp4j.jsonrpc.json.MessageJsonHandler;
+import org.eclipse.lsp4j.jsonrpc.messages.Either;
+import org.eclipse.lsp4mp.commons.codeaction.CodeActionResolveData;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bounded LRU cache of the workspace edits computed when resolving a code action.
+ *
+ * <p>
+ * The edit of a code action only depends on the content of the document it
+ * applies to, so an entry is keyed by the document URI and modification stamp
+ * together with the identity of the code action (participant, range,
+ * diagnostic code and title). Any change to the document produces a new stamp
+ * and stale entries are eventually evicted.
+ * </p>
+ *
+ * <p>
+ * Workspace edits are mutable, so the cache keeps an edit serialized as JSON
+ * and returns a new copy of it to each caller.
+ * </p>
+ */
+public class ResolvedCodeActionCache {
+
+	/**
+	 * Identity of a resolved code action.
+	 *
+	 * @param uri               the document URI.
+	 * @param modificationStamp the document modification stamp.
+	 * @param participantId     the participant which created the code action.
+	 * @param range             the range of the code action.
+	 * @param diagnosticCode    the code of the diagnostic fixed by the code action, or null.
+	 * @param title             the title of the code action, a participant may
+	 *                          create several code actions for the same diagnostic.
+	 */
+	public record Key(String uri, long modificationStamp, String participantId, Range range,
+					  String diagnosticCode, String title) {
+
+		/**
+		 * Returns the key of the given unresolved code action.
+		 *
+		 * @param unresolved        the unresolved code action, with a
+		 *                          {@link CodeActionResolveData} as data.
+		 * @param modificationStamp the modification stamp of the document.
+		 * @return the key of the given unresolved code action.
+		 */
+		public static Key of(CodeAction unresolved, long modificationStamp) {
+			CodeActionResolveData data = (CodeActionResolveData) unresolved.getData();
+			return new Key(data.getDocumentUri(), modificationStamp, data.getParticipantId(), data.getRange(),
+					getDiagnosticCode(unresolved), unresolved.getTitle());
+		}
+
+		private static String getDiagnosticCode(CodeAction codeAction) {
+			List<Diagnostic> diagnostics = codeAction.getDiagnostics();
+			if (diagnostics == null || diagnostics.isEmpty()) {
+				return null;
+			}
+			Either<String, Integer> code = diagnostics.get(0).getCode();
+			return code != null && code.isLeft() ? code.getLeft() : null;
+		}
+	}
+
+	// Gson of LSP4J, which knows how to read back the Either and the resource operations of a workspace edit
+	private static final Gson GSON = new MessageJsonHandler(Collections.emptyMap()).getGson();
+
+	private final Map<Key, String /* workspace edit as JSON */> edits;
+
+	public ResolvedCodeActionCache(int maxSize) {
+		this.edits = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, String> eldest) {
+				return size() > maxSize;
+			}
+		};
+	}
+
+	/**
+	 * Returns a copy of the workspace edit cached for the given key and null
+	 * otherwise.
+	 *
+	 * @param key the code action key.
+	 * @return a copy of the workspace edit cached for the given key and null
+	 *         otherwise.
+	 */
+	public WorkspaceEdit get(Key key) {
+		String edit;
+		synchronized (this) {
+			edit = edits.get(key);
+		}
+		return edit != null ? GSON.fromJson(edit, WorkspaceEdit.class) : null;
+	}
+
+	/**
+	 * Caches the workspace edit of the code action identified by the given key.
+	 *
+	 * @param key  the code action key.
+	 * @param edit the resolved workspace edit.
+	 */
+	public void put(Key key, WorkspaceEdit edit) {
+		String json = GSON.toJson(edit);
+		synchronized (this) {
+			edits.put(key, json);
+		}
+	}
+}
@@ -13,6 +13,7 @@
 *******************************************************************************/
 package io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.java.validators;
 
+import com.intellij.openapi.Disposable;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.diagnostics.JavaDiagnosticsContext;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.validators.JavaASTValidator;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.validators.JavaASTValidatorExtensionPointBean;
@@ -20,15 +21,18 @@ import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.validators.annotati
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.validators.annotations.AnnotationRule;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.validators.annotations.AnnotationRuleAttributeExtensionPointBean;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.validators.annotations.AnnotationRuleExtensionPointBean;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.validators.annotations.AnnotationRuleTable;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.validators.annotations.AnnotationRulesJavaASTValidator;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.validators.annotations.AnnotationValidator;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.validators.annotations.RangeExpressionException;
+import io.openliberty.tools.intellij.util.LibertyToolPluginDisposable;
 import org.eclipse.lsp4j.Diagnostic;
 
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -67,16 +71,19 @@ public class JavaASTValidatorRegistry extends AnnotationValidator {
 		return INSTANCE;
 	}
 
-	private boolean extensionProvidersLoaded;
+	private volatile boolean extensionProvidersLoaded;
 	private boolean registryListenerIntialized;
 
 	private final List<JavaASTValidatorExtensionPointBean> validatorsFromClass;
 
+	// the annotation rules compiled when the extensions are loaded
+	private volatile AnnotationRuleTable ruleTable;
+
 	private JavaASTValidatorRegistry() {
 		super();
 		this.extensionProvidersLoaded = false;
 		this.registryListenerIntialized = false;
-		this.validatorsFromClass = new ArrayList<>();
+		this.validatorsFromClass = new CopyOnWriteArrayList<>();
 	}
 
 	public String getExtensionId() {
@@ -90,24 +97,84 @@ public class JavaASTValidatorRegistry extends AnnotationValidator {
 	}
 
 	@Override
-	public Collection<AnnotationRule> getRules() {
+	public String validate(double value, AnnotationAttributeRule rule) {
 		loadExtensionJavaASTValidators();
-		return super.getRules();
+		return super.validate(value, rule);
 	}
 
-	private synchronized void loadExtensionJavaASTValidators() {
+	/**
+	 * Returns the registered annotation rules. The returned collection is a
+	 * snapshot which is not modified when the extensions are reloaded.
+	 *
+	 * @return the registered annotation rules.
+	 */
+	@Override
+	public Collection<AnnotationRule> getRules() {
+		return getRuleTable().getRules();
+	}
+
+	/**
+	 * Returns the registered annotation rules indexed by annotation name.
+	 *
+	 * @return the registered annotation rules indexed by annotation name.
+	 */
+	public AnnotationRuleTable getRuleTable() {
+		AnnotationRuleTable table = ruleTable;
+		if (table == null) {
+			synchronized (this) {
+				loadExtensionJavaASTValidators();
+				table = ruleTable;
+			}
+		}
+		return table;
+	}
+
+	private void loadExtensionJavaASTValidators() {
 		if (extensionProvidersLoaded)
 			return;
+		synchronized (this) {
+			if (extensionProvidersLoaded)
+				return;
 
-		// Immediately set the flag, as to ensure that this method is never
-		// called twice
-		extensionProvidersLoaded = true;
+			LOGGER.log(Level.INFO, "->- Loading ." + getExtensionId() + " extension point ->-");
+
+			try {
+				addExtensionJavaASTValidators();
+				AnnotationRuleTable table = new AnnotationRuleTable(super.getRules());
+				if (!registryListenerIntialized) {
+					addRegistryListener();
+					registryListenerIntialized = true;
+				}
+				ruleTable = table;
+				// Set the flag last, the callers which see it without the lock use the
+				// validators and the rules right away
+				extensionProvidersLoaded = true;
+			} finally {
+				if (!extensionProvidersLoaded) {
+					// Drop what was partially loaded, the next call loads the extensions again
+					ruleTable = null;
+					validatorsFromClass.clear();
+					unregisterRules();
+				}
+			}
 
-		LOGGER.log(Level.INFO, "->- Loading ." + getExtensionId() + " extension point ->-");
+			LOGGER.log(Level.INFO, "-<- Done loading ." + getExtensionId() + " extension point -<-");
+		}
+	}
 
-		addExtensionJavaASTValidators();
+	private void addRegistryListener() {
+		// Reload the validators and the rules when a plugin which contributes to them is loaded or unloaded
+		Disposable parentDisposable = LibertyToolPluginDisposable.getInstance();
+		JavaASTValidator.EP_NAME.addChangeListener(this::unloadExtensionJavaASTValidators, parentDisposable);
+		AnnotationValidator.EP_NAME.addChangeListener(this::unloadExtensionJavaASTValidators, parentDisposable);
+	}
 
-		LOGGER.log(Level.INFO, "-<- Done loading ." + getExtensionId() + " extension point -<-");
+	private synchronized void unloadExtensionJavaASTValidators() {
+		LOGGER.log(Level.INFO, "->- Unloading ." + getExtensionId() + " extension point ->-");
+		extensionProvidersLoaded = false;
+		ruleTable = null;
+		validatorsFromClass.clear();
+		unregisterRules();
 	}
 
 	private void addExtensionJavaASTValidators() {
@@ -134,7 +201,7 @@ public class JavaASTValidatorRegistry extends AnnotationValidator {
 
 	public Collection<JavaASTValidator> getValidators(JavaDiagnosticsContext context, List<Diagnostic> diagnostics) {
 		List<JavaASTValidator> validators = new ArrayList<>();
-		addValidator(new AnnotationRulesJavaASTValidator(getRules()), context, diagnostics, validators);
+		addValidator(new AnnotationRulesJavaASTValidator(getRuleTable()), context, diagnostics, validators);
 		for (JavaASTValidatorExtensionPointBean ce : validatorsFromClass) {
 			try {
 				addValidator(ce.createValidator(), context, diagnostics, validators);
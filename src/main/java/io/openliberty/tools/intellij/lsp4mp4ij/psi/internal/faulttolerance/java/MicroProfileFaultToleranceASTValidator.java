@@ -68,9 +68,9 @@ public class MicroProfileFaultToleranceASTValidator extends JavaASTValidator {
 	@Override
 	public boolean isAdaptedForDiagnostics(JavaDiagnosticsContext context) {
 		Module javaProject = context.getJavaProject();
-		boolean adapted = PsiTypeUtils.findType(javaProject, FALLBACK_ANNOTATION) != null
-				|| PsiTypeUtils.findType(javaProject, ASYNCHRONOUS_ANNOTATION) != null
-				|| PsiTypeUtils.findType(javaProject, RETRY_ANNOTATION) != null;
+		boolean adapted = context.isTypeOnClasspath(FALLBACK_ANNOTATION)
+				|| context.isTypeOnClasspath(ASYNCHRONOUS_ANNOTATION)
+				|| context.isTypeOnClasspath(RETRY_ANNOTATION);
 		if (adapted) {
 			addAllowedReturnTypeForAsynchronousAnnotation(javaProject, UNI_TYPE_UTILITY);
 		}
@@ -14,7 +14,6 @@
 package io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.graphql.java;
 
 
-import com.intellij.openapi.module.Module;
 import com.intellij.psi.*;
 import com.intellij.psi.impl.source.PsiClassReferenceType;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.diagnostics.JavaDiagnosticsContext;
@@ -53,8 +52,7 @@ public class MicroProfileGraphQLASTValidator extends JavaASTValidator {
 
     @Override
     public boolean isAdaptedForDiagnostics(JavaDiagnosticsContext context) {
-        Module javaProject = context.getJavaProject();
-        if(PsiTypeUtils.findType(javaProject, MicroProfileGraphQLConstants.QUERY_ANNOTATION) == null) {
+        if(!context.isTypeOnClasspath(MicroProfileGraphQLConstants.QUERY_ANNOTATION)) {
             return false;
         }
         // void GraphQL operations are allowed in Quarkus 3.1 and higher
@@ -11,7 +11,6 @@
 *******************************************************************************/
 package io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.health.java;
 
-import com.intellij.openapi.module.Module;
 import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiFile;
@@ -69,8 +68,7 @@ public class MicroProfileHealthDiagnosticsParticipant implements IJavaDiagnostic
 	public boolean isAdaptedForDiagnostics(JavaDiagnosticsContext context) {
 		// Collection of diagnostics for MicroProfile Health is done only if
 		// microprofile-health is on the classpath
-		Module javaProject = context.getJavaProject();
-		return PsiTypeUtils.findType(javaProject, HEALTH_CHECK_INTERFACE) != null;
+		return context.isTypeOnClasspath(HEALTH_CHECK_INTERFACE);
 	}
 
 	@Override
@@ -13,7 +13,6 @@
 *******************************************************************************/
 package io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.metrics.java;
 
-import com.intellij.openapi.module.Module;
 import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiFile;
@@ -23,7 +22,6 @@ import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.diagnostics.JavaDia
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.AnnotationUtils;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.PositionUtils;
-import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.PsiTypeUtils;
 import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4mp.commons.DocumentFormat;
@@ -53,8 +51,7 @@ public class MicroProfileMetricsDiagnosticsParticipant implements IJavaDiagnosti
 	public boolean isAdaptedForDiagnostics(JavaDiagnosticsContext context) {
 		// Collection of diagnostics for MicroProfile Metrics is done only if
 		// microprofile-metrics is on the classpath
-		Module javaProject = context.getJavaProject();
-		return PsiTypeUtils.findType(javaProject, METRIC_ID) != null;
+		return context.isTypeOnClasspath(METRIC_ID);
 	}
 
 	@Override
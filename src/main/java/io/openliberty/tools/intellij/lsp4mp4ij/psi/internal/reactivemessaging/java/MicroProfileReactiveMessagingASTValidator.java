@@ -13,14 +13,12 @@
 *******************************************************************************/
 package io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.reactivemessaging.java;
 
-import com.intellij.openapi.module.Module;
 import com.intellij.psi.PsiAnnotation;
 import com.intellij.psi.PsiAnnotationMemberValue;
 import com.intellij.psi.PsiLiteral;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.diagnostics.JavaDiagnosticsContext;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.validators.JavaASTValidator;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.AnnotationUtils;
-import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.PsiTypeUtils;
 import org.eclipse.lsp4j.DiagnosticSeverity;
 
 import java.util.logging.Level;
@@ -58,10 +56,8 @@ public class MicroProfileReactiveMessagingASTValidator extends JavaASTValidator
 
     @Override
     public boolean isAdaptedForDiagnostics(JavaDiagnosticsContext context) {
-        Module javaProject = context.getJavaProject();
-        boolean adapted = PsiTypeUtils.findType(javaProject, INCOMING_ANNOTATION) != null
-                || PsiTypeUtils.findType(javaProject, OUTGOING_ANNOTATION) != null;
-        return adapted;
+        return context.isTypeOnClasspath(INCOMING_ANNOTATION)
+                || context.isTypeOnClasspath(OUTGOING_ANNOTATION);
     }
 
     @Override
@@ -79,8 +79,7 @@ public class MicroProfileRestClientDiagnosticsParticipant implements IJavaDiagno
 	public boolean isAdaptedForDiagnostics(JavaDiagnosticsContext context) {
 		// Collection of diagnostics for MicroProfile RestClient is done only if
 		// microprofile-rest-client is on the classpath
-		Module javaProject = context.getJavaProject();
-		return PsiTypeUtils.findType(javaProject, REST_CLIENT_ANNOTATION) != null;
+		return context.isTypeOnClasspath(REST_CLIENT_ANNOTATION);
 	}
 
 	@Override
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022, 2025 IBM Corporation.
+ * Copyright (c) 2022, 2026 IBM Corporation.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -40,14 +40,12 @@ import java.util.Collection;
 public class LibertyRunConfiguration extends ModuleBasedConfiguration<RunConfigurationModule, LibertyRunConfigurationOptions> {
     protected static Logger LOGGER = Logger.getInstance(LibertyRunConfiguration.class);
 
-    private final LibertyModules libertyModules;
     @NonNls
     private static final String RUN_IN_CONTAINER_TAG = "RUN_IN_CONTAINER";
 
     public LibertyRunConfiguration(Project project, ConfigurationFactory factory, String name) {
         super(name, getRunConfigurationModule(project), factory);
-        // Find Liberty modules here to populate config field called "build file" and avoid NPE
-        this.libertyModules = LibertyModules.getInstance().rescanLibertyModules(project);
+        // Liberty modules are looked up when the configuration is edited or run, see getState()
     }
 
     @NotNull
@@ -134,7 +132,7 @@ public class LibertyRunConfiguration extends ModuleBasedConfiguration<RunConfigu
     public RunProfileState getState(@NotNull Executor executor, @NotNull ExecutionEnvironment environment) throws ExecutionException {
         LibertyModule libertyModule;
         try {
-            libertyModule = libertyModules.getLibertyProjectFromString(getBuildFile());
+            libertyModule = LibertyModules.getInstance().rescanLibertyModulesIfChanged(getProject()).getLibertyProjectFromString(getBuildFile());
             libertyModule.setCustomRunConfig(this);
             libertyModule.setUseCustom(true);
             // Previous liberty action may have forced the edit dialog to appear, disable now
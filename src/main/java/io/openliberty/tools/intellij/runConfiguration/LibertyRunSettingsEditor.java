@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022, 2024 IBM Corporation.
+ * Copyright (c) 2022, 2026 IBM Corporation.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -32,7 +32,9 @@ public class LibertyRunSettingsEditor extends SettingsEditor<LibertyRunConfigura
     private StateRestoringCheckBox runInContainerCheckBox;
 
     public LibertyRunSettingsEditor(Project project) {
-        libertyModule.getComponent().setModel(new DefaultComboBoxModel(LibertyModules.getInstance().getLibertyBuildFilesAsString(project).toArray()));
+        // scans only once for all the configurations in the dialog unless a build file changes in between
+        LibertyModules libertyModules = LibertyModules.getInstance().rescanLibertyModulesIfChanged(project);
+        libertyModule.getComponent().setModel(new DefaultComboBoxModel(libertyModules.getLibertyBuildFilesAsString(project).toArray()));
     }
 
     @Override
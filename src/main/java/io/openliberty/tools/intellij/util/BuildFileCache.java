@@ -0,0 +1,134 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.util;
+
+import com.intellij.openapi.vfs.VirtualFile;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache of the facts parsed from Maven and Gradle build files.
+ *
+ * <p>
+ * Entries are keyed by the build file path and are only reused while the
+ * modification stamp and time stamp of the file are unchanged, so rescanning
+ * the workspace only reparses the build files which changed since the last
+ * scan. The name of a Gradle project is read from the settings.gradle file
+ * next to the build file, so it is also reparsed when that file changes.
+ * Entries of deleted or moved build files are removed by
+ * {@link #invalidate(String)}.
+ * </p>
+ */
+public class BuildFileCache {
+
+    private static final BuildFileCache INSTANCE = new BuildFileCache();
+
+    private static final String GRADLE_SETTINGS_FILE = "settings.gradle";
+
+    private record Stamp(long modificationStamp, long timeStamp) {
+
+        static final Stamp NONE = new Stamp(-1, -1);
+
+        static Stamp of(VirtualFile file) {
+            return file != null ? new Stamp(file.getModificationStamp(), file.getTimeStamp()) : NONE;
+        }
+    }
+
+    /**
+     * A value parsed from a build file, with the stamps of the build file and of
+     * the other file it was read from, if any, when it was parsed.
+     */
+    private record Stamped<T>(Stamp stamp, Stamp otherStamp, T value) {
+
+        boolean isUpToDate(VirtualFile file, VirtualFile otherFile) {
+            return stamp.equals(Stamp.of(file)) && otherStamp.equals(Stamp.of(otherFile));
+        }
+    }
+
+    private record BuildFileState(boolean validBuildFile, boolean validContainerVersion) {
+    }
+
+    private final Map<String, Stamped<BuildFileState>> buildFileStates = new ConcurrentHashMap<>();
+
+    private final Map<String, Stamped<String>> projectNames = new ConcurrentHashMap<>();
+
+    public static BuildFileCache getInstance() {
+        return INSTANCE;
+    }
+
+    private BuildFileCache() {
+    }
+
+    /**
+     * Returns a new BuildFile describing whether the given file configures the
+     * Liberty Maven or Gradle plugin. The file is only parsed if it changed since
+     * the last call.
+     *
+     * @param file        the pom.xml or build.gradle file.
+     * @param projectType the type of the build file.
+     * @return a new BuildFile, without its build file and project type set.
+     */
+    public BuildFile getBuildFile(VirtualFile file, Constants.ProjectType projectType)
+            throws IOException {
+        Stamped<BuildFileState> cached = buildFileStates.get(file.getPath());
+        if (cached == null || !cached.isUpToDate(file, null)) {
+            Stamp stamp = Stamp.of(file);
+            BuildFile parsed = projectType.equals(Constants.ProjectType.LIBERTY_MAVEN_PROJECT)
+                    ? LibertyMavenUtil.validPom(file)
+                    : LibertyGradleUtil.validBuildGradle(file);
+            cached = new Stamped<>(stamp, Stamp.NONE,
+                    new BuildFileState(parsed.isValidBuildFile(), parsed.isValidContainerVersion()));
+            buildFileStates.put(file.getPath(), cached);
+        }
+        return new BuildFile(cached.value().validBuildFile(), cached.value().validContainerVersion());
+    }
+
+    /**
+     * Returns the project name declared in the given build file, or null if
+     * there is none. For Gradle, the name is the root project name of the
+     * settings.gradle file next to the build file. The files are only parsed if
+     * one of them changed since the last call.
+     *
+     * @param file        the pom.xml or build.gradle file.
+     * @param projectType the type of the build file.
+     * @return the project name or null.
+     */
+    public String getProjectName(VirtualFile file, Constants.ProjectType projectType)
+            throws IOException {
+        VirtualFile settingsFile = null;
+        if (projectType.equals(Constants.ProjectType.LIBERTY_GRADLE_PROJECT) && file.getParent() != null) {
+            settingsFile = file.getParent().findChild(GRADLE_SETTINGS_FILE);
+        }
+        Stamped<String> cached = projectNames.get(file.getPath());
+        if (cached == null || !cached.isUpToDate(file, settingsFile)) {
+            Stamp stamp = Stamp.of(file);
+            Stamp settingsStamp = Stamp.of(settingsFile);
+            String projectName = projectType.equals(Constants.ProjectType.LIBERTY_MAVEN_PROJECT)
+                    ? LibertyMavenUtil.getProjectNameFromPom(file)
+                    : LibertyGradleUtil.getProjectName(file);
+            cached = new Stamped<>(stamp, settingsStamp, projectName);
+            projectNames.put(file.getPath(), cached);
+        }
+        return cached.value();
+    }
+
+    /**
+     * Removes the cached facts of the build file with the given path, or of all
+     * the build files under the given path if it is a directory.
+     *
+     * @param path the path of a deleted or moved file or directory.
+     */
+    public void invalidate(String path) {
+        String directoryPrefix = path + '/';
+        buildFileStates.keySet().removeIf(key -> key.equals(path) || key.startsWith(directoryPrefix));
+        projectNames.keySet().removeIf(key -> key.equals(path) || key.startsWith(directoryPrefix));
+    }
+}
@@ -26,25 +26,11 @@ import com.intellij.openapi.progress.Task;
 import com.intellij.openapi.ui.Messages;
 import io.openliberty.tools.intellij.LibertyModule;
 import org.jetbrains.annotations.NotNull;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.NodeList;
 
-import javax.xml.XMLConstants;
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import java.io.BufferedReader;
-import java.io.File;
-import java.io.FileReader;
 import java.io.IOException;
-import java.net.ConnectException;
 import java.net.ServerSocket;
-import java.net.Socket;
-import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -64,9 +50,6 @@ public class DebugModeHandler {
     // Regex captures the debug port value from the custom Gradle parameters input
     private static final Pattern GRADLE_DEBUG_REGEX = Pattern.compile("(?<=" + Constants.LIBERTY_GRADLE_DEBUG_PARAM + ")([^\\s]+)");
 
-    // Debug address key in Liberty server.env files
-    private static String WLP_ENV_DEBUG_ADDRESS = "WLP_DEBUG_ADDRESS";
-
     // WLP server environment file name.
     public static String WLP_SERVER_ENV_FILE_NAME = "server.env";
 
@@ -167,56 +150,9 @@ public class DebugModeHandler {
      * @throws Exception
      */
     private String waitForSocketActivation(ProgressIndicator monitor, LibertyModule libertyModule, String host, int debugPort) throws Exception {
-        byte[] handshakeString = "JDWP-Handshake".getBytes(StandardCharsets.US_ASCII);
-        int retryLimit = getDebuggerTimeoutInSeconds();
-        int retryInc = 3; // time to wait after each try
-
-        // Retrieve the location of the server.env in the liberty installation at the default location (wpl/usr/servers/<serverName>).
-        Path serverEnvPath = getServerEnvPath(libertyModule);
-        // If the server.env has not been created yet then someone did a 'clean' before starting
-        boolean cleanStart = serverEnvPath == null;
-        Path serverEnvBakPath = null;
-
-        for (int retryCount = 0; retryCount < retryLimit; retryCount+=retryInc) {
-            // check if cancelled
-            if (monitor.isCanceled()) {
-                return null;
-            }
-
-            // Detect if dev mode has started
-            if (serverEnvPath == null) {
-                serverEnvPath = getServerEnvPath(libertyModule);
-            } else if (serverEnvBakPath == null) {
-                serverEnvBakPath = serverEnvPath.resolveSibling(WLP_SERVER_ENV_BAK_FILE_NAME);
-            }
-
-            // There is a small window in which the allocated random port could have been taken by another process.
-            // Check the deployed server.env at the default deployment location (wlp/usr/servers/<serverName>) for the WLP_DEBUG_ADDRESS
-            // property. If the port is already in use, dev mode will allocate a random debug port and reflect that by updating the
-            // server.env file. Therefore, first we detect if dev mode has started.
-            if ((cleanStart && serverEnvPath != null) ||
-                    (serverEnvBakPath != null && serverEnvBakPath.toFile().exists())) {
-                // Dev mode has started and updated server.env. server.env.bak only exists when dev mode is running assuming
-                // dev mode did not crash. If it did crash we will be trying the old port number until dev mode really
-                // updates the server.env. This is the risk we assume in the case of catastrophic failure.
-                String envPortStr = readDebugPortFromServerEnv(serverEnvPath.toFile());
-                if (envPortStr != null) {
-                    int envPort = Integer.parseInt(envPortStr);
-                    if (envPort != debugPort) {
-                        debugPort = envPort;
-                    }
-                }
-                try (Socket socket = new Socket(host, debugPort)) {
-                    socket.getOutputStream().write(handshakeString);
-                    return String.valueOf(debugPort);
-                } catch (ConnectException e) {
-                    // After dev mode starts it still takes a few seconds for the runtime to start.
-                    LOGGER.trace(String.format("ConnectException waiting for runtime to start on port %d", debugPort));
-                }
-            }
-            TimeUnit.SECONDS.sleep(retryInc);
-        }
-        throw new Exception(LocalizedResourceUtil.getMessage("cannot.attach.debugger.host.port", host, String.format("%d",debugPort)));
+        Integer port = new DebugSocketActivation(getLibertyPluginConfigPath(libertyModule), host, debugPort,
+                getDebuggerTimeoutInSeconds(), monitor::isCanceled).await();
+        return port != null ? String.valueOf(port) : null;
     }
 
     /**
@@ -239,98 +175,15 @@ public class DebugModeHandler {
     }
 
     /**
-     * Returns the path to the `server.env` file for the given Liberty module.
-     *
-     * This method retrieves the server directory using the Liberty plugin config and
-     * constructs the expected path to the `server.env` file. If the file exists, the path is returned;
-     * otherwise, a trace log is recorded and {@code null} is returned.
-     *
-     * @param libertyModule the Liberty module to resolve the server environment file path for.
-     * @return the path to the `server.env` file if it exists, or null if not found.
-     */
-    private Path getServerEnvPath(LibertyModule libertyModule) {
-        String serverDirectory = getServerDirectoryFromLibertyPluginConfig(libertyModule);
-        if (serverDirectory == null || serverDirectory.isEmpty()) {
-            LOGGER.trace(String.format("Server directory is null or empty for project %s", libertyModule.getName()));
-            return null;
-        }
-        Path serverEnvPath = Paths.get(serverDirectory, WLP_SERVER_ENV_FILE_NAME);
-        if (Files.exists(serverEnvPath)) {
-            return serverEnvPath;
-        } else {
-            LOGGER.trace(String.format("Unable to find the server.env file for project %s", libertyModule.getName()));
-            return null;
-        }
-    }
-
-    /**
-     * Retrieves the server directory path from the Liberty plugin configuration file (`liberty-plugin-config.xml`)
-     * for the given Liberty module.
-     *
-     * The method determines the build folder (`target` for Maven projects, `build` for Gradle projects)
-     * based on the module's project type. It then parses the config file to extract the value of the
-     * <serverDirectory> element.
+     * Returns the path to the Liberty plugin config file (`liberty-plugin-config.xml`) for the given Liberty module,
+     * in the `target` folder for Maven projects and the `build` folder for Gradle projects.
      *
      * @param libertyModule the Liberty module containing build and project metadata.
-     * @return the server directory path specified in the Liberty plugin config, or null if not found or on error.
+     * @return the path to the Liberty plugin config file, which may not exist yet.
      */
-    private String getServerDirectoryFromLibertyPluginConfig(LibertyModule libertyModule) {
-        String serverDirectory = null;
-        try {
-            String projectPath = libertyModule.getBuildFile().getParent().getPath();
-            String projectType = libertyModule.getProjectType().toString();
-            String buildFolder = projectType.equals(Constants.ProjectType.LIBERTY_MAVEN_PROJECT.name()) ? "target" : "build";
-            Path configPath = Paths.get(projectPath, buildFolder, "liberty-plugin-config.xml");
-
-            DocumentBuilderFactory documentBuilderFactory = DocumentBuilderFactory.newDefaultInstance();
-            documentBuilderFactory.setAttribute(XMLConstants.FEATURE_SECURE_PROCESSING, true);
-            DocumentBuilder documentBuilder = documentBuilderFactory.newDocumentBuilder();
-            Document document = documentBuilder.parse(configPath.toString());
-            document.getDocumentElement().normalize();
-
-            NodeList nodeList = document.getElementsByTagName("serverDirectory");
-            if (nodeList.getLength() > 0) {
-                Element element = (Element) nodeList.item(0);
-                serverDirectory = element.getTextContent();
-            }
-        } catch (Exception e) {
-            LOGGER.trace("Unable to find serverDirectory from liberty-plugin-config file");
-        }
-        return serverDirectory;
-    }
-
-    /**
-     * Returns the port value associated with the WLP_DEBUG_ADDRESS entry in server.env. Null if not found. If there are multiple
-     * WLP_DEBUG_ADDRESS entries, the last entry is returned.
-     *
-     * @param serverEnv The server.env file object.
-     *
-     * @return Returns the port value associated with the WLP_DEBUG_ADDRESS entry in server.env. Null if not found. If there are
-     * multiple WLP_DEBUG_ADDRESS entries, the last entry is returned.
-     *
-     * @throws Exception
-     */
-    private String readDebugPortFromServerEnv(File serverEnv) throws Exception {
-        String port = null;
-
-        if (serverEnv.exists()) {
-            try (BufferedReader reader = new BufferedReader(new FileReader(serverEnv))) {
-                String line = null;
-                String lastEntry = null;
-                while ((line = reader.readLine()) != null) {
-                    if (line.contains(WLP_ENV_DEBUG_ADDRESS)) {
-                        lastEntry = line;
-                    }
-                }
-                if (lastEntry != null) {
-                    String[] parts = lastEntry.split("=");
-                    if (parts.length > 1) {
-                        port = parts[1].trim();
-                    }
-                }
-            }
-        }
-        return port;
+    private Path getLibertyPluginConfigPath(LibertyModule libertyModule) {
+        String projectPath = libertyModule.getBuildFile().getParent().getPath();
+        String buildFolder = libertyModule.getProjectType().equals(Constants.ProjectType.LIBERTY_MAVEN_PROJECT) ? "target" : "build";
+        return Paths.get(projectPath, buildFolder, "liberty-plugin-config.xml");
     }
 }
-
@@ -0,0 +1,276 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package io.openliberty.tools.intellij.util;
+
+import com.intellij.openapi.diagnostic.Logger;
+import org.w3c.dom.Document;
+import org.w3c.dom.NodeList;
+
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Waits for the Liberty runtime JVM started by dev mode to accept JDWP connections.
+ *
+ * <p>
+ * Dev mode start-up is detected from the creation of server.env (when the server
+ * directory was cleaned) or server.env.bak (when server.env is left over from a
+ * previous start) in the server directory. Instead of sleeping between checks,
+ * the server directory is watched with a {@link WatchService}; the watch is polled
+ * with a short timeout so that file systems which do not deliver events promptly
+ * are still checked regularly. Once dev mode has started, the JDWP handshake is
+ * attempted with an exponential backoff until the runtime listens on the debug port.
+ * </p>
+ *
+ * <p>
+ * liberty-plugin-config.xml is only parsed until the server directory has been
+ * resolved from it.
+ * </p>
+ */
+public class DebugSocketActivation {
+
+    private static final Logger LOGGER = Logger.getInstance(DebugSocketActivation.class);
+
+    private static final byte[] JDWP_HANDSHAKE = "JDWP-Handshake".getBytes(StandardCharsets.US_ASCII);
+
+    // Debug address key in Liberty server.env files
+    private static final String WLP_ENV_DEBUG_ADDRESS = "WLP_DEBUG_ADDRESS";
+
+    // Maximum time to wait for a file system event before checking the files again
+    private static final long WATCH_POLL_MILLIS = 250;
+
+    private static final long INITIAL_BACKOFF_MILLIS = 25;
+
+    private static final long MAX_BACKOFF_MILLIS = 1000;
+
+    private static final int CONNECT_TIMEOUT_MILLIS = 1000;
+
+    private final Path pluginConfigPath;
+
+    private final String host;
+
+    private final int debugPort;
+
+    private final long timeoutNanos;
+
+    private final BooleanSupplier canceled;
+
+    private long deadline;
+
+    /**
+     * @param pluginConfigPath path to the liberty-plugin-config.xml of the project
+     * @param host             JVM host to connect to
+     * @param debugPort        JVM port to connect to, unless server.env specifies another one
+     * @param timeoutSeconds   maximum number of seconds to wait
+     * @param canceled         returns true if the wait should be abandoned
+     */
+    public DebugSocketActivation(Path pluginConfigPath, String host, int debugPort, int timeoutSeconds,
+                                 BooleanSupplier canceled) {
+        this.pluginConfigPath = pluginConfigPath;
+        this.host = host;
+        this.debugPort = debugPort;
+        this.timeoutNanos = TimeUnit.SECONDS.toNanos(timeoutSeconds);
+        this.canceled = canceled;
+    }
+
+    /**
+     * Waits for dev mode to start and for the JVM to accept a JDWP handshake.
+     *
+     * @return the port the handshake succeeded on, or null if the wait was canceled
+     * @throws Exception if the JVM did not accept a connection before the timeout
+     */
+    public Integer await() throws Exception {
+        deadline = System.nanoTime() + timeoutNanos;
+        try (WatchService watchService = FileSystems.getDefault().newWatchService()) {
+            Set<Path> watchedDirectories = new HashSet<>();
+
+            Path serverDirectory = getServerDirectory();
+            // If the server.env has not been created yet then someone did a 'clean' before starting
+            boolean cleanStart = serverDirectory == null
+                    || !Files.exists(serverDirectory.resolve(DebugModeHandler.WLP_SERVER_ENV_FILE_NAME));
+            while (serverDirectory == null) {
+                if (!waitForChange(watchService, watchedDirectories, pluginConfigPath)) {
+                    return null;
+                }
+                serverDirectory = getServerDirectory();
+            }
+
+            Path serverEnvPath = serverDirectory.resolve(DebugModeHandler.WLP_SERVER_ENV_FILE_NAME);
+            // server.env.bak only exists when dev mode is running, assuming dev mode did not crash. If it did crash we will
+            // be trying the old port number until dev mode really updates the server.env. This is the risk we assume in
+            // the case of catastrophic failure.
+            Path startedMarker = cleanStart ? serverEnvPath
+                    : serverDirectory.resolve(DebugModeHandler.WLP_SERVER_ENV_BAK_FILE_NAME);
+            while (!Files.exists(startedMarker)) {
+                if (!waitForChange(watchService, watchedDirectories, startedMarker)) {
+                    return null;
+                }
+            }
+            return connect(serverEnvPath);
+        }
+    }
+
+    /**
+     * Attempts the JDWP handshake with an exponential backoff. After dev mode starts it still takes a few seconds for
+     * the runtime to start.
+     */
+    private Integer connect(Path serverEnvPath) throws Exception {
+        long backoff = INITIAL_BACKOFF_MILLIS;
+        int port = debugPort;
+        while (true) {
+            if (canceled.getAsBoolean()) {
+                return null;
+            }
+            // There is a small window in which the allocated random port could have been taken by another process.
+            // If the port is already in use, dev mode allocates a random debug port and updates the server.env file.
+            String envPortStr = readDebugPortFromServerEnv(serverEnvPath);
+            if (envPortStr != null) {
+                port = Integer.parseInt(envPortStr);
+            }
+            Socket socket = tryConnect(port);
+            if (socket != null) {
+                // a failed handshake is not retried
+                try (socket) {
+                    socket.getOutputStream().write(JDWP_HANDSHAKE);
+                    return port;
+                }
+            }
+            long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (remaining <= 0) {
+                throw new Exception(LocalizedResourceUtil.getMessage("cannot.attach.debugger.host.port", host,
+                        String.format("%d", port)));
+            }
+            TimeUnit.MILLISECONDS.sleep(Math.min(backoff, remaining));
+            backoff = Math.min(backoff * 2, MAX_BACKOFF_MILLIS);
+        }
+    }
+
+    /**
+     * Returns a socket connected to the given port, or null if the connection was refused while the runtime is
+     * starting, or timed out while the runtime is too busy to accept it.
+     */
+    private Socket tryConnect(int port) {
+        Socket socket = new Socket();
+        try {
+            socket.connect(new InetSocketAddress(host, port), CONNECT_TIMEOUT_MILLIS);
+            return socket;
+        } catch (IOException e) {
+            LOGGER.trace(String.format("%s waiting for runtime to start on port %d", e.getClass().getSimpleName(), port));
+            try {
+                socket.close();
+            } catch (IOException ignored) {
+                // the socket was not connected
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Waits until a file system event is received for the directory of the given file, or the poll interval elapsed.
+     *
+     * @return false if the wait was canceled
+     * @throws Exception if the timeout was reached
+     */
+    private boolean waitForChange(WatchService watchService, Set<Path> watchedDirectories, Path file) throws Exception {
+        if (canceled.getAsBoolean()) {
+            return false;
+        }
+        if (System.nanoTime() - deadline >= 0) {
+            throw new Exception(LocalizedResourceUtil.getMessage("cannot.attach.debugger.host.port", host,
+                    String.format("%d", debugPort)));
+        }
+        Path directory = file.getParent();
+        if (directory != null && !watchedDirectories.contains(directory) && Files.isDirectory(directory)) {
+            try {
+                directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+                watchedDirectories.add(directory);
+            } catch (IOException e) {
+                LOGGER.trace(String.format("Unable to watch %s, polling instead", directory), e);
+            }
+        }
+        WatchKey key = watchService.poll(WATCH_POLL_MILLIS, TimeUnit.MILLISECONDS);
+        if (key != null) {
+            key.pollEvents();
+            if (!key.reset()) {
+                // the directory was deleted, watch it again once it is recreated
+                watchedDirectories.remove((Path) key.watchable());
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the server directory read from liberty-plugin-config.xml, or null if the file does not exist yet or
+     * does not define the server directory.
+     */
+    private Path getServerDirectory() {
+        if (!Files.exists(pluginConfigPath)) {
+            return null;
+        }
+        try {
+            DocumentBuilderFactory documentBuilderFactory = DocumentBuilderFactory.newDefaultInstance();
+            documentBuilderFactory.setAttribute(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+            Document document = documentBuilderFactory.newDocumentBuilder().parse(pluginConfigPath.toFile());
+            NodeList nodeList = document.getElementsByTagName("serverDirectory");
+            if (nodeList.getLength() > 0) {
+                String serverDirectory = nodeList.item(0).getTextContent().trim();
+                if (!serverDirectory.isEmpty()) {
+                    return Paths.get(serverDirectory);
+                }
+            }
+        } catch (Exception e) {
+            // the file may still be being written
+            LOGGER.trace("Unable to find serverDirectory from liberty-plugin-config file");
+        }
+        return null;
+    }
+
+    /**
+     * Returns the port value associated with the WLP_DEBUG_ADDRESS entry in server.env. Null if not found. If there
+     * are multiple WLP_DEBUG_ADDRESS entries, the last entry is returned.
+     */
+    private static String readDebugPortFromServerEnv(Path serverEnv) throws IOException {
+        if (!Files.exists(serverEnv)) {
+            return null;
+        }
+        String lastEntry = null;
+        try (BufferedReader reader = Files.newBufferedReader(serverEnv, StandardCharsets.ISO_8859_1)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.contains(WLP_ENV_DEBUG_ADDRESS)) {
+                    lastEntry = line;
+                }
+            }
+        }
+        if (lastEntry != null) {
+            String[] parts = lastEntry.split("=");
+            if (parts.length > 1) {
+                return parts[1].trim();
+            }
+        }
+        return null;
+    }
+}
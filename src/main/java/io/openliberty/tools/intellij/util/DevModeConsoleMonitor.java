@@ -0,0 +1,199 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.util;
+
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Disposer;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import com.intellij.util.messages.Topic;
+import com.jediterm.terminal.model.TerminalLine;
+import com.jediterm.terminal.model.TerminalModelListener;
+import com.jediterm.terminal.model.TerminalTextBuffer;
+import io.openliberty.tools.intellij.LibertyModule;
+import org.jetbrains.plugins.terminal.ShellTerminalWidget;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.IntFunction;
+
+/**
+ * Follows the output of the terminal running dev mode for a Liberty module and
+ * publishes the recognised {@link DevModeEvent}s on the project message bus.
+ *
+ * <p>
+ * The terminal text buffer notifies every change to the screen, so changes are
+ * coalesced and the lines completed since the previous scan are read at most
+ * every {@link #SCAN_DELAY_MILLIS} milliseconds. Events are published on a
+ * background thread.
+ * </p>
+ */
+public class DevModeConsoleMonitor implements TerminalModelListener, Disposable {
+    private static final Logger LOGGER = Logger.getInstance(DevModeConsoleMonitor.class);
+
+    public interface Listener {
+        void devModeEvent(LibertyModule libertyModule, DevModeEvent event);
+    }
+
+    public static final Topic<Listener> TOPIC = Topic.create(DevModeConsoleMonitor.class.getName(), Listener.class);
+
+    private static final long SCAN_DELAY_MILLIS = 100;
+
+    private static final int WINDOW_LINES = 16;
+
+    private final LibertyModule libertyModule;
+
+    private final ShellTerminalWidget widget;
+
+    private final TerminalTextBuffer textBuffer;
+
+    private final DevModeOutputParser parser;
+
+    private final AtomicBoolean scanScheduled = new AtomicBoolean();
+
+    // Index of the next line to parse, counting the history lines of the buffer
+    private int nextLine;
+
+    // Text of the last parsed lines, used to find the next line when the history is trimmed or cleared
+    private final Deque<String> lastLines = new ArrayDeque<>();
+
+    private volatile boolean disposed;
+
+    /**
+     * Starts following the output of the given terminal, until the terminal is disposed.
+     *
+     * @param libertyModule Liberty module running in the terminal
+     * @param widget        terminal used to run dev mode
+     */
+    public static void attach(LibertyModule libertyModule, ShellTerminalWidget widget) {
+        DevModeConsoleMonitor monitor = new DevModeConsoleMonitor(libertyModule, widget);
+        monitor.textBuffer.addModelListener(monitor);
+        Disposer.register(widget, monitor);
+    }
+
+    private DevModeConsoleMonitor(LibertyModule libertyModule, ShellTerminalWidget widget) {
+        this.libertyModule = libertyModule;
+        this.widget = widget;
+        this.textBuffer = widget.getTerminalTextBuffer();
+        this.parser = new DevModeOutputParser(this::publish);
+    }
+
+    @Override
+    public void modelChanged() {
+        if (!disposed && scanScheduled.compareAndSet(false, true)) {
+            AppExecutorUtil.getAppScheduledExecutorService().schedule(this::scan, SCAN_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public void dispose() {
+        disposed = true;
+        textBuffer.removeModelListener(this);
+    }
+
+    private synchronized void scan() {
+        scanScheduled.set(false);
+        if (disposed) {
+            return;
+        }
+        List<TerminalLine> lines = new ArrayList<>();
+        textBuffer.lock();
+        try {
+            int historyLines = textBuffer.getHistoryLinesCount();
+            // the line of the cursor is still being written
+            int completedLines = historyLines + Math.max(widget.getTerminal().getCursorY() - 1, 0);
+            relocateNextLine(historyLines, completedLines);
+            for (; nextLine < completedLines; nextLine++) {
+                TerminalLine line = textBuffer.getLine(nextLine - historyLines);
+                lines.add(line);
+                lastLines.addLast(line.getText());
+                if (lastLines.size() > WINDOW_LINES) {
+                    lastLines.removeFirst();
+                }
+            }
+        } finally {
+            textBuffer.unlock();
+        }
+        try {
+            for (TerminalLine line : lines) {
+                parser.accept(line.getText());
+                // wrapped lines continue on the next line of the buffer
+                if (!line.isWrapped()) {
+                    parser.endLine();
+                }
+            }
+        } catch (RuntimeException e) {
+            LOGGER.warn(String.format("Unable to parse the dev mode output of %s", libertyModule.getName()), e);
+        }
+    }
+
+    /**
+     * Once the history is full, the oldest lines are dropped and the index of the lines already parsed decreases.
+     * Dev mode often prints identical lines, so the last parsed lines are searched for as a whole above their
+     * previous position; if they are no longer in the buffer (e.g. the terminal was cleared), parsing resumes at
+     * the line of the cursor.
+     */
+    private void relocateNextLine(int historyLines, int completedLines) {
+        if (lastLines.isEmpty()) {
+            return;
+        }
+        int totalLines = historyLines + textBuffer.getScreenLinesCount();
+        int next = findNextLine(new ArrayList<>(lastLines), Math.min(nextLine, totalLines),
+                index -> textBuffer.getLine(index - historyLines).getText());
+        if (next < 0) {
+            nextLine = completedLines;
+            lastLines.clear();
+        } else {
+            nextLine = next;
+        }
+    }
+
+    /**
+     * Returns the index of the line following the given parsed lines in the buffer.
+     *
+     * <p>
+     * Lines are only dropped from the top of the buffer, so the candidates are tried from the previous index
+     * upwards. A candidate matches when the lines above it are the last parsed lines, or their most recent part
+     * when the oldest ones were dropped.
+     * </p>
+     *
+     * @param parsedLines  text of the last parsed lines, oldest first
+     * @param previousNext index of the next line before lines were dropped
+     * @param lineText     text of the line at the given index of the buffer
+     * @return the index of the next line to parse, or -1 if the parsed lines are no longer in the buffer
+     */
+    static int findNextLine(List<String> parsedLines, int previousNext, IntFunction<String> lineText) {
+        for (int next = previousNext; next > 0; next--) {
+            int count = Math.min(next, parsedLines.size());
+            boolean matches = true;
+            for (int i = 1; i <= count && matches; i++) {
+                matches = parsedLines.get(parsedLines.size() - i).equals(lineText.apply(next - i));
+            }
+            if (matches) {
+                return next;
+            }
+        }
+        return -1;
+    }
+
+    private void publish(DevModeEvent event) {
+        Project project = libertyModule.getProject();
+        if (disposed || project.isDisposed()) {
+            return;
+        }
+        LOGGER.debug(String.format("Dev mode event %s for %s", event.kind(), libertyModule.getName()));
+        project.getMessageBus().syncPublisher(TOPIC).devModeEvent(libertyModule, event);
+    }
+}
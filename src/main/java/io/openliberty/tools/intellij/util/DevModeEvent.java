@@ -0,0 +1,51 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.util;
+
+/**
+ * Lifecycle event recognised in the output of dev mode.
+ *
+ * @param kind            kind of the event
+ * @param messageCode     Liberty message code (e.g. CWWKZ0003I), or null for dev mode messages
+ * @param application     name of the application for application events, or null
+ * @param timestampMillis time the line was parsed, in milliseconds
+ * @param durationMillis  duration reported by the message in milliseconds, or -1 if the message has none
+ * @param message         text of the line starting at the message code
+ */
+public record DevModeEvent(Kind kind, String messageCode, String application, long timestampMillis,
+                           long durationMillis, String message) {
+
+    public enum Kind {
+        /** CWWKE0001I: the server has been launched */
+        SERVER_LAUNCHED,
+        /** CWWKF0011I: the server is ready to run a smarter planet */
+        SERVER_STARTED,
+        /** CWWKE0036I: the server stopped */
+        SERVER_STOPPED,
+        /** CWWKZ0001I: an application started */
+        APPLICATION_STARTED,
+        /** CWWKZ0003I: an application was updated */
+        APPLICATION_UPDATED,
+        /** CWWKZ0009I: an application stopped */
+        APPLICATION_STOPPED,
+        /** CWWKZ0002E, CWWKZ0004E: an application failed to start */
+        APPLICATION_FAILED,
+        /** Dev mode finished starting and is watching for changes */
+        DEV_MODE_STARTED,
+        /** Dev mode compiled the source or test classes */
+        COMPILATION_SUCCEEDED,
+        /** Dev mode failed to compile the source or test classes */
+        COMPILATION_FAILED
+    }
+
+    public boolean hasDuration() {
+        return durationMillis >= 0;
+    }
+}
@@ -0,0 +1,277 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.util;
+
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Streaming parser of the console output of dev mode.
+ *
+ * <p>
+ * Output can be passed in chunks of any size; a line is parsed once its line
+ * terminator has been received. ANSI escape sequences are dropped. Characters
+ * are accumulated in a single reused buffer and strings are only allocated for
+ * lines which produce a {@link DevModeEvent}.
+ * </p>
+ */
+public class DevModeOutputParser {
+
+    // Longer lines are truncated, the message code and duration are at the start of Liberty messages
+    private static final int MAX_LINE_LENGTH = 8 * 1024;
+
+    private static final char ESC = '\u001B';
+    private static final char BEL = '\u0007';
+
+    private record CodeRule(String code, DevModeEvent.Kind kind) {
+    }
+
+    private record MarkerRule(String marker, DevModeEvent.Kind kind) {
+    }
+
+    private static final CodeRule[] CODE_RULES = {
+            new CodeRule("CWWKE0001I", DevModeEvent.Kind.SERVER_LAUNCHED),
+            new CodeRule("CWWKF0011I", DevModeEvent.Kind.SERVER_STARTED),
+            new CodeRule("CWWKE0036I", DevModeEvent.Kind.SERVER_STOPPED),
+            new CodeRule("CWWKZ0001I", DevModeEvent.Kind.APPLICATION_STARTED),
+            new CodeRule("CWWKZ0003I", DevModeEvent.Kind.APPLICATION_UPDATED),
+            new CodeRule("CWWKZ0009I", DevModeEvent.Kind.APPLICATION_STOPPED),
+            new CodeRule("CWWKZ0002E", DevModeEvent.Kind.APPLICATION_FAILED),
+            new CodeRule("CWWKZ0004E", DevModeEvent.Kind.APPLICATION_FAILED)
+    };
+
+    // Messages printed by the Liberty Maven and Gradle plugins, which do not have message codes
+    private static final MarkerRule[] MARKER_RULES = {
+            new MarkerRule("Liberty is running in dev mode.", DevModeEvent.Kind.DEV_MODE_STARTED),
+            new MarkerRule("compilation was successful.", DevModeEvent.Kind.COMPILATION_SUCCEEDED),
+            new MarkerRule("compilation had errors.", DevModeEvent.Kind.COMPILATION_FAILED)
+    };
+
+    private static final String APPLICATION_PREFIX = "pplication ";
+
+    private enum EscapeState {NONE, ESCAPE, CSI, OSC, OSC_ESCAPE}
+
+    private final Consumer<DevModeEvent> consumer;
+
+    private final LongSupplier clock;
+
+    private final StringBuilder line = new StringBuilder(256);
+
+    private EscapeState escapeState = EscapeState.NONE;
+
+    /**
+     * @param consumer receives the events in the order of the output
+     * @param clock    current time in milliseconds, used for the event timestamps
+     */
+    public DevModeOutputParser(Consumer<DevModeEvent> consumer, LongSupplier clock) {
+        this.consumer = consumer;
+        this.clock = clock;
+    }
+
+    public DevModeOutputParser(Consumer<DevModeEvent> consumer) {
+        this(consumer, System::currentTimeMillis);
+    }
+
+    /**
+     * Parses the next chunk of output.
+     */
+    public void accept(CharSequence chunk) {
+        accept(chunk, 0, chunk.length());
+    }
+
+    /**
+     * Parses the characters of the given chunk from start (inclusive) to end (exclusive).
+     */
+    public void accept(CharSequence chunk, int start, int end) {
+        for (int i = start; i < end; i++) {
+            char c = chunk.charAt(i);
+            switch (escapeState) {
+                case ESCAPE -> escapeState = c == '[' ? EscapeState.CSI : c == ']' ? EscapeState.OSC : EscapeState.NONE;
+                case CSI -> {
+                    // parameter and intermediate bytes until the final byte
+                    if (c >= '@' && c <= '~') {
+                        escapeState = EscapeState.NONE;
+                    }
+                }
+                case OSC -> {
+                    if (c == BEL) {
+                        escapeState = EscapeState.NONE;
+                    } else if (c == ESC) {
+                        escapeState = EscapeState.OSC_ESCAPE;
+                    }
+                }
+                case OSC_ESCAPE -> escapeState = c == '\\' ? EscapeState.NONE : EscapeState.OSC;
+                case NONE -> {
+                    if (c == '\n' || c == '\r') {
+                        endLine();
+                    } else if (c == ESC) {
+                        escapeState = EscapeState.ESCAPE;
+                    } else if (line.length() < MAX_LINE_LENGTH) {
+                        line.append(c);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Parses the pending characters as a complete line, e.g. when the output ends without a line terminator.
+     */
+    public void endLine() {
+        if (!line.isEmpty()) {
+            parseLine();
+            line.setLength(0);
+        }
+    }
+
+    private void parseLine() {
+        int codeStart = findMessageCode(line);
+        if (codeStart >= 0) {
+            for (CodeRule rule : CODE_RULES) {
+                if (regionEquals(line, codeStart, rule.code())) {
+                    publish(rule.kind(), rule.code(), codeStart);
+                    return;
+                }
+            }
+            return;
+        }
+        for (MarkerRule rule : MARKER_RULES) {
+            if (line.indexOf(rule.marker()) >= 0) {
+                publish(rule.kind(), null, 0);
+                return;
+            }
+        }
+    }
+
+    private void publish(DevModeEvent.Kind kind, String code, int messageStart) {
+        String application = null;
+        long durationMillis = -1;
+        switch (kind) {
+            case APPLICATION_STARTED, APPLICATION_UPDATED -> {
+                application = findApplication(line, messageStart);
+                durationMillis = findDurationMillis(line, messageStart);
+            }
+            case APPLICATION_STOPPED, APPLICATION_FAILED -> application = findApplication(line, messageStart);
+            case SERVER_STARTED -> durationMillis = findDurationMillis(line, messageStart);
+            default -> {
+            }
+        }
+        String message = line.substring(messageStart).trim();
+        consumer.accept(new DevModeEvent(kind, code, application, clock.getAsLong(), durationMillis, message));
+    }
+
+    /**
+     * Returns the index of the first Liberty message code followed by a colon, e.g. "CWWKZ0003I:", or -1.
+     * Message codes are four or five upper case letters, four digits and a severity letter.
+     */
+    static int findMessageCode(CharSequence text) {
+        int length = text.length();
+        for (int i = 0; i + 10 <= length; i++) {
+            if (i > 0 && Character.isLetterOrDigit(text.charAt(i - 1))) {
+                continue;
+            }
+            int letters = 0;
+            while (letters < 5 && i + letters < length && isUpperCase(text.charAt(i + letters))) {
+                letters++;
+            }
+            if (letters < 4) {
+                continue;
+            }
+            int end = i + letters + 5;
+            if (end >= length || text.charAt(end) != ':') {
+                continue;
+            }
+            boolean digits = true;
+            for (int j = i + letters; j < end - 1 && digits; j++) {
+                digits = Character.isDigit(text.charAt(j));
+            }
+            if (digits && isUpperCase(text.charAt(end - 1))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the word following "application " in the message, or null. Only English messages name the
+     * application in a known position.
+     */
+    private static String findApplication(StringBuilder text, int from) {
+        int index = text.indexOf(APPLICATION_PREFIX, from);
+        if (index < 0) {
+            return null;
+        }
+        int start = index + APPLICATION_PREFIX.length();
+        int end = start;
+        while (end < text.length() && !Character.isWhitespace(text.charAt(end))) {
+            end++;
+        }
+        // the application name ends the sentence in some messages
+        while (end > start && text.charAt(end - 1) == '.') {
+            end--;
+        }
+        return end > start ? text.substring(start, end) : null;
+    }
+
+    /**
+     * Returns the last decimal number of the message, which is the duration in seconds of the Liberty start and
+     * update messages in all languages, converted to milliseconds, or -1.
+     */
+    static long findDurationMillis(CharSequence text, int from) {
+        for (int end = text.length(); end > from; end--) {
+            if (!Character.isDigit(text.charAt(end - 1))) {
+                continue;
+            }
+            // scan back over the fraction digits to the decimal separator
+            int separator = end - 1;
+            while (separator > from && Character.isDigit(text.charAt(separator - 1))) {
+                separator--;
+            }
+            separator--;
+            if (separator <= from || (text.charAt(separator) != '.' && text.charAt(separator) != ',')
+                    || !Character.isDigit(text.charAt(separator - 1))) {
+                end = separator + 1;
+                continue;
+            }
+            int start = separator;
+            while (start > from && Character.isDigit(text.charAt(start - 1))) {
+                start--;
+            }
+            long seconds = 0;
+            for (int i = start; i < separator; i++) {
+                seconds = seconds * 10 + (text.charAt(i) - '0');
+            }
+            // keep millisecond precision
+            long millis = 0;
+            int scale = 100;
+            for (int i = separator + 1; i < end && scale > 0; i++, scale /= 10) {
+                millis += (text.charAt(i) - '0') * scale;
+            }
+            return seconds * 1000 + millis;
+        }
+        return -1;
+    }
+
+    private static boolean isUpperCase(char c) {
+        return c >= 'A' && c <= 'Z';
+    }
+
+    private static boolean regionEquals(CharSequence text, int start, String value) {
+        if (start + value.length() > text.length()) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (text.charAt(start + i) != value.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
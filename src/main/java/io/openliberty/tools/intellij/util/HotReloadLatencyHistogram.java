@@ -0,0 +1,113 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.util;
+
+import java.util.Arrays;
+
+/**
+ * Rolling histogram of the most recent hot reload latencies of a Liberty module.
+ * Older samples are dropped once the window is full, so that the statistics
+ * follow the current state of the project.
+ */
+public class HotReloadLatencyHistogram {
+
+    public static final int DEFAULT_WINDOW_SIZE = 100;
+
+    // Upper bounds (inclusive) of the buckets in milliseconds, the last bucket has no upper bound
+    private static final long[] BUCKET_BOUNDS = {250, 500, 1000, 2000, 5000, 10000, 30000};
+
+    private final long[] samples;
+
+    private int count;
+
+    private int next;
+
+    private long last = -1;
+
+    public HotReloadLatencyHistogram() {
+        this(DEFAULT_WINDOW_SIZE);
+    }
+
+    public HotReloadLatencyHistogram(int windowSize) {
+        samples = new long[windowSize];
+    }
+
+    public synchronized void add(long latencyMillis) {
+        samples[next] = latencyMillis;
+        next = (next + 1) % samples.length;
+        count = Math.min(count + 1, samples.length);
+        last = latencyMillis;
+    }
+
+    public synchronized void clear() {
+        count = 0;
+        next = 0;
+        last = -1;
+    }
+
+    /**
+     * @return the number of samples in the window
+     */
+    public synchronized int getCount() {
+        return count;
+    }
+
+    /**
+     * @return the latest sample, or -1 if there is none
+     */
+    public synchronized long getLast() {
+        return last;
+    }
+
+    /**
+     * Returns the given percentile of the samples in the window, using the nearest rank method.
+     *
+     * @param percentile percentile between 0 and 100
+     * @return the percentile in milliseconds, or -1 if there are no samples
+     */
+    public long getPercentile(double percentile) {
+        long[] sorted = getSortedSamples();
+        if (sorted.length == 0) {
+            return -1;
+        }
+        int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+        return sorted[Math.min(Math.max(rank, 1), sorted.length) - 1];
+    }
+
+    /**
+     * @return the number of samples in the window in each bucket, see {@link #getBucketLabels()}
+     */
+    public long[] getBucketCounts() {
+        long[] counts = new long[BUCKET_BOUNDS.length + 1];
+        for (long sample : getSortedSamples()) {
+            int bucket = Arrays.binarySearch(BUCKET_BOUNDS, sample);
+            counts[bucket >= 0 ? bucket : -bucket - 1]++;
+        }
+        return counts;
+    }
+
+    /**
+     * @return the labels of the buckets, e.g. "<=250ms" and ">30000ms"
+     */
+    public static String[] getBucketLabels() {
+        String[] labels = new String[BUCKET_BOUNDS.length + 1];
+        for (int i = 0; i < BUCKET_BOUNDS.length; i++) {
+            labels[i] = "<=" + BUCKET_BOUNDS[i] + "ms";
+        }
+        labels[BUCKET_BOUNDS.length] = ">" + BUCKET_BOUNDS[BUCKET_BOUNDS.length - 1] + "ms";
+        return labels;
+    }
+
+    private synchronized long[] getSortedSamples() {
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        return sorted;
+    }
+}
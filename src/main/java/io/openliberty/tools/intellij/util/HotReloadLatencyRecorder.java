@@ -0,0 +1,164 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Matches source file saves with the dev mode events of a Liberty module to
+ * measure the hot reload latency: the time from the first save after the
+ * previous update to the next "application updated" message.
+ *
+ * <p>
+ * Several saves before an update are coalesced by dev mode into a single
+ * recompilation, so only the first one is measured. A failed compilation or
+ * application start discards the pending save, as the update that follows
+ * depends on further edits. The pending save is also discarded when the server
+ * starts or stops, since the changes saved while it was stopped are deployed by
+ * the start rather than by a hot reload, and when it is older than
+ * {@link #MAX_LATENCY_MILLIS}, since it did not trigger an update.
+ * </p>
+ */
+public class HotReloadLatencyRecorder {
+
+    /**
+     * Latency statistics of a module.
+     *
+     * @param key       identifier of the module, the path of its build file
+     * @param name      display name of the module
+     * @param histogram latencies of the module
+     */
+    public record ModuleLatency(String key, String name, HotReloadLatencyHistogram histogram) {
+    }
+
+    /**
+     * Maximum time between a save and the update it triggered.
+     */
+    public static final long MAX_LATENCY_MILLIS = TimeUnit.MINUTES.toMillis(5);
+
+    private static final long NO_PENDING_SAVE = Long.MIN_VALUE;
+
+    private static class ModuleState {
+        final ModuleLatency latency;
+        long pendingSave = NO_PENDING_SAVE;
+
+        ModuleState(String key, String name) {
+            latency = new ModuleLatency(key, name, new HotReloadLatencyHistogram());
+        }
+    }
+
+    private final Map<String, ModuleState> modules = new ConcurrentHashMap<>();
+
+    /**
+     * Records that a source file of the module was saved.
+     *
+     * @param key        identifier of the module
+     * @param name       display name of the module
+     * @param timeMillis time of the save in milliseconds
+     */
+    public void sourceSaved(String key, String name, long timeMillis) {
+        ModuleState state = modules.computeIfAbsent(key, k -> new ModuleState(k, name));
+        synchronized (state) {
+            if (state.pendingSave == NO_PENDING_SAVE || timeMillis - state.pendingSave > MAX_LATENCY_MILLIS) {
+                state.pendingSave = timeMillis;
+            }
+        }
+    }
+
+    /**
+     * Records an event printed by dev mode for the module.
+     *
+     * @param key   identifier of the module
+     * @param event dev mode event
+     * @return the latency recorded for the event in milliseconds, or -1 if the event did not complete a hot reload
+     */
+    public long devModeEvent(String key, DevModeEvent event) {
+        ModuleState state = modules.get(key);
+        if (state == null) {
+            return -1;
+        }
+        synchronized (state) {
+            switch (event.kind()) {
+                case APPLICATION_UPDATED -> {
+                    if (state.pendingSave == NO_PENDING_SAVE) {
+                        return -1;
+                    }
+                    long latency = Math.max(event.timestampMillis() - state.pendingSave, 0);
+                    state.pendingSave = NO_PENDING_SAVE;
+                    if (latency > MAX_LATENCY_MILLIS) {
+                        return -1;
+                    }
+                    state.latency.histogram().add(latency);
+                    return latency;
+                }
+                case COMPILATION_FAILED, APPLICATION_FAILED, SERVER_LAUNCHED, SERVER_STARTED, SERVER_STOPPED ->
+                        state.pendingSave = NO_PENDING_SAVE;
+                default -> {
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return the latency statistics of the modules with at least one save
+     */
+    public List<ModuleLatency> getModuleLatencies() {
+        List<ModuleLatency> latencies = new ArrayList<>();
+        for (ModuleState state : modules.values()) {
+            latencies.add(state.latency);
+        }
+        latencies.sort((l1, l2) -> l1.name().compareToIgnoreCase(l2.name()));
+        return latencies;
+    }
+
+    public void clear() {
+        modules.clear();
+    }
+
+    /**
+     * Formats the statistics of the modules as CSV, one row per module.
+     *
+     * @return the CSV text with a header row
+     */
+    public String toCsv() {
+        StringBuilder csv = new StringBuilder("module,build file,samples,last ms,p50 ms,p90 ms,max ms");
+        for (String label : HotReloadLatencyHistogram.getBucketLabels()) {
+            csv.append(',').append(label);
+        }
+        csv.append('\n');
+        for (ModuleLatency latency : getModuleLatencies()) {
+            HotReloadLatencyHistogram histogram = latency.histogram();
+            csv.append(csvValue(latency.name())).append(',')
+                    .append(csvValue(latency.key())).append(',')
+                    .append(histogram.getCount()).append(',')
+                    .append(histogram.getLast()).append(',')
+                    .append(histogram.getPercentile(50)).append(',')
+                    .append(histogram.getPercentile(90)).append(',')
+                    .append(histogram.getPercentile(100));
+            for (long bucketCount : histogram.getBucketCounts()) {
+                csv.append(',').append(bucketCount);
+            }
+            csv.append('\n');
+        }
+        return csv.toString();
+    }
+
+    private static String csvValue(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,149 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.util;
+
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VirtualFileManager;
+import com.intellij.openapi.vfs.newvfs.BulkFileListener;
+import com.intellij.openapi.vfs.newvfs.events.VFileContentChangeEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFileEvent;
+import com.intellij.util.messages.Topic;
+import io.openliberty.tools.intellij.LibertyModule;
+import io.openliberty.tools.intellij.LibertyModules;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * Measures the hot reload latency of the Liberty modules running in dev mode,
+ * from the save of a source file (a VFS content change in a directory of the
+ * module which dev mode redeploys the application for) to the next "application
+ * updated" message in the dev mode terminal.
+ */
+public class HotReloadLatencyTracker implements BulkFileListener, Disposable {
+
+    public interface Listener {
+        void latencyRecorded(LibertyModule libertyModule, long latencyMillis);
+    }
+
+    public static final Topic<Listener> TOPIC = Topic.create(HotReloadLatencyTracker.class.getName(), Listener.class);
+
+    /**
+     * Starts the tracker when dev mode prints its first event, so that saves are only followed once dev mode runs.
+     */
+    public static class DevModeListener implements DevModeConsoleMonitor.Listener {
+        private final Project project;
+
+        public DevModeListener(Project project) {
+            this.project = project;
+        }
+
+        @Override
+        public void devModeEvent(LibertyModule libertyModule, DevModeEvent event) {
+            getInstance(project).devModeEvent(libertyModule, event);
+        }
+    }
+
+    // Directories of a module whose changes update the application. Changes to tests only run the tests, and
+    // changes to the server configuration are applied without an application update.
+    private static final List<String> HOT_RELOAD_SOURCE_DIRECTORIES = List.of("/src/main/java/",
+            "/src/main/resources/", "/src/main/webapp/");
+
+    private final Project project;
+
+    private final HotReloadLatencyRecorder recorder = new HotReloadLatencyRecorder();
+
+    public static HotReloadLatencyTracker getInstance(Project project) {
+        return project.getService(HotReloadLatencyTracker.class);
+    }
+
+    public HotReloadLatencyTracker(Project project) {
+        this.project = project;
+        ApplicationManager.getApplication().getMessageBus().connect(this)
+                .subscribe(VirtualFileManager.VFS_CHANGES, this);
+    }
+
+    @Override
+    public void dispose() {
+        recorder.clear();
+    }
+
+    public HotReloadLatencyRecorder getRecorder() {
+        return recorder;
+    }
+
+    @Override
+    public void after(@NotNull List<? extends VFileEvent> events) {
+        long now = System.currentTimeMillis();
+        List<LibertyModule> libertyModules = null;
+        for (VFileEvent event : events) {
+            if (!(event instanceof VFileContentChangeEvent)) {
+                continue;
+            }
+            if (libertyModules == null) {
+                libertyModules = LibertyModules.getInstance().getLibertyModules(project);
+            }
+            LibertyModule libertyModule = findModule(libertyModules, event.getPath());
+            if (libertyModule != null) {
+                recorder.sourceSaved(libertyModule.getBuildFile().getPath(), libertyModule.getName(), now);
+            }
+        }
+    }
+
+    private void devModeEvent(LibertyModule libertyModule, DevModeEvent event) {
+        if (libertyModule.getBuildFile() == null) {
+            return;
+        }
+        long latency = recorder.devModeEvent(libertyModule.getBuildFile().getPath(), event);
+        if (latency >= 0 && !project.isDisposed()) {
+            project.getMessageBus().syncPublisher(TOPIC).latencyRecorded(libertyModule, latency);
+        }
+    }
+
+    /**
+     * Returns the module with the most specific directory containing the given file in its hot reload source
+     * directories, or null.
+     */
+    private static LibertyModule findModule(List<LibertyModule> libertyModules, String path) {
+        LibertyModule found = null;
+        int foundLength = -1;
+        for (LibertyModule libertyModule : libertyModules) {
+            VirtualFile buildFile = libertyModule.getBuildFile();
+            VirtualFile moduleDirectory = buildFile != null ? buildFile.getParent() : null;
+            if (moduleDirectory == null) {
+                continue;
+            }
+            String moduleDirectoryPath = moduleDirectory.getPath();
+            if (moduleDirectoryPath.length() > foundLength && isHotReloadSource(moduleDirectoryPath, path)) {
+                found = libertyModule;
+                foundLength = moduleDirectoryPath.length();
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Returns true if a change to the given file updates the application of the module in the given directory.
+     */
+    static boolean isHotReloadSource(String moduleDirectory, String path) {
+        if (!path.startsWith(moduleDirectory)) {
+            return false;
+        }
+        for (String sourceDirectory : HOT_RELOAD_SOURCE_DIRECTORIES) {
+            if (path.startsWith(sourceDirectory, moduleDirectory.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -15,10 +15,11 @@ import com.intellij.openapi.util.SystemInfo;
 import com.intellij.openapi.vfs.VirtualFile;
 
 import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Properties;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import org.apache.maven.artifact.versioning.ComparableVersion;
 import org.jetbrains.plugins.gradle.settings.DistributionType;
@@ -28,6 +29,12 @@ import org.jetbrains.plugins.gradle.settings.GradleSettings;
 public class LibertyGradleUtil {
     private static Logger LOGGER = Logger.getInstance(LibertyGradleUtil.class);
 
+    private static final String GRADLE_LIBERTY_PLUGIN_ID = "io.openliberty.tools.gradle.Liberty";
+    private static final String LIBERTY_GRADLE_PLUGIN_GROUP = "io.openliberty.tools";
+    private static final String LIBERTY_GRADLE_PLUGIN_NAME = "liberty-gradle-plugin";
+    private static final String LIBERTY_GRADLE_PLUGIN_COORDINATES = LIBERTY_GRADLE_PLUGIN_GROUP + ":" + LIBERTY_GRADLE_PLUGIN_NAME;
+    private static final Pattern SURROUNDING_QUOTES_PATTERN = Pattern.compile("^[\"']+|[\"']+$");
+
     /**
      * Given the gradle build file get the project name
      * This method looks for a settings.gradle file in the same parent dir
@@ -48,7 +55,7 @@ public class LibertyGradleUtil {
                 String name = prop.getProperty("rootProject.name");
                 if (name != null) {
                     // return name without surrounding quotes
-                    return name.replaceAll("^[\"']+|[\"']+$", "");
+                    return SURROUNDING_QUOTES_PATTERN.matcher(name).replaceAll("");
                 }
             } catch (IOException e) {
                 LOGGER.error(String.format("Could not read project name from file %s", settingsPath), e);
@@ -91,85 +98,210 @@ public class LibertyGradleUtil {
      * @throws IOException
      */
     public static BuildFile validBuildGradle(VirtualFile file) throws IOException {
-            String buildFile = fileToString(file.getPath());
-            if (buildFile.isEmpty()) { return (new BuildFile(false, false)); }
+        return validBuildGradle(new String(Files.readAllBytes(Paths.get(file.getPath())), StandardCharsets.UTF_8));
+    }
 
-            // instead of iterating over capture groups in a plugin{}, search directly
-            // look for our plugin not defined in a line comment. if defined, grab version # from Group 2
-            String negativeLineCommentLookBehind = "(?<!//\\s*)";
-            String gradleLibertyPluginId = "id\\s*[\'\"]io\\.openliberty\\.tools\\.gradle\\.Liberty[\'\"]";
-            String optionalVersion = "(\\s+version\\s+[\'\"](.*)[\'\"])?";
-            Pattern gradleLibertyPluginIdPattern = Pattern.compile(negativeLineCommentLookBehind + gradleLibertyPluginId + optionalVersion);
-            Matcher gradleLibertyPluginIdMatcher = gradleLibertyPluginIdPattern.matcher(buildFile);
-            if (gradleLibertyPluginIdMatcher.find()) {
-                if (gradleLibertyPluginIdMatcher.groupCount() < 2) {
+    /**
+     * Check if the content of a Gradle build file is using the liberty gradle plugin, either with
+     * plugins { id 'io.openliberty.tools.gradle.Liberty' version '...' } or with apply plugin: 'liberty'
+     * and the liberty-gradle-plugin in a dependencies block. The content is tokenized in a single pass
+     * and comments are skipped.
+     *
+     * @param buildFile content of the build.gradle file
+     * @return BuildFile, validBuildFile true if using the liberty gradle plugin,
+     * validContainerVersion true if plugin version is valid for dev mode in containers
+     */
+    static BuildFile validBuildGradle(CharSequence buildFile) {
+        GradleTokenizer tokenizer = new GradleTokenizer(buildFile);
+        // the last three tokens before the current one, most recent first
+        GradleToken previous = null, previous2 = null, previous3 = null;
+        boolean applyPlugin = false;
+        boolean pluginIdFound = false;
+        boolean expectVersion = false;
+        boolean dependencyFound = false;
+        String dependencyVersion = null;
+        int braceDepth = 0;
+        int dependenciesDepth = -1;
+        int groupLine = -1;
+
+        GradleToken token;
+        while ((token = tokenizer.next()) != null) {
+            if (pluginIdFound) {
+                // id 'io.openliberty.tools.gradle.Liberty' version '3.8' or id("...") version "3.8"
+                if (token.isIdentifier("version")) {
+                    expectVersion = true;
+                } else if (expectVersion && token.kind() == GradleToken.Kind.STRING) {
+                    return new BuildFile(true, containerVersion(token.value()));
+                } else if (!token.isSymbol('(') && !token.isSymbol(')')) {
                     // if version is not defined, assumes latest is pulled
-                    return (new BuildFile(true, true));
+                    return new BuildFile(true, true);
+                }
+            } else if (token.kind() == GradleToken.Kind.STRING) {
+                String value = token.value();
+                if (value.equals(GRADLE_LIBERTY_PLUGIN_ID)
+                        && (isIdentifier(previous, "id") || isSymbol(previous, '(') && isIdentifier(previous2, "id"))) {
+                    pluginIdFound = true;
+                } else if (value.equals("liberty") && (isSymbol(previous, ':') || isSymbol(previous, '='))
+                        && isIdentifier(previous2, "plugin")
+                        && (isIdentifier(previous3, "apply") || isSymbol(previous3, '('))) {
+                    applyPlugin = true;
+                } else if (dependenciesDepth != -1 && !dependencyFound) {
+                    if (value.startsWith(LIBERTY_GRADLE_PLUGIN_COORDINATES)) {
+                        dependencyFound = true;
+                        int versionStart = LIBERTY_GRADLE_PLUGIN_COORDINATES.length() + 1;
+                        dependencyVersion = value.length() > versionStart ? value.substring(versionStart) : null;
+                    } else if (value.equals(LIBERTY_GRADLE_PLUGIN_GROUP)) {
+                        groupLine = token.line();
+                    } else if (value.equals(LIBERTY_GRADLE_PLUGIN_NAME) && groupLine == token.line()) {
+                        // group: 'io.openliberty.tools', name: 'liberty-gradle-plugin', the version is not resolved
+                        dependencyFound = true;
+                    }
                 }
-                ComparableVersion pluginVersion = new ComparableVersion(gradleLibertyPluginIdMatcher.group(2));
-                ComparableVersion containerVersion = new ComparableVersion(Constants.LIBERTY_GRADLE_PLUGIN_CONTAINER_VERSION);
-                return (new BuildFile(true, pluginVersion.compareTo(containerVersion) >= 0));
+            } else if (token.isSymbol('{')) {
+                braceDepth++;
+                if (dependenciesDepth == -1 && isIdentifier(previous, "dependencies")) {
+                    dependenciesDepth = braceDepth;
+                }
+            } else if (token.isSymbol('}')) {
+                if (braceDepth == dependenciesDepth) {
+                    dependenciesDepth = -1;
+                }
+                braceDepth--;
             }
+            previous3 = previous2;
+            previous2 = previous;
+            previous = token;
+        }
+        if (pluginIdFound) {
+            // the plugin id was the last token
+            return new BuildFile(true, true);
+        }
+        if (applyPlugin && dependencyFound) {
+            return new BuildFile(true, dependencyVersion != null && containerVersion(dependencyVersion));
+        }
+        return new BuildFile(false, false);
+    }
 
-            // check if "apply plugin: 'liberty'" is specified in the build.gradle
-            boolean libertyPlugin = false;
+    private static boolean isIdentifier(GradleToken token, String name) {
+        return token != null && token.isIdentifier(name);
+    }
 
-            //TODO: filter out commented out lines in build.gradle
-            // lookbehind for "apply plugin:", 0+ spaces, ' or ", "liberty"
-            String applyPluginRegex = "(?<=apply plugin:)(\\s*)('|\")liberty";
-            Pattern applyPluginPattern = Pattern.compile(applyPluginRegex);
-            Matcher applyPluginMatcher = applyPluginPattern.matcher(buildFile);
-            while (applyPluginMatcher.find()) {
-                libertyPlugin = true;
-            }
+    private static boolean isSymbol(GradleToken token, char symbol) {
+        return token != null && token.isSymbol(symbol);
+    }
+
+    /**
+     * Given the liberty-gradle-plugin version, determine if it is compatible for dev mode with containers
+     *
+     * @param version plugin version
+     * @return true if liberty-gradle-plugin is compatible for dev mode with containers
+     */
+    private static boolean containerVersion(String version) {
+        try {
+            ComparableVersion pluginVersion = new ComparableVersion(version);
+            ComparableVersion containerVersion = new ComparableVersion(Constants.LIBERTY_GRADLE_PLUGIN_CONTAINER_VERSION);
+            return pluginVersion.compareTo(containerVersion) >= 0;
+        } catch (NullPointerException | ClassCastException e) {
+            return false;
+        }
+    }
 
-            if (libertyPlugin) {
-                // check if group matches io.openliberty.tools and name matches liberty-gradle-plugin
-                String regex = "(?<=dependencies)(\\s*\\{)([^\\}]+)(?=\\})";
-                String regex2 = "(.*\\bio\\.openliberty\\.tools\\b.*)(.*\\bliberty-gradle-plugin\\b.*)";
+    /**
+     * Token of a Gradle build script: an identifier, a string literal or a single symbol character.
+     */
+    record GradleToken(Kind kind, String value, int line) {
+        enum Kind {IDENTIFIER, STRING, SYMBOL}
 
-                Pattern pattern = Pattern.compile(regex);
-                Matcher matcher = pattern.matcher(buildFile);
+        boolean isIdentifier(String name) {
+            return kind == Kind.IDENTIFIER && value.equals(name);
+        }
 
-                while (matcher.find()) {
-                    String sub = buildFile.substring(matcher.start(), matcher.end());
-                    Pattern pattern2 = Pattern.compile(regex2);
-                    Matcher matcher2 = pattern2.matcher(sub);
-                    while (matcher2.find()) {
-                        String plugin = sub.substring(matcher2.start(), matcher2.end());
-                        return (new BuildFile(true, containerVersion(plugin)));
-                    }
-                }
-            }
-        return (new BuildFile(false, false));
+        boolean isSymbol(char symbol) {
+            return kind == Kind.SYMBOL && value.length() == 1 && value.charAt(0) == symbol;
+        }
     }
 
     /**
-     * Given the plugin object as a string, use a regex to
-     * get the version.
-     *
-     * @param plugin plugin object as a string
-     * @return true if liberty-gradle-plugin is compatible for dev mode with containers
+     * Minimal Groovy and Kotlin DSL tokenizer which skips whitespace and comments. Identifiers
+     * include dots, numbers are returned as identifiers and string literals are returned without quotes.
      */
-    private static boolean containerVersion(String plugin) {
-        // get the version from the plugin
-        String versionRegex = "(?<=:liberty-gradle-plugin:).*(?=\')";
-        Pattern versionPattern = Pattern.compile(versionRegex);
-        Matcher versionMatcher = versionPattern.matcher(plugin);
-        while (versionMatcher.find()) {
-            try {
-                String version = plugin.substring(versionMatcher.start(), versionMatcher.end());
-                ComparableVersion pluginVersion = new ComparableVersion(version);
-                ComparableVersion containerVersion = new ComparableVersion(Constants.LIBERTY_GRADLE_PLUGIN_CONTAINER_VERSION);
-                if (pluginVersion.compareTo(containerVersion) >= 0) {
-                    return true;
+    static class GradleTokenizer {
+        private final CharSequence text;
+        private int pos;
+        private int line;
+
+        GradleTokenizer(CharSequence text) {
+            this.text = text;
+        }
+
+        GradleToken next() {
+            int length = text.length();
+            while (pos < length) {
+                char c = text.charAt(pos);
+                if (c == '\n') {
+                    line++;
+                    pos++;
+                } else if (Character.isWhitespace(c)) {
+                    pos++;
+                } else if (c == '/' && pos + 1 < length && text.charAt(pos + 1) == '/') {
+                    while (pos < length && text.charAt(pos) != '\n') {
+                        pos++;
+                    }
+                } else if (c == '/' && pos + 1 < length && text.charAt(pos + 1) == '*') {
+                    pos += 2;
+                    while (pos < length && !(text.charAt(pos) == '*' && pos + 1 < length && text.charAt(pos + 1) == '/')) {
+                        if (text.charAt(pos) == '\n') {
+                            line++;
+                        }
+                        pos++;
+                    }
+                    pos += 2;
+                } else if (c == '\'' || c == '"') {
+                    return readString(c);
+                } else if (Character.isJavaIdentifierPart(c)) {
+                    int start = pos;
+                    while (pos < length && (Character.isJavaIdentifierPart(text.charAt(pos)) || text.charAt(pos) == '.')) {
+                        pos++;
+                    }
+                    return new GradleToken(GradleToken.Kind.IDENTIFIER, text.subSequence(start, pos).toString(), line);
+                } else {
+                    pos++;
+                    return new GradleToken(GradleToken.Kind.SYMBOL, String.valueOf(c), line);
+                }
+            }
+            return null;
+        }
+
+        private GradleToken readString(char quote) {
+            int length = text.length();
+            int startLine = line;
+            boolean triple = pos + 2 < length && text.charAt(pos + 1) == quote && text.charAt(pos + 2) == quote;
+            pos += triple ? 3 : 1;
+            StringBuilder value = new StringBuilder();
+            while (pos < length) {
+                char c = text.charAt(pos);
+                if (c == '\\' && pos + 1 < length) {
+                    value.append(text.charAt(pos + 1));
+                    pos += 2;
+                    continue;
+                }
+                if (c == quote && (!triple || pos + 2 < length && text.charAt(pos + 1) == quote && text.charAt(pos + 2) == quote)) {
+                    pos += triple ? 3 : 1;
+                    break;
+                }
+                if (c == '\n') {
+                    line++;
+                    if (!triple) {
+                        // unterminated string literal
+                        pos++;
+                        break;
+                    }
                 }
-                return false;
-            } catch (NullPointerException | ClassCastException e) {
-                return false;
+                value.append(c);
+                pos++;
             }
+            return new GradleToken(GradleToken.Kind.STRING, value.toString(), startLine);
         }
-        return false;
     }
 
     /**
@@ -22,20 +22,20 @@ import org.jetbrains.idea.maven.project.StaticResolvedMavenHomeType;
 import org.jetbrains.idea.maven.server.MavenServerConnector;
 import org.jetbrains.idea.maven.server.MavenServerManager;
 import org.jetbrains.idea.maven.utils.MavenUtil;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
-import org.xml.sax.SAXException;
 
-import javax.xml.XMLConstants;
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.BufferedInputStream;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Locale;
 
 import org.apache.maven.artifact.versioning.ComparableVersion;
@@ -45,35 +45,51 @@ import static org.jetbrains.idea.maven.project.MavenHomeKt.staticOrBundled;
 public class LibertyMavenUtil {
     private static Logger LOGGER = Logger.getInstance(LibertyMavenUtil.class);
 
+    private static final XMLInputFactory XML_INPUT_FACTORY = newXMLInputFactory();
+
     /**
      * Return the project name given a pom.xml build file
      * @param file pom.xml
      * @return String of project name
-     * @throws ParserConfigurationException
-     * @throws IOException
-     * @throws SAXException
+     * @throws IOException if the pom cannot be read or is not well-formed
      */
-    public static String getProjectNameFromPom(VirtualFile file) throws ParserConfigurationException, IOException, SAXException {
-        DocumentBuilderFactory factory = newDocumentBuilderFactory();
-        DocumentBuilder builder = factory.newDocumentBuilder();
-
-        File inputFile = new File(file.getPath());
-        Document doc = builder.parse(inputFile);
-
-        doc.getDocumentElement().normalize();
-        Node root = doc.getDocumentElement();
+    public static String getProjectNameFromPom(VirtualFile file) throws IOException {
+        String artifactId = getProjectArtifactId(new File(file.getPath()));
+        if (artifactId != null) {
+            return artifactId;
+        }
+        VirtualFile parentFolder = file.getParent();
+        return parentFolder.getName();
+    }
 
-        NodeList nList = root.getChildNodes();
-        for (int temp = 0; temp < nList.getLength(); temp++) {
-            Node nNode = nList.item(temp);
-            if (nNode.getNodeName().equals("artifactId")) {
-                if (nNode.getTextContent() != null) {
-                    return nNode.getTextContent();
+    /**
+     * Returns the artifactId of the project element of the given pom, and null if there is none.
+     * The pom is read up to the project artifactId.
+     */
+    static String getProjectArtifactId(File file) throws IOException {
+        try (InputStream in = new BufferedInputStream(new FileInputStream(file))) {
+            XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(in);
+            try {
+                // depth of the current element, the project element is at depth 1
+                int depth = 0;
+                while (reader.hasNext()) {
+                    int event = reader.next();
+                    if (event == XMLStreamConstants.START_ELEMENT) {
+                        if (depth == 1 && reader.getLocalName().equals("artifactId")) {
+                            return reader.getElementText();
+                        }
+                        depth++;
+                    } else if (event == XMLStreamConstants.END_ELEMENT && --depth == 0) {
+                        return null;
+                    }
                 }
+                return null;
+            } finally {
+                reader.close();
             }
+        } catch (XMLStreamException e) {
+            throw new IOException("Error parsing " + file, e);
         }
-        VirtualFile parentFolder = file.getParent();
-        return parentFolder.getName();
     }
 
     /**
@@ -82,101 +98,88 @@ public class LibertyMavenUtil {
      * @param file pom.xml build file
      * @return BuildFile, validBuildFile true if using the liberty maven plugin,
      * validContainerVersion true if plugin version is valid for dev mode in containers
-     * @throws ParserConfigurationException
-     * @throws IOException
-     * @throws SAXException
+     * @throws IOException if the pom cannot be read or is not well-formed
      */
-    public static BuildFile validPom(VirtualFile file) throws ParserConfigurationException, IOException, SAXException {
-        BuildFile buildFile = new BuildFile(false, false);
-        DocumentBuilderFactory factory = newDocumentBuilderFactory();
-        DocumentBuilder builder = factory.newDocumentBuilder();
-
-        File inputFile = new File(file.getPath());
-        Document doc = builder.parse(inputFile);
-
-        doc.getDocumentElement().normalize();
-        Node root = doc.getDocumentElement();
+    public static BuildFile validPom(VirtualFile file) throws IOException {
+        return validPom(new File(file.getPath()));
+    }
 
-        NodeList nList = root.getChildNodes();
-        for (int temp = 0; temp < nList.getLength(); temp++) {
-            Node nNode = nList.item(temp);
+    /**
+     * Check if a pom uses the liberty maven plugin in build/plugins, build/pluginManagement/plugins
+     * or profiles/profile/build/plugins. The pom is read in a single forward pass which stops at the
+     * first liberty-maven-plugin declaration.
+     *
+     * @param file pom.xml build file
+     * @return BuildFile, validBuildFile true if using the liberty maven plugin,
+     * validContainerVersion true if plugin version is valid for dev mode in containers
+     * @throws IOException if the pom cannot be read or is not well-formed
+     */
+    static BuildFile validPom(File file) throws IOException {
+        try (InputStream in = new BufferedInputStream(new FileInputStream(file))) {
+            XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(in);
+            try {
+                return mavenPluginDetected(reader);
+            } finally {
+                reader.close();
+            }
+        } catch (XMLStreamException e) {
+            throw new IOException("Error parsing " + file, e);
+        }
+    }
 
-            // check for liberty maven plugin in profiles
-            if (nNode.getNodeName().equals("profiles")) {
-                NodeList profiles = nNode.getChildNodes();
-                for (int i = 0; i < profiles.getLength(); i++) {
-                    Node profile = profiles.item(i);
-                    if (profile.getNodeName().equals("profile")) {
-                        NodeList profileList = profile.getChildNodes();
-                        for (int j = 0; j < profileList.getLength(); j++) {
-                            if (profileList.item(j).getNodeName().equals("build")) {
-                                NodeList buildNodeList = profileList.item(j).getChildNodes();
-                                buildFile = mavenPluginDetected(buildNodeList);
-                                if (buildFile.isValidBuildFile()){
-                                    return buildFile;
-                                }
-                            }
-                        }
+    private static BuildFile mavenPluginDetected(XMLStreamReader reader) throws XMLStreamException {
+        // element names from the root to the current element
+        List<String> path = new ArrayList<>();
+        String groupId = null;
+        String artifactId = null;
+        String version = null;
+        int pluginDepth = -1;
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                String name = reader.getLocalName();
+                if (pluginDepth != -1 && path.size() == pluginDepth + 1
+                        && (name.equals("groupId") || name.equals("artifactId") || name.equals("version"))) {
+                    // reads up to the matching end element
+                    String text = reader.getElementText().trim();
+                    switch (name) {
+                        case "groupId" -> groupId = text;
+                        case "artifactId" -> artifactId = text;
+                        default -> version = text;
                     }
+                    continue;
                 }
-            }
-
-            // check for liberty maven plugin in plugins
-            if (nNode.getNodeName().equals("build")) {
-                NodeList buildNodeList = nNode.getChildNodes();
-                buildFile = mavenPluginDetected(buildNodeList);
-                if (buildFile.isValidBuildFile()){
-                    return buildFile;
+                path.add(name);
+                if (pluginDepth == -1 && isLibertyPluginCandidate(path)) {
+                    pluginDepth = path.size() - 1;
+                    groupId = artifactId = version = null;
                 }
-
-                // check for liberty maven plugin in plugin management
-                // indicates this is a parent pom, list in the Liberty Dev Dashboard
-                for (int i = 0; i < buildNodeList.getLength(); i++) {
-                    Node buildNode = buildNodeList.item(i);
-                    if (buildNode.getNodeName().equals("pluginManagement")) {
-                        NodeList pluginManagementList = buildNode.getChildNodes();
-                        buildFile = mavenPluginDetected(pluginManagementList);
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                if (path.size() - 1 == pluginDepth) {
+                    if ("io.openliberty.tools".equals(groupId) && "liberty-maven-plugin".equals(artifactId)) {
+                        return new BuildFile(true, containerVersion(version == null ? "" : version));
                     }
+                    pluginDepth = -1;
                 }
+                path.remove(path.size() - 1);
             }
         }
-        return buildFile;
+        return new BuildFile(false, false);
     }
 
-    private static BuildFile mavenPluginDetected(NodeList buildList) {
-        for (int i = 0; i < buildList.getLength(); i++) {
-            Node buildNode = buildList.item(i);
-            if (buildNode.getNodeName().equals("plugins")) {
-                NodeList plugins = buildNode.getChildNodes();
-                if (buildNode.getNodeType() == Node.ELEMENT_NODE) {
-                    Element pluginsElem = (Element) buildNode;
-                    NodeList pluginsList = pluginsElem.getElementsByTagName("plugin");
-                    for (int j = 0; j < pluginsList.getLength(); j++) {
-                        Node pluginNode = pluginsList.item(j);
-                        if (pluginNode.getNodeType() == Node.ELEMENT_NODE) {
-                            Element pluginElem = (Element) pluginNode;
-                            String groupId = "";
-                            String artifactId = "";
-                            String version = "";
-                            if (pluginElem.getElementsByTagName("groupId").getLength() != 0) {
-                                groupId = pluginElem.getElementsByTagName("groupId").item(0).getTextContent();
-                            }
-                            if (pluginElem.getElementsByTagName("artifactId").getLength() != 0) {
-                                artifactId = pluginElem.getElementsByTagName("artifactId").item(0).getTextContent();
-                            }
-                            if (pluginElem.getElementsByTagName("version").getLength() != 0) {
-                                version = pluginElem.getElementsByTagName("version").item(0).getTextContent();
-                            }
-                            if (groupId.equals("io.openliberty.tools") && artifactId.equals("liberty-maven-plugin")){
-                                boolean validContainerVersion = containerVersion(version);
-                                return (new BuildFile(true, validContainerVersion));
-                            }
-                        }
-                    }
-                }
-            }
+    // project/build/plugins/plugin, project/build/pluginManagement/plugins/plugin
+    // or project/profiles/profile/build/plugins/plugin
+    private static boolean isLibertyPluginCandidate(List<String> path) {
+        int size = path.size();
+        if (size < 4 || !path.get(size - 1).equals("plugin") || !path.get(size - 2).equals("plugins")) {
+            return false;
         }
-        return (new BuildFile(false, false));
+        return switch (size) {
+            case 4 -> path.get(1).equals("build");
+            case 5 -> path.get(1).equals("build") && path.get(2).equals("pluginManagement");
+            case 6 -> path.get(1).equals("profiles") && path.get(2).equals("profile") && path.get(3).equals("build");
+            default -> false;
+        };
     }
 
     /**
@@ -350,17 +353,10 @@ public class LibertyMavenUtil {
         return null;
     }
 
-    private static DocumentBuilderFactory newDocumentBuilderFactory() {
-        final DocumentBuilderFactory factory = DocumentBuilderFactory.newDefaultInstance();
-        try {
-            // This property is required to be recognized by the JDK implementation.
-            // Setting this property would only fail if the JDK is broken. Returning
-            // the factory from within the "finally" block prevents any exception
-            // from being thrown from this method.
-            factory.setAttribute(XMLConstants.FEATURE_SECURE_PROCESSING, true);
-        }
-        finally {
-            return factory;
-        }
+    private static XMLInputFactory newXMLInputFactory() {
+        final XMLInputFactory factory = XMLInputFactory.newDefaultFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
     }
 }
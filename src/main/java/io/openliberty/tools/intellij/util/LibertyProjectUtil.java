@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2025 IBM Corporation.
+ * Copyright (c) 2020, 2026 IBM Corporation.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -12,10 +12,11 @@ package io.openliberty.tools.intellij.util;
 import com.intellij.openapi.actionSystem.CommonDataKeys;
 import com.intellij.openapi.actionSystem.DataContext;
 import com.intellij.openapi.application.ApplicationInfo;
-import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.ReadAction;
 import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.progress.ProcessCanceledException;
+import com.intellij.openapi.progress.util.ProgressIndicatorUtils;
 import com.intellij.openapi.project.Project;
-import com.intellij.openapi.util.Computable;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.openapi.wm.ToolWindow;
 import com.intellij.psi.search.FilenameIndex;
@@ -24,10 +25,12 @@ import com.intellij.terminal.JBTerminalWidget;
 import com.intellij.terminal.ui.TerminalWidget;
 import com.intellij.ui.content.Content;
 import com.intellij.ui.content.ContentManager;
+import com.intellij.util.concurrency.AppExecutorUtil;
 import com.sun.istack.Nullable;
 import io.openliberty.tools.intellij.LibertyModule;
 import io.openliberty.tools.intellij.LibertyModules;
 import io.openliberty.tools.intellij.LibertyProjectSettings;
+import org.jetbrains.concurrency.CancellablePromise;
 import org.jetbrains.plugins.terminal.ShellTerminalWidget;
 import org.jetbrains.plugins.terminal.TerminalToolWindowManager;
 import org.xml.sax.SAXException;
@@ -38,9 +41,7 @@ import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.*;
-import java.util.concurrent.Callable;
-import java.util.concurrent.Future;
-import java.util.concurrent.ExecutionException;
+import java.util.concurrent.CancellationException;
 
 public class LibertyProjectUtil {
     private static Logger LOGGER = Logger.getInstance(LibertyProjectUtil.class);
@@ -181,6 +182,8 @@ public class LibertyProjectUtil {
                     terminalToolWindowManager.createShellWidget(project.getBasePath(), libertyModule.getName(),
                             true, true));
             libertyModule.setShellWidget(newTerminal);
+            // publish the lifecycle events printed by dev mode
+            DevModeConsoleMonitor.attach(libertyModule, newTerminal);
             return newTerminal;
         }
         return widget;
@@ -231,6 +234,40 @@ public class LibertyProjectUtil {
         }
     }
 
+    /**
+     * Searches the filename index for the pom.xml and build.gradle files of the project, without validating them. The
+     * search is a non-blocking read action which waits for the indexes to be ready, restarts if a write action
+     * interrupts it and is cancelled when the project is closed.
+     *
+     * @param project
+     * @return promise of the candidate build files and their project type
+     */
+    public static CancellablePromise<Map<VirtualFile, Constants.ProjectType>> findBuildFileCandidates(Project project) {
+        return ReadAction.nonBlocking(() -> {
+                    Map<VirtualFile, Constants.ProjectType> candidates = new LinkedHashMap<>();
+                    GlobalSearchScope scope = GlobalSearchScope.projectScope(project);
+                    FilenameIndex.getVirtualFilesByName("pom.xml", scope).forEach(vFile -> candidates.put(vFile, Constants.ProjectType.LIBERTY_MAVEN_PROJECT));
+                    FilenameIndex.getVirtualFilesByName("build.gradle", scope).forEach(vFile -> candidates.put(vFile, Constants.ProjectType.LIBERTY_GRADLE_PROJECT));
+                    return candidates;
+                })
+                .inSmartMode(project)
+                .expireWith(LibertyToolPluginDisposable.getInstance(project))
+                .submit(AppExecutorUtil.getAppExecutorService());
+    }
+
+    /**
+     * Validates a candidate build file found by {@link #findBuildFileCandidates(Project)}
+     *
+     * @param project
+     * @param vFile pom.xml or build.gradle
+     * @param buildFileType type of the build file
+     * @return the BuildFile if the build file belongs to a Liberty project, null otherwise
+     */
+    @Nullable
+    public static BuildFile getLibertyBuildFile(Project project, VirtualFile vFile, Constants.ProjectType buildFileType) {
+        return getBuildFile(project, vFile, buildFileType, BuildFileFilter.LIST);
+    }
+
     // Search the filename index to find valid build files (Maven and Gradle) for the current project
     private static ArrayList<BuildFile> getBuildFiles(Project project, Constants.ProjectType buildFileType, BuildFileFilter filter) {
         ArrayList<BuildFile> collectedBuildFiles = new ArrayList<BuildFile>();
@@ -242,36 +279,46 @@ public class LibertyProjectUtil {
         }
         if (indexedVFiles != null) {
             for (VirtualFile vFile : indexedVFiles) {
-                try {
-                    BuildFile buildFile;
-                    if (buildFileType.equals(Constants.ProjectType.LIBERTY_MAVEN_PROJECT)) {
-                        buildFile = LibertyMavenUtil.validPom(vFile);
-                    } else {
-                        buildFile = LibertyGradleUtil.validBuildGradle(vFile);
-                    }
-                    // check if valid pom.xml or build.gradle, or if part of Liberty project
-                    if (filter.matches(project, buildFile, vFile)) {
-                        buildFile.setBuildFile(vFile);
-                        buildFile.setProjectType(buildFileType);
-                        collectedBuildFiles.add(buildFile);
-                    }
-                } catch (Exception e) {
-                    LOGGER.error(String.format("Error parsing build file %s", vFile), e.getMessage());
+                BuildFile buildFile = getBuildFile(project, vFile, buildFileType, filter);
+                if (buildFile != null) {
+                    collectedBuildFiles.add(buildFile);
                 }
             }
         }
         return collectedBuildFiles;
     }
 
-    // Wrap the search for files in a executeOnPooledThread() method to handle the slow operations on EDT issue
-    // and in a runReadAction() to handle the read action required problem.
+    private static BuildFile getBuildFile(Project project, VirtualFile vFile, Constants.ProjectType buildFileType, BuildFileFilter filter) {
+        try {
+            // only reparse the build files which changed since the last scan
+            BuildFile buildFile = BuildFileCache.getInstance().getBuildFile(vFile, buildFileType);
+            // check if valid pom.xml or build.gradle, or if part of Liberty project
+            if (filter.matches(project, buildFile, vFile)) {
+                buildFile.setBuildFile(vFile);
+                buildFile.setProjectType(buildFileType);
+                return buildFile;
+            }
+        } catch (IOException e) {
+            LOGGER.error(String.format("Error parsing build file %s", vFile), e.getMessage());
+        }
+        return null;
+    }
+
+    // Search for files in a non-blocking read action on a pooled thread to handle the slow operations on EDT issue
+    // and the read action required problem. The caller waits for the search while checking for the cancellation of
+    // its progress indicator, and the search is cancelled with the caller.
     private static Collection<VirtualFile> readIndex(Project project, String name) {
+        CancellablePromise<Collection<VirtualFile>> search = ReadAction
+                .nonBlocking(() -> FilenameIndex.getVirtualFilesByName(name, GlobalSearchScope.projectScope(project)))
+                .expireWith(LibertyToolPluginDisposable.getInstance(project))
+                .submit(AppExecutorUtil.getAppExecutorService());
         try {
-            Computable<Collection<VirtualFile>> virtualFilesComputation = () -> FilenameIndex.getVirtualFilesByName(name, GlobalSearchScope.projectScope(project));
-            Callable<Collection<VirtualFile>> readAction = () -> ApplicationManager.getApplication().runReadAction(virtualFilesComputation);
-            Future<Collection<VirtualFile>> filesFuture = ApplicationManager.getApplication().executeOnPooledThread(readAction);
-            return filesFuture.get();
-        } catch (ExecutionException | InterruptedException e) {
+            return ProgressIndicatorUtils.awaitWithCheckCanceled(search);
+        } catch (ProcessCanceledException e) {
+            search.cancel();
+            throw e;
+        } catch (CancellationException e) {
+            // the search expired because the project was closed
             return null;
         }
     }
@@ -0,0 +1,253 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.util;
+
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VirtualFileManager;
+import com.intellij.openapi.vfs.newvfs.BulkFileListener;
+import com.intellij.openapi.vfs.newvfs.events.VFileContentChangeEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFileCreateEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFileDeleteEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFileEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFileMoveEvent;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Locates the Gradle test reports (index.html files containing the test summary
+ * marker) of Liberty modules.
+ *
+ * <p>
+ * Candidate index.html files are indexed by module directory. The first lookup
+ * for a module registers the module and walks its directory, skipping source,
+ * dependency and VCS directories. After that the candidates of the registered
+ * modules are kept up to date from VFS events, so that finding the report of a
+ * module does not walk the module directory again. Events for files outside the
+ * registered modules, or in the skipped directories, are ignored. A lookup
+ * which finds no report falls back to the walk, since reports written in
+ * directories which are not loaded in the VFS do not produce events.
+ * </p>
+ */
+public class TestReportLocator implements BulkFileListener, Disposable {
+    private static final Logger LOGGER = Logger.getInstance(TestReportLocator.class);
+
+    private static final String REPORT_FILE_NAME = "index.html";
+
+    // Directories which never contain test reports and can be very large
+    private static final Set<String> PRUNED_DIRECTORIES = Set.of(".git", ".gradle", ".idea", ".mvn",
+            "node_modules", "src", "bin", "classes", "libs", "tmp", "wlp", "liberty");
+
+    private static final int MAX_WALK_DEPTH = 8;
+
+    /**
+     * Candidate test report: the contents of the file are only read when the
+     * report of its module is requested.
+     */
+    private record Candidate(Boolean report) {
+        static final Candidate UNVERIFIED = new Candidate(null);
+    }
+
+    // candidate reports of each registered module, keyed by module directory then by report path
+    private final Map<String, Map<String, Candidate>> modules = new ConcurrentHashMap<>();
+
+    private final AtomicInteger walkCount = new AtomicInteger();
+
+    public static TestReportLocator getInstance(Project project) {
+        return project.getService(TestReportLocator.class);
+    }
+
+    public TestReportLocator(Project project) {
+        ApplicationManager.getApplication().getMessageBus().connect(this)
+                .subscribe(VirtualFileManager.VFS_CHANGES, this);
+    }
+
+    TestReportLocator() {
+    }
+
+    @Override
+    public void dispose() {
+        modules.clear();
+    }
+
+    /**
+     * Returns the most recently modified test report under the given module
+     * directory, or null if there is none.
+     *
+     * @param moduleDirectory the directory of the module build file
+     * @return the most recently modified test report or null
+     */
+    public File findTestReport(VirtualFile moduleDirectory) {
+        return findTestReport(moduleDirectory.getPath());
+    }
+
+    File findTestReport(String moduleDirectory) {
+        String modulePath = normalize(moduleDirectory);
+        Map<String, Candidate> candidates = modules.get(modulePath);
+        if (candidates == null) {
+            candidates = new ConcurrentHashMap<>();
+            Map<String, Candidate> registered = modules.putIfAbsent(modulePath, candidates);
+            if (registered == null) {
+                walk(Paths.get(moduleDirectory), candidates);
+                return findIndexedTestReport(candidates);
+            }
+            candidates = registered;
+        }
+        File report = findIndexedTestReport(candidates);
+        if (report == null) {
+            walk(Paths.get(moduleDirectory), candidates);
+            report = findIndexedTestReport(candidates);
+        }
+        return report;
+    }
+
+    /**
+     * Returns the number of module directory walks, for testing.
+     */
+    int getWalkCount() {
+        return walkCount.get();
+    }
+
+    private File findIndexedTestReport(Map<String, Candidate> candidates) {
+        File mostRecentlyModified = null;
+        for (Map.Entry<String, Candidate> entry : candidates.entrySet()) {
+            String path = entry.getKey();
+            File file = new File(path);
+            if (!file.exists()) {
+                candidates.remove(path);
+                continue;
+            }
+            if (!isReport(candidates, path, entry.getValue())) {
+                continue;
+            }
+            if (mostRecentlyModified == null || file.lastModified() > mostRecentlyModified.lastModified()) {
+                mostRecentlyModified = file;
+            }
+        }
+        return mostRecentlyModified;
+    }
+
+    @Override
+    public void after(@NotNull List<? extends VFileEvent> events) {
+        if (modules.isEmpty()) {
+            return;
+        }
+        for (VFileEvent event : events) {
+            if (event instanceof VFileDeleteEvent || event instanceof VFileMoveEvent) {
+                pathRemoved(event instanceof VFileMoveEvent moveEvent ? moveEvent.getOldPath() : event.getPath());
+            }
+            if (event instanceof VFileCreateEvent || event instanceof VFileContentChangeEvent
+                    || event instanceof VFileMoveEvent) {
+                VirtualFile file = event.getFile();
+                if (file != null && !file.isDirectory() && REPORT_FILE_NAME.equals(file.getName())) {
+                    reportChanged(file.getPath());
+                }
+            }
+        }
+    }
+
+    /**
+     * Indexes the given index.html file in the registered modules which contain
+     * it outside of the skipped directories.
+     */
+    void reportChanged(String path) {
+        String reportPath = normalize(path);
+        int depth = 0;
+        boolean pruned = false;
+        for (int separator = reportPath.lastIndexOf('/'); separator > 0 && depth < MAX_WALK_DEPTH;
+             separator = reportPath.lastIndexOf('/', separator - 1), depth++) {
+            String directory = reportPath.substring(0, separator);
+            Map<String, Candidate> candidates = modules.get(directory);
+            if (candidates != null && !pruned) {
+                // the report is rewritten after each test run, check its contents again on the next lookup
+                candidates.put(reportPath, Candidate.UNVERIFIED);
+            }
+            pruned |= PRUNED_DIRECTORIES.contains(directory.substring(directory.lastIndexOf('/') + 1));
+        }
+    }
+
+    /**
+     * Removes the reports of a deleted or moved file or directory, and the
+     * modules it contained.
+     */
+    void pathRemoved(String path) {
+        String removedPath = normalize(path);
+        String prefix = removedPath + "/";
+        modules.keySet().removeIf(module -> module.equals(removedPath) || module.startsWith(prefix));
+        for (Map<String, Candidate> candidates : modules.values()) {
+            candidates.keySet().removeIf(candidate -> candidate.equals(removedPath) || candidate.startsWith(prefix));
+        }
+    }
+
+    private boolean isReport(Map<String, Candidate> candidates, String path, Candidate candidate) {
+        Boolean report = candidate.report();
+        if (report == null) {
+            try {
+                report = LibertyGradleUtil.fileToString(path).contains(Constants.TEST_REPORT_STRING);
+            } catch (IOException e) {
+                LOGGER.debug(e);
+                report = false;
+            }
+            candidates.replace(path, candidate, new Candidate(report));
+        }
+        return report;
+    }
+
+    private void walk(Path moduleDirectory, Map<String, Candidate> candidates) {
+        walkCount.incrementAndGet();
+        try {
+            Files.walkFileTree(moduleDirectory, Set.of(), MAX_WALK_DEPTH, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+                    Path name = dir.getFileName();
+                    if (!dir.equals(moduleDirectory) && name != null && PRUNED_DIRECTORIES.contains(name.toString())) {
+                        return FileVisitResult.SKIP_SUBTREE;
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                    if (attrs.isRegularFile() && file.getFileName().toString().equals(REPORT_FILE_NAME)) {
+                        candidates.putIfAbsent(normalize(file.toString()), Candidate.UNVERIFIED);
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(Path file, IOException e) {
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            LOGGER.debug(e);
+        }
+    }
+
+    private static String normalize(String path) {
+        return path.replace(File.separatorChar, '/');
+    }
+}
@@ -0,0 +1,169 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.validation;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.DiagnosticSeverity;
+import org.eclipse.lsp4j.Range;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * Writes the diagnostics collected by {@link LibertyJavaValidator} as a SARIF
+ * 2.1.0 log or as a plain JSON document.
+ */
+public class DiagnosticsReportWriter {
+
+    public enum Format {
+        SARIF, JSON
+    }
+
+    /**
+     * Diagnostics reported for a file by a pipeline.
+     *
+     * @param uri         the file URI.
+     * @param pipeline    the diagnostics pipeline.
+     * @param diagnostics the diagnostics, never empty.
+     */
+    public record FileDiagnostics(String uri, LibertyJavaValidator.Pipeline pipeline, List<Diagnostic> diagnostics) {
+    }
+
+    private static final String SARIF_SCHEMA = "https://json.schemastore.org/sarif-2.1.0.json";
+
+    private static final String TOOL_NAME = "Liberty Tools for IntelliJ";
+
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().disableHtmlEscaping().create();
+
+    private final Format format;
+
+    public DiagnosticsReportWriter(Format format) {
+        this.format = format;
+    }
+
+    public void write(List<FileDiagnostics> files, Writer writer) throws IOException {
+        JsonObject report = format == Format.SARIF ? toSarif(files) : toJson(files);
+        GSON.toJson(report, writer);
+        writer.flush();
+    }
+
+    private static JsonObject toSarif(List<FileDiagnostics> files) {
+        JsonArray results = new JsonArray();
+        for (FileDiagnostics file : files) {
+            for (Diagnostic diagnostic : file.diagnostics()) {
+                JsonObject result = new JsonObject();
+                String code = getCode(diagnostic);
+                if (code != null) {
+                    result.addProperty("ruleId", code);
+                }
+                result.addProperty("level", toSarifLevel(diagnostic.getSeverity()));
+                JsonObject message = new JsonObject();
+                message.addProperty("text", diagnostic.getMessage());
+                result.add("message", message);
+
+                JsonObject artifactLocation = new JsonObject();
+                artifactLocation.addProperty("uri", file.uri());
+                JsonObject physicalLocation = new JsonObject();
+                physicalLocation.add("artifactLocation", artifactLocation);
+                physicalLocation.add("region", toSarifRegion(diagnostic.getRange()));
+                JsonObject location = new JsonObject();
+                location.add("physicalLocation", physicalLocation);
+                JsonArray locations = new JsonArray();
+                locations.add(location);
+                result.add("locations", locations);
+
+                JsonObject properties = new JsonObject();
+                properties.addProperty("source", diagnostic.getSource());
+                properties.addProperty("pipeline", file.pipeline().getGroup());
+                result.add("properties", properties);
+                results.add(result);
+            }
+        }
+        JsonObject driver = new JsonObject();
+        driver.addProperty("name", TOOL_NAME);
+        JsonObject tool = new JsonObject();
+        tool.add("driver", driver);
+        JsonObject run = new JsonObject();
+        run.add("tool", tool);
+        run.add("results", results);
+        JsonArray runs = new JsonArray();
+        runs.add(run);
+
+        JsonObject sarif = new JsonObject();
+        sarif.addProperty("$schema", SARIF_SCHEMA);
+        sarif.addProperty("version", "2.1.0");
+        sarif.add("runs", runs);
+        return sarif;
+    }
+
+    private static JsonObject toJson(List<FileDiagnostics> files) {
+        JsonArray array = new JsonArray();
+        for (FileDiagnostics file : files) {
+            JsonArray diagnostics = new JsonArray();
+            for (Diagnostic diagnostic : file.diagnostics()) {
+                JsonObject json = new JsonObject();
+                json.addProperty("code", getCode(diagnostic));
+                json.addProperty("source", diagnostic.getSource());
+                json.addProperty("severity", diagnostic.getSeverity() != null ? diagnostic.getSeverity().name() : null);
+                json.addProperty("message", diagnostic.getMessage());
+                Range range = diagnostic.getRange();
+                JsonObject jsonRange = new JsonObject();
+                jsonRange.addProperty("startLine", range.getStart().getLine());
+                jsonRange.addProperty("startCharacter", range.getStart().getCharacter());
+                jsonRange.addProperty("endLine", range.getEnd().getLine());
+                jsonRange.addProperty("endCharacter", range.getEnd().getCharacter());
+                json.add("range", jsonRange);
+                diagnostics.add(json);
+            }
+            JsonObject jsonFile = new JsonObject();
+            jsonFile.addProperty("uri", file.uri());
+            jsonFile.addProperty("pipeline", file.pipeline().getGroup());
+            jsonFile.add("diagnostics", diagnostics);
+            array.add(jsonFile);
+        }
+        JsonObject json = new JsonObject();
+        json.add("files", array);
+        return json;
+    }
+
+    private static JsonObject toSarifRegion(Range range) {
+        // SARIF lines and columns are 1-based, LSP positions are 0-based
+        JsonObject region = new JsonObject();
+        region.addProperty("startLine", range.getStart().getLine() + 1);
+        region.addProperty("startColumn", range.getStart().getCharacter() + 1);
+        region.addProperty("endLine", range.getEnd().getLine() + 1);
+        region.addProperty("endColumn", range.getEnd().getCharacter() + 1);
+        return region;
+    }
+
+    private static String toSarifLevel(DiagnosticSeverity severity) {
+        if (severity == null) {
+            return "warning";
+        }
+        return switch (severity) {
+            case Error -> "error";
+            case Warning -> "warning";
+            case Information, Hint -> "note";
+        };
+    }
+
+    private static String getCode(Diagnostic diagnostic) {
+        if (diagnostic.getCode() == null) {
+            return null;
+        }
+        return diagnostic.getCode().isLeft() ? diagnostic.getCode().getLeft()
+                : String.valueOf(diagnostic.getCode().getRight());
+    }
+}
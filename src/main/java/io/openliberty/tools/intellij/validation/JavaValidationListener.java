@@ -0,0 +1,36 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.validation;
+
+import com.intellij.openapi.vfs.VirtualFile;
+import org.eclipse.lsp4j.Diagnostic;
+
+import java.util.List;
+
+/**
+ * Listener notified by {@link LibertyJavaValidator} each time a Java file has
+ * been validated by a diagnostics pipeline.
+ *
+ * <p>
+ * It is called from the validation worker threads, possibly concurrently.
+ * </p>
+ */
+@FunctionalInterface
+public interface JavaValidationListener {
+
+    /**
+     * Called when the given file has been validated.
+     *
+     * @param file        the validated Java file.
+     * @param pipeline    the diagnostics pipeline which validated the file.
+     * @param diagnostics the diagnostics reported for the file, empty if there is no problem.
+     */
+    void fileValidated(VirtualFile file, LibertyJavaValidator.Pipeline pipeline, List<Diagnostic> diagnostics);
+}
@@ -0,0 +1,126 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.validation;
+
+import com.intellij.ide.errorTreeView.NewErrorTreeViewPanel;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.wm.ToolWindow;
+import com.intellij.openapi.wm.ToolWindowId;
+import com.intellij.openapi.wm.ToolWindowManager;
+import com.intellij.ui.content.Content;
+import com.intellij.ui.content.ContentFactory;
+import com.intellij.ui.content.ContentManager;
+import com.intellij.ui.content.MessageView;
+import com.intellij.util.ui.MessageCategory;
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.DiagnosticSeverity;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * Tab of the Messages tool window which lists the diagnostics found by a
+ * {@link LibertyJavaValidator} run, as each file is validated.
+ *
+ * <p>
+ * Each message shows the diagnostic message, source and code, and navigates to
+ * the range of the diagnostic in the file. A new run replaces the tab of the
+ * previous run.
+ * </p>
+ */
+public class JavaValidationView implements JavaValidationListener {
+
+    private final Project project;
+
+    private final NewErrorTreeViewPanel panel;
+
+    private JavaValidationView(Project project, NewErrorTreeViewPanel panel) {
+        this.project = project;
+        this.panel = panel;
+    }
+
+    /**
+     * Opens a new validation tab with the given title in the Messages tool
+     * window. Must be called from the event dispatch thread.
+     *
+     * @param project the project.
+     * @param title   the title of the tab.
+     * @return the validation view.
+     */
+    public static JavaValidationView open(@NotNull Project project, @NotNull String title) {
+        NewErrorTreeViewPanel panel = new NewErrorTreeViewPanel(project, null);
+        JavaValidationView view = new JavaValidationView(project, panel);
+        MessageView messageView = MessageView.getInstance(project);
+        messageView.runWhenInitialized(() -> {
+            ContentManager contentManager = messageView.getContentManager();
+            for (Content content : contentManager.getContents()) {
+                if (title.equals(content.getDisplayName())) {
+                    contentManager.removeContent(content, true);
+                }
+            }
+            Content content = ContentFactory.getInstance().createContent(panel.getComponent(), title, true);
+            content.setDisposer(panel);
+            contentManager.addContent(content);
+            contentManager.setSelectedContent(content);
+            ToolWindow toolWindow = ToolWindowManager.getInstance(project).getToolWindow(ToolWindowId.MESSAGES_WINDOW);
+            if (toolWindow != null) {
+                toolWindow.activate(null, false);
+            }
+        });
+        return view;
+    }
+
+    @Override
+    public void fileValidated(VirtualFile file, LibertyJavaValidator.Pipeline pipeline, List<Diagnostic> diagnostics) {
+        if (diagnostics.isEmpty()) {
+            return;
+        }
+        // the validator calls the listener from its worker threads, the panel is updated from the EDT
+        ApplicationManager.getApplication().invokeLater(() -> {
+            for (Diagnostic diagnostic : diagnostics) {
+                panel.addMessage(toMessageCategory(diagnostic.getSeverity()), new String[]{toText(diagnostic)},
+                        file, diagnostic.getRange().getStart().getLine(),
+                        diagnostic.getRange().getStart().getCharacter(), pipeline);
+            }
+        }, project.getDisposed());
+    }
+
+    private static String toText(Diagnostic diagnostic) {
+        StringBuilder text = new StringBuilder(diagnostic.getMessage());
+        if (diagnostic.getSource() != null || diagnostic.getCode() != null) {
+            text.append(" [");
+            if (diagnostic.getSource() != null) {
+                text.append(diagnostic.getSource());
+            }
+            if (diagnostic.getCode() != null) {
+                if (diagnostic.getSource() != null) {
+                    text.append(' ');
+                }
+                text.append(diagnostic.getCode().isLeft() ? diagnostic.getCode().getLeft()
+                        : String.valueOf(diagnostic.getCode().getRight()));
+            }
+            text.append(']');
+        }
+        return text.toString();
+    }
+
+    private static int toMessageCategory(DiagnosticSeverity severity) {
+        if (severity == null) {
+            return MessageCategory.WARNING;
+        }
+        return switch (severity) {
+            case Error -> MessageCategory.ERROR;
+            case Warning -> MessageCategory.WARNING;
+            case Information, Hint -> MessageCategory.INFORMATION;
+        };
+    }
+}
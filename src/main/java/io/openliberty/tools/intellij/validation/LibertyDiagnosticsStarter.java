@@ -0,0 +1,208 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.validation;
+
+import com.intellij.ide.impl.ProjectUtil;
+import com.intellij.openapi.application.ApplicationStarter;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.progress.EmptyProgressIndicator;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.project.ProjectManager;
+import com.intellij.platform.backend.observation.Observation;
+import com.redhat.devtools.lsp4ij.LSPIJUtils;
+import io.openliberty.tools.intellij.LibertyModules;
+import kotlin.coroutines.EmptyCoroutineContext;
+import kotlinx.coroutines.BuildersKt;
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.DiagnosticSeverity;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Headless application starter which runs the Jakarta EE and MicroProfile Java
+ * diagnostics on a Liberty Maven or Gradle project, for use in CI.
+ *
+ * <p>
+ * Usage: {@code idea.sh liberty-diagnostics <project directory> [--format=sarif|json] [--output=<file>]
+ * [--fail-on=error|warning|information|hint|none]}
+ * </p>
+ *
+ * <p>
+ * The project is opened and imported like in the IDE and the diagnostics are
+ * computed once the Maven or Gradle import and indexing have completed. The
+ * starter exits with {@value #EXIT_PROBLEMS} when a diagnostic with the
+ * {@code --fail-on} severity or a higher one is found, any diagnostic by
+ * default. The indexes are stored in the IDE
+ * system directory, so re-using the same {@code idea.system.path} across CI
+ * runs only re-indexes the files which have changed.
+ * </p>
+ */
+public class LibertyDiagnosticsStarter implements ApplicationStarter {
+    private static final Logger LOGGER = Logger.getInstance(LibertyDiagnosticsStarter.class);
+
+    private static final String FORMAT_OPTION = "--format=";
+
+    private static final String OUTPUT_OPTION = "--output=";
+
+    private static final String FAIL_ON_OPTION = "--fail-on=";
+
+    private static final String FAIL_ON_NONE = "none";
+
+    private static final int EXIT_OK = 0;
+
+    private static final int EXIT_FAILURE = 1;
+
+    private static final int EXIT_USAGE = 2;
+
+    static final int EXIT_PROBLEMS = 3;
+
+    @Override
+    public int getRequiredModality() {
+        return NOT_IN_EDT;
+    }
+
+    @Override
+    public void main(@NotNull List<String> args) {
+        System.exit(run(args));
+    }
+
+    private int run(List<String> args) {
+        // args.get(0) is the command name
+        Path projectPath = null;
+        DiagnosticsReportWriter.Format format = DiagnosticsReportWriter.Format.SARIF;
+        Path output = null;
+        // null when the starter should not fail on diagnostics
+        DiagnosticSeverity failOn = DiagnosticSeverity.Hint;
+        for (String arg : args.subList(1, args.size())) {
+            if (arg.startsWith(FORMAT_OPTION)) {
+                try {
+                    format = DiagnosticsReportWriter.Format.valueOf(arg.substring(FORMAT_OPTION.length()).toUpperCase());
+                } catch (IllegalArgumentException e) {
+                    return usage("Unknown format: " + arg.substring(FORMAT_OPTION.length()));
+                }
+            } else if (arg.startsWith(FAIL_ON_OPTION)) {
+                String severity = arg.substring(FAIL_ON_OPTION.length());
+                if (FAIL_ON_NONE.equalsIgnoreCase(severity)) {
+                    failOn = null;
+                } else {
+                    failOn = parseSeverity(severity);
+                    if (failOn == null) {
+                        return usage("Unknown severity: " + severity);
+                    }
+                }
+            } else if (arg.startsWith(OUTPUT_OPTION)) {
+                output = Paths.get(arg.substring(OUTPUT_OPTION.length())).toAbsolutePath();
+            } else if (projectPath == null) {
+                projectPath = Paths.get(arg).toAbsolutePath().normalize();
+            } else {
+                return usage("Unexpected argument: " + arg);
+            }
+        }
+        if (projectPath == null || !Files.isDirectory(projectPath)) {
+            return usage("A Liberty project directory is required.");
+        }
+
+        Project project = ProjectUtil.openOrImport(projectPath, null, false);
+        if (project == null) {
+            System.err.println("Unable to open the project " + projectPath);
+            return EXIT_FAILURE;
+        }
+        try {
+            // openOrImport returns before the asynchronous Maven or Gradle import has created the modules
+            BuildersKt.runBlocking(EmptyCoroutineContext.INSTANCE,
+                    (scope, continuation) -> Observation.INSTANCE.awaitConfiguration(project, null, continuation));
+            DumbService.getInstance(project).waitForSmartMode();
+            LibertyModules.getInstance().rescanLibertyModules(project);
+
+            List<DiagnosticsReportWriter.FileDiagnostics> results = Collections.synchronizedList(new ArrayList<>());
+            LibertyJavaValidator.Summary summary = new LibertyJavaValidator(project)
+                    .validate(new EmptyProgressIndicator(), (file, pipeline, diagnostics) -> {
+                        if (!diagnostics.isEmpty()) {
+                            results.add(new DiagnosticsReportWriter.FileDiagnostics(LSPIJUtils.toUriAsString(file),
+                                    pipeline, diagnostics));
+                        }
+                    });
+            // Files are validated in parallel, sort them to produce a stable report
+            List<DiagnosticsReportWriter.FileDiagnostics> sorted = new ArrayList<>(results);
+            sorted.sort(Comparator.comparing(DiagnosticsReportWriter.FileDiagnostics::uri)
+                    .thenComparing(DiagnosticsReportWriter.FileDiagnostics::pipeline));
+
+            DiagnosticsReportWriter reportWriter = new DiagnosticsReportWriter(format);
+            if (output != null) {
+                try (Writer writer = Files.newBufferedWriter(output, StandardCharsets.UTF_8)) {
+                    reportWriter.write(sorted, writer);
+                }
+            } else {
+                reportWriter.write(sorted, new OutputStreamWriter(System.out, StandardCharsets.UTF_8));
+            }
+            System.err.printf("Validated %d Java files: %d problems found in %d files.%n",
+                    summary.files(), summary.diagnostics(), summary.filesWithDiagnostics());
+            return hasProblems(sorted, failOn) ? EXIT_PROBLEMS : EXIT_OK;
+        } catch (Exception e) {
+            LOGGER.warn("Liberty diagnostics failed for " + projectPath, e);
+            System.err.println("Liberty diagnostics failed: " + e.getMessage());
+            return EXIT_FAILURE;
+        } finally {
+            ProjectManager.getInstance().closeAndDispose(project);
+        }
+    }
+
+    /**
+     * Returns true if one of the given diagnostics has the given severity or a
+     * higher one. Diagnostics without severity are considered as warnings.
+     *
+     * @param files  the diagnostics of the validated files.
+     * @param failOn the minimum severity, or null to never fail.
+     * @return true if the starter should fail because of the given diagnostics.
+     */
+    static boolean hasProblems(List<DiagnosticsReportWriter.FileDiagnostics> files, DiagnosticSeverity failOn) {
+        if (failOn == null) {
+            return false;
+        }
+        for (DiagnosticsReportWriter.FileDiagnostics file : files) {
+            for (Diagnostic diagnostic : file.diagnostics()) {
+                DiagnosticSeverity severity = diagnostic.getSeverity() != null ? diagnostic.getSeverity()
+                        : DiagnosticSeverity.Warning;
+                // DiagnosticSeverity values are ordered from Error to Hint
+                if (severity.getValue() <= failOn.getValue()) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static DiagnosticSeverity parseSeverity(String name) {
+        for (DiagnosticSeverity severity : DiagnosticSeverity.values()) {
+            if (severity.name().equalsIgnoreCase(name)) {
+                return severity;
+            }
+        }
+        return null;
+    }
+
+    private static int usage(String error) {
+        System.err.println(error);
+        System.err.println("Usage: liberty-diagnostics <project directory> [--format=sarif|json] [--output=<file>] "
+                + "[--fail-on=error|warning|information|hint|none]");
+        return EXIT_USAGE;
+    }
+}
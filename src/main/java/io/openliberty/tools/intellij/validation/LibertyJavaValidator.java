@@ -0,0 +1,286 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.validation;
+
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.module.ModuleManager;
+import com.intellij.openapi.progress.ProcessCanceledException;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.util.ProgressIndicatorUtils;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ModuleRootManager;
+import com.intellij.openapi.vfs.VfsUtilCore;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import com.redhat.devtools.lsp4ij.LSPIJUtils;
+import io.openliberty.tools.intellij.LibertyModule;
+import io.openliberty.tools.intellij.LibertyModules;
+import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.PropertiesManagerForJakarta;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.PropertiesManagerForJava;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.ls.PsiUtilsLSImpl;
+import io.openliberty.tools.intellij.util.LibertyToolPluginDisposable;
+import org.eclipse.lsp4j.PublishDiagnosticsParams;
+import org.eclipse.lsp4jakarta.commons.JakartaJavaDiagnosticsParams;
+import org.eclipse.lsp4mp.commons.MicroProfileJavaDiagnosticsParams;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.jps.model.java.JavaSourceRootType;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Validates every Java source file of the Liberty modules of a project with the
+ * MicroProfile and Jakarta EE diagnostics pipelines.
+ *
+ * <p>
+ * The files are validated in batches of files belonging to the same module so
+ * that each batch shares its module-level diagnostics context. Batches run in
+ * parallel non-blocking read actions on a bounded executor and their results
+ * are streamed to a {@link JavaValidationListener} as soon as they complete.
+ * Diagnostics are not retained by the validator, so the memory used at any
+ * time is bounded by {@link Options#parallelism()} x {@link Options#batchSize()}
+ * compilation units.
+ * </p>
+ */
+public class LibertyJavaValidator {
+    private static final Logger LOGGER = Logger.getInstance(LibertyJavaValidator.class);
+
+    /**
+     * Diagnostics pipelines run on each Java file.
+     */
+    public enum Pipeline {
+        MICROPROFILE("mp") {
+            @Override
+            List<PublishDiagnosticsParams> diagnostics(List<String> uris, IPsiUtils utils) {
+                return PropertiesManagerForJava.getInstance()
+                        .diagnostics(new MicroProfileJavaDiagnosticsParams(uris), utils);
+            }
+        },
+        JAKARTA("jakarta") {
+            @Override
+            List<PublishDiagnosticsParams> diagnostics(List<String> uris, IPsiUtils utils) {
+                JakartaJavaDiagnosticsParams params = new JakartaJavaDiagnosticsParams();
+                params.setUris(uris);
+                return PropertiesManagerForJakarta.getInstance().diagnostics(params, utils);
+            }
+        };
+
+        private final String group;
+
+        Pipeline(String group) {
+            this.group = group;
+        }
+
+        public String getGroup() {
+            return group;
+        }
+
+        abstract List<PublishDiagnosticsParams> diagnostics(List<String> uris, IPsiUtils utils);
+    }
+
+    /**
+     * Validation options.
+     *
+     * <p>
+     * The defaults can be overridden with the {@code liberty.validation.parallelism}
+     * and {@code liberty.validation.batchSize} IDE system properties.
+     * </p>
+     *
+     * @param parallelism the maximum number of batches validated at the same time.
+     * @param batchSize   the maximum number of files validated in one read action.
+     */
+    public record Options(int parallelism, int batchSize) {
+        public static final Options DEFAULT = new Options(
+                Math.max(1, Integer.getInteger("liberty.validation.parallelism",
+                        Math.min(4, Runtime.getRuntime().availableProcessors() / 2))),
+                Math.max(1, Integer.getInteger("liberty.validation.batchSize", 50)));
+    }
+
+    /**
+     * Validation summary.
+     *
+     * @param files                the number of Java files validated.
+     * @param filesWithDiagnostics the number of Java files with at least one diagnostic.
+     * @param diagnostics          the total number of diagnostics.
+     * @param canceled             true if the validation was canceled before completion.
+     */
+    public record Summary(int files, int filesWithDiagnostics, int diagnostics, boolean canceled) {
+    }
+
+    /**
+     * Runs a diagnostics pipeline on a batch of files, {@link Pipeline#diagnostics} outside of tests.
+     */
+    interface PipelineRunner {
+        List<PublishDiagnosticsParams> diagnostics(Pipeline pipeline, List<String> uris, IPsiUtils utils);
+    }
+
+    private final Project project;
+
+    private final Options options;
+
+    private final PipelineRunner runner;
+
+    public LibertyJavaValidator(@NotNull Project project) {
+        this(project, Options.DEFAULT);
+    }
+
+    public LibertyJavaValidator(@NotNull Project project, @NotNull Options options) {
+        this(project, options, Pipeline::diagnostics);
+    }
+
+    LibertyJavaValidator(@NotNull Project project, @NotNull Options options, @NotNull PipelineRunner runner) {
+        this.project = project;
+        this.options = options;
+        this.runner = runner;
+    }
+
+    /**
+     * Validates the Java files of all the Liberty modules of the project.
+     *
+     * @param indicator the progress indicator used to report progress and check for cancellation.
+     * @param listener  the listener notified for each validated file.
+     * @return the validation summary.
+     */
+    public Summary validate(@NotNull ProgressIndicator indicator, @NotNull JavaValidationListener listener) {
+        List<VirtualFile> buildFiles = LibertyModules.getInstance().getLibertyModules(project).stream()
+                .map(LibertyModule::getBuildFile)
+                .toList();
+        return validate(ReadAction.compute(() -> collectBatches(buildFiles)), indicator, listener);
+    }
+
+    Summary validate(List<List<VirtualFile>> batches, ProgressIndicator indicator, JavaValidationListener listener) {
+        indicator.setIndeterminate(false);
+        int total = batches.stream().mapToInt(List::size).sum() * Pipeline.values().length;
+        AtomicInteger validated = new AtomicInteger();
+        Set<VirtualFile> filesWithDiagnostics = new LinkedHashSet<>();
+        AtomicInteger diagnostics = new AtomicInteger();
+
+        IPsiUtils utils = PsiUtilsLSImpl.getInstance(project);
+        ExecutorService executor = AppExecutorUtil.createBoundedApplicationPoolExecutor("Liberty Java Validation",
+                options.parallelism());
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (List<VirtualFile> batch : batches) {
+                for (Pipeline pipeline : Pipeline.values()) {
+                    futures.add(executor.submit(() -> {
+                        validateBatch(batch, pipeline, utils, indicator, (file, p, fileDiagnostics) -> {
+                            if (!fileDiagnostics.isEmpty()) {
+                                synchronized (filesWithDiagnostics) {
+                                    filesWithDiagnostics.add(file);
+                                }
+                                diagnostics.addAndGet(fileDiagnostics.size());
+                            }
+                            listener.fileValidated(file, p, fileDiagnostics);
+                        });
+                        indicator.setFraction((double) validated.addAndGet(batch.size()) / total);
+                    }));
+                }
+            }
+            for (Future<?> future : futures) {
+                ProgressIndicatorUtils.awaitWithCheckCanceled(future, indicator);
+            }
+        } catch (ProcessCanceledException e) {
+            return new Summary(validated.get() / Pipeline.values().length, filesWithDiagnostics.size(),
+                    diagnostics.get(), true);
+        } finally {
+            // stops the remaining batches when the validation is canceled or when a batch failed,
+            // a no-op for the batches which already completed
+            futures.forEach(future -> future.cancel(true));
+            executor.shutdown();
+        }
+        return new Summary(total / Pipeline.values().length, filesWithDiagnostics.size(), diagnostics.get(), false);
+    }
+
+    private void validateBatch(List<VirtualFile> batch, Pipeline pipeline, IPsiUtils utils,
+                               ProgressIndicator indicator, JavaValidationListener listener) {
+        indicator.checkCanceled();
+        Map<String, VirtualFile> filesByUri = new HashMap<>();
+        for (VirtualFile file : batch) {
+            filesByUri.put(LSPIJUtils.toUriAsString(file), file);
+        }
+        List<PublishDiagnosticsParams> results = ReadAction
+                .nonBlocking(() -> runner.diagnostics(pipeline, new ArrayList<>(filesByUri.keySet()), utils))
+                .wrapProgress(indicator)
+                .expireWith(LibertyToolPluginDisposable.getInstance(project))
+                .executeSynchronously();
+        for (PublishDiagnosticsParams result : results) {
+            VirtualFile file = filesByUri.get(result.getUri());
+            if (file != null) {
+                listener.fileValidated(file, pipeline, result.getDiagnostics());
+            }
+        }
+    }
+
+    /**
+     * Returns the Java source files of the modules of the given build files, split
+     * in batches of files which belong to the same module.
+     *
+     * <p>
+     * A build file can have several modules, Gradle imports each source set as its
+     * own module (<code>proj.main</code>, <code>proj.test</code>) next to a root
+     * module without source roots, so every module whose content roots are under
+     * the directory of the build file is validated.
+     * </p>
+     */
+    List<List<VirtualFile>> collectBatches(Collection<VirtualFile> buildFiles) {
+        Module[] allModules = ModuleManager.getInstance(project).getModules();
+        Set<Module> modules = new LinkedHashSet<>();
+        for (VirtualFile buildFile : buildFiles) {
+            VirtualFile directory = buildFile.getParent();
+            boolean found = false;
+            for (Module module : allModules) {
+                for (VirtualFile contentRoot : ModuleRootManager.getInstance(module).getContentRoots()) {
+                    if (VfsUtilCore.isAncestor(directory, contentRoot, false)) {
+                        modules.add(module);
+                        found = true;
+                        break;
+                    }
+                }
+            }
+            if (!found) {
+                LOGGER.debug("Could not resolve the modules of " + buildFile);
+            }
+        }
+        List<List<VirtualFile>> batches = new ArrayList<>();
+        for (Module module : modules) {
+            List<VirtualFile> batch = new ArrayList<>();
+            for (VirtualFile root : ModuleRootManager.getInstance(module).getSourceRoots(JavaSourceRootType.SOURCE)) {
+                VfsUtilCore.iterateChildrenRecursively(root, null, file -> {
+                    if (!file.isDirectory() && "java".equalsIgnoreCase(file.getExtension())) {
+                        batch.add(file);
+                    }
+                    return true;
+                });
+            }
+            addBatches(batches, batch, options.batchSize());
+        }
+        return batches;
+    }
+
+    /**
+     * Splits the given files of a module in batches of at most <code>batchSize</code> files.
+     */
+    static void addBatches(List<List<VirtualFile>> batches, List<VirtualFile> files, int batchSize) {
+        for (int i = 0; i < files.size(); i += batchSize) {
+            batches.add(files.subList(i, Math.min(files.size(), i + batchSize)));
+        }
+    }
+}
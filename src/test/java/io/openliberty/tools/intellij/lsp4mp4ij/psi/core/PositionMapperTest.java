@@ -0,0 +1,92 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.core;
+
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.editor.EditorFactory;
+import com.intellij.testFramework.fixtures.BasePlatformTestCase;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.Random;
+
+/**
+ * Compares the conversions of {@link PositionMapper} with the ones of the {@link Document}.
+ */
+@RunWith(JUnit4.class)
+public class PositionMapperTest extends BasePlatformTestCase {
+
+    private static final String[] TOKENS = {"a", "public class", " ", "\t", "\n", "\n\n", "é", "😀", "{", "}"};
+
+    @Test
+    public void testRandomOffsets() {
+        Random random = new Random(42);
+        for (int iteration = 0; iteration < 200; iteration++) {
+            Document document = EditorFactory.getInstance().createDocument(randomText(random));
+            PositionMapper mapper = PositionMapper.getInstance(document);
+            int length = document.getTextLength();
+            assertEquals(document.getLineCount(), mapper.getLineCount());
+            for (int i = 0; i < 50; i++) {
+                int offset = random.nextInt(length + 1);
+                int line = document.getLineNumber(offset);
+                int column = offset - document.getLineStartOffset(line);
+                assertPosition(mapper.toLine(offset), line, column);
+                assertEquals(offset, mapper.toOffset(line, column));
+            }
+            // offsets in document order are resolved by sweeping the lines forward
+            for (int offset = 0; offset <= length; offset++) {
+                assertEquals(document.getLineNumber(offset), mapper.getLineNumber(offset));
+            }
+            for (int line = 0; line < document.getLineCount(); line++) {
+                assertEquals(document.getLineStartOffset(line), mapper.getLineStartOffset(line));
+            }
+        }
+    }
+
+    @Test
+    public void testOffsetsOutOfRange() {
+        PositionMapper mapper = PositionMapper.getInstance(EditorFactory.getInstance().createDocument("a\nb"));
+        assertEquals(1, mapper.getLineNumber(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> mapper.getLineNumber(4));
+        assertThrows(IndexOutOfBoundsException.class, () -> mapper.getLineNumber(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> mapper.getLineStartOffset(2));
+    }
+
+    @Test
+    public void testMapperIsRecomputedWhenDocumentChanges() {
+        Document document = EditorFactory.getInstance().createDocument("class A {\n}\n");
+        PositionMapper mapper = PositionMapper.getInstance(document);
+        assertSame(mapper, PositionMapper.getInstance(document));
+        WriteCommandAction.runWriteCommandAction(getProject(), () -> document.insertString(0, "package demo;\n\n"));
+        PositionMapper updated = PositionMapper.getInstance(document);
+        assertNotSame(mapper, updated);
+        assertPosition(updated.toLine(15), 2, 0);
+        assertPosition(JsonRpcHelpers.toLine(document, 15), 2, 0);
+    }
+
+    private static String randomText(Random random) {
+        StringBuilder text = new StringBuilder();
+        int count = random.nextInt(200);
+        for (int i = 0; i < count; i++) {
+            text.append(TOKENS[random.nextInt(TOKENS.length)]);
+        }
+        return text.toString();
+    }
+
+    private static void assertPosition(int[] actual, int line, int column) {
+        assertEquals(line, actual[0]);
+        assertEquals(column, actual[1]);
+    }
+}
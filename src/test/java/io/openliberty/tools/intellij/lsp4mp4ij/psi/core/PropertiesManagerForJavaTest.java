@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.core;
+
+import org.eclipse.lsp4j.Hover;
+import org.eclipse.lsp4j.MarkedString;
+import org.eclipse.lsp4j.MarkupContent;
+import org.eclipse.lsp4j.MarkupKind;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.jsonrpc.messages.Either;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Checks how the hovers of several participants are merged.
+ */
+@RunWith(JUnit4.class)
+public class PropertiesManagerForJavaTest {
+
+    @Test
+    public void singleHoverIsReturnedAsIs() {
+        Hover hover = hover(MarkupKind.PLAINTEXT, "a", range(1, 2, 1, 5));
+        assertSame(hover, PropertiesManagerForJava.mergeHovers(List.of(hover)));
+        assertSame(hover, PropertiesManagerForJava.mergeHovers(Arrays.asList(null, hover, new Hover())));
+    }
+
+    @Test
+    public void noHoverWithContents() {
+        assertNull(PropertiesManagerForJava.mergeHovers(List.of()));
+        assertNull(PropertiesManagerForJava.mergeHovers(Arrays.asList(null, new Hover())));
+    }
+
+    @Test
+    public void markdownHoversAreSeparatedByRule() {
+        Hover merged = PropertiesManagerForJava.mergeHovers(List.of(
+                hover(MarkupKind.MARKDOWN, "`a`", range(3, 10, 3, 12)),
+                hover(MarkupKind.MARKDOWN, "`b`", range(2, 4, 3, 11))));
+        assertEquals(new MarkupContent(MarkupKind.MARKDOWN, "`a`\n\n---\n\n`b`"), merged.getContents().getRight());
+        assertEquals(range(2, 4, 3, 12), merged.getRange());
+    }
+
+    @Test
+    public void plainTextHoversStayPlainText() {
+        Hover merged = PropertiesManagerForJava.mergeHovers(List.of(
+                hover(MarkupKind.PLAINTEXT, "a", null),
+                hover(MarkupKind.PLAINTEXT, "b", range(0, 1, 0, 2))));
+        assertEquals(new MarkupContent(MarkupKind.PLAINTEXT, "a\n\nb"), merged.getContents().getRight());
+        assertEquals(range(0, 1, 0, 2), merged.getRange());
+    }
+
+    @Test
+    public void mixedKindsAreMergedAsMarkdown() {
+        // the plain text hover comes first, it is still separated by a rule
+        Hover marked = new Hover(List.of(Either.forLeft("c"), Either.forRight(new MarkedString("java", "int d;"))));
+        Hover merged = PropertiesManagerForJava.mergeHovers(Arrays.asList(
+                hover(MarkupKind.PLAINTEXT, "a", range(5, 0, 5, 3)),
+                null,
+                hover(MarkupKind.MARKDOWN, "**b**", null),
+                marked));
+        assertEquals(new MarkupContent(MarkupKind.MARKDOWN, "a\n\n---\n\n**b**\n\n---\n\nc\n\n```java\nint d;\n```"),
+                merged.getContents().getRight());
+        assertEquals(range(5, 0, 5, 3), merged.getRange());
+    }
+
+    private static Hover hover(String kind, String value, Range range) {
+        return new Hover(new MarkupContent(kind, value), range);
+    }
+
+    private static Range range(int startLine, int startCharacter, int endLine, int endCharacter) {
+        return new Range(new Position(startLine, startCharacter), new Position(endLine, endCharacter));
+    }
+}
@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.codeaction;
+
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.testFramework.fixtures.LightJavaCodeInsightFixtureTestCase;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.AbstractJavaContext;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.ls.PsiUtilsLSImpl;
+import org.eclipse.lsp4j.CodeActionContext;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.TextDocumentIdentifier;
+import org.eclipse.lsp4mp.commons.MicroProfileJavaCodeActionParams;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.Collections;
+
+/**
+ * Checks that the copies of a code action context only copy the compilation unit of the request when they access
+ * it, that a copy of a copy sees it as it was when the context was copied, and that they do not share their changes.
+ */
+@RunWith(JUnit4.class)
+public class JavaCodeActionContextTest extends LightJavaCodeInsightFixtureTestCase {
+
+    private MicroProfileJavaCodeActionParams params;
+
+    private JavaCodeActionContext context;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        StringBuilder text = new StringBuilder("package demo;\n\npublic class Large {\n");
+        for (int i = 0; i < 2_000; i++) {
+            text.append("    private String field").append(i).append(";\n");
+        }
+        text.append("}\n");
+        PsiFile file = myFixture.configureByText("Large.java", text.toString());
+        params = new MicroProfileJavaCodeActionParams(
+                new TextDocumentIdentifier(file.getVirtualFile().getUrl()),
+                new Range(new Position(3, 4), new Position(3, 4)), new CodeActionContext(Collections.emptyList()));
+        context = new JavaCodeActionContext(file, 0, 0, PsiUtilsLSImpl.getInstance(getProject()), getModule(), params, null);
+    }
+
+    @Test
+    public void testCopyIsCreatedOnAccess() {
+        int copies = AbstractJavaContext.getCopyCount();
+        JavaCodeActionContext copy = context.copy();
+        JavaCodeActionContext copyOfCopy = copy.copy();
+        // the copies which do not access the compilation unit do not copy it
+        assertEquals(copies, AbstractJavaContext.getCopyCount());
+        assertEquals(params.getUri(), copy.getUri());
+        assertSame(params, copyOfCopy.getParams());
+        assertEquals(copies, AbstractJavaContext.getCopyCount());
+
+        PsiFile copied = copy.getCompilationUnit();
+        assertEquals(copies + 1, AbstractJavaContext.getCopyCount());
+        assertNotSame(context.getCompilationUnit(), copied);
+        assertSame(copied, copy.getCompilationUnit());
+        assertSame(copied, copy.getASTRoot());
+        assertEquals(context.getCompilationUnit().getText(), copied.getText());
+        assertEquals(copies + 1, AbstractJavaContext.getCopyCount());
+
+        // a change of the copy is not visible in the original or in the other copies
+        deleteField(copied, 0);
+        assertFalse(context.getCompilationUnit().getText().equals(copied.getText()));
+        assertEquals(context.getCompilationUnit().getText(), copyOfCopy.getCompilationUnit().getText());
+        assertNotSame(context.getCompilationUnit(), copyOfCopy.getCompilationUnit());
+        assertEquals(copies + 2, AbstractJavaContext.getCopyCount());
+    }
+
+    @Test
+    public void testCopyOfModifiedCopyIsSnapshot() {
+        JavaCodeActionContext copy = context.copy();
+        PsiFile copied = copy.getCompilationUnit();
+        deleteField(copied, 0);
+        String textWhenCopied = copied.getText();
+
+        int copies = AbstractJavaContext.getCopyCount();
+        JavaCodeActionContext snapshot = copy.copy();
+        // the copy which may have been modified is copied when its context is copied, and only once
+        assertEquals(copies + 1, AbstractJavaContext.getCopyCount());
+        deleteField(copied, 0);
+        assertEquals(textWhenCopied, snapshot.getCompilationUnit().getText());
+        assertSame(snapshot.getCompilationUnit(), snapshot.getASTRoot());
+        assertEquals(copies + 1, AbstractJavaContext.getCopyCount());
+
+        // the changes of the new copy are not visible in the copy it was made from
+        deleteField(snapshot.getCompilationUnit(), 1);
+        assertFalse(copied.getText().equals(snapshot.getCompilationUnit().getText()));
+        assertFalse(textWhenCopied.equals(snapshot.getCompilationUnit().getText()));
+    }
+
+    private static void deleteField(PsiFile file, int index) {
+        ((PsiJavaFile) file).getClasses()[0].getFields()[index].delete();
+    }
+}
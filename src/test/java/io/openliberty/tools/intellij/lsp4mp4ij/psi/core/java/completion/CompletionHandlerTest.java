@@ -0,0 +1,57 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.completion;
+
+import org.eclipse.lsp4j.CompletionItem;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(JUnit4.class)
+public class CompletionHandlerTest {
+
+    @Test
+    public void eachParticipantIsLimited() {
+        JavaCompletionContext context = new JavaCompletionContext(null, null, null, null, 0, "", 3);
+        List<CompletionItem> items = new ArrayList<>();
+        items.addAll(CompletionHandler.limit(createItems("first", 5), context));
+        items.addAll(CompletionHandler.limit(createItems("second", 2), context));
+
+        assertEquals(List.of("first0", "first1", "first2", "second0", "second1"),
+                items.stream().map(CompletionItem::getLabel).toList());
+        assertTrue(context.isIncomplete());
+    }
+
+    @Test
+    public void participantsUnderTheLimitAreComplete() {
+        JavaCompletionContext context = new JavaCompletionContext(null, null, null, null, 0, "", 3);
+        assertEquals(3, CompletionHandler.limit(createItems("first", 3), context).size());
+        assertEquals(3, CompletionHandler.limit(createItems("second", 3), context).size());
+        assertFalse(context.isIncomplete());
+    }
+
+    private static List<CompletionItem> createItems(String prefix, int count) {
+        List<CompletionItem> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            items.add(new CompletionItem(prefix + i));
+        }
+        return items;
+    }
+}
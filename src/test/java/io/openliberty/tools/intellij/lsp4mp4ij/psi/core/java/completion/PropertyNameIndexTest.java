@@ -0,0 +1,138 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.completion;
+
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(JUnit4.class)
+public class PropertyNameIndexTest {
+
+    private static final int PROPERTY_COUNT = 50_000;
+
+    private static final int MAX_ITEMS = 500;
+
+    private static final String[] SEGMENTS = {"mp", "messaging", "app", "service", "client", "url", "timeout", "retry",
+            "pool-size", "enabled"};
+
+    @Test
+    public void prefixesMatchLinearScan() {
+        List<ItemMetadata> properties = createProperties(PROPERTY_COUNT);
+        PropertyNameIndex index = PropertyNameIndex.create(createInfo(properties));
+        List<String> names = properties.stream().map(ItemMetadata::getName).distinct().sorted().collect(Collectors.toList());
+        assertEquals(names.size(), index.size());
+        for (String prefix : new String[]{"", "m", "mp.", "app.service", "app.service.url1", "zzz", "retry.enabled.42"}) {
+            List<String> expected = names.stream().filter(name -> name.startsWith(prefix)).collect(Collectors.toList());
+            List<String> collected = new ArrayList<>();
+            boolean complete = index.collect(prefix, MAX_ITEMS, property -> collected.add(property.getName()));
+            assertEquals(prefix, expected.size() <= MAX_ITEMS, complete);
+            assertEquals(prefix, expected.subList(0, Math.min(expected.size(), MAX_ITEMS)), collected);
+        }
+    }
+
+    @Test
+    public void firstPropertyOfEachNameIsKept() {
+        List<ItemMetadata> properties = List.of(createProperty("b", "java.lang.String"),
+                createProperty("a", "int"), createProperty("b", "int"));
+        PropertyNameIndex index = PropertyNameIndex.create(createInfo(properties));
+        List<ItemMetadata> collected = new ArrayList<>();
+        assertTrue(index.collect("", 10, collected::add));
+        assertEquals(List.of("a", "b"), collected.stream().map(ItemMetadata::getName).collect(Collectors.toList()));
+        assertEquals("java.lang.String", collected.get(1).getType());
+        assertFalse(index.collect("", 1, property -> {}));
+        assertTrue(PropertyNameIndex.create(new MicroProfileProjectInfo()).collect("", 10, property -> {}));
+    }
+
+    @Test
+    public void firstResultsOfManyProperties() {
+        List<ItemMetadata> properties = createProperties(PROPERTY_COUNT);
+        List<String> expected = properties.stream().map(ItemMetadata::getName)
+                .filter(name -> name.startsWith("app.")).distinct().sorted().limit(MAX_ITEMS)
+                .collect(Collectors.toList());
+
+        PropertyNameIndex index = PropertyNameIndex.create(createInfo(properties));
+        List<String> items = new ArrayList<>();
+        assertFalse(index.collect("app.", MAX_ITEMS, property -> items.add(property.getName())));
+        assertEquals(expected, items);
+    }
+
+    @Test
+    public void firstResultsReadFewProperties() {
+        List<ItemMetadata> properties = createProperties(PROPERTY_COUNT).stream()
+                .map(property -> new CountingItemMetadata(property.getName()))
+                .collect(Collectors.toList());
+        PropertyNameIndex index = PropertyNameIndex.create(createInfo(properties));
+        CountingItemMetadata.reads = 0;
+        List<ItemMetadata> items = new ArrayList<>();
+        assertFalse(index.collect("app.", MAX_ITEMS, items::add));
+        int reads = CountingItemMetadata.reads;
+
+        assertEquals(MAX_ITEMS, items.size());
+        // the binary search reads log2(size) names, then one name for each item and one past the last item,
+        // whatever the number of properties of the project
+        int searchReads = 32 - Integer.numberOfLeadingZeros(index.size());
+        assertTrue("read " + reads + " property names for the first results",
+                reads <= searchReads + MAX_ITEMS + 1);
+    }
+
+    private static List<ItemMetadata> createProperties(int count) {
+        Random random = new Random(42);
+        List<ItemMetadata> properties = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String name = SEGMENTS[random.nextInt(SEGMENTS.length)] + '.' + SEGMENTS[random.nextInt(SEGMENTS.length)]
+                    + '.' + SEGMENTS[random.nextInt(SEGMENTS.length)] + random.nextInt(count / 10);
+            properties.add(createProperty(name, "java.lang.String"));
+        }
+        return properties;
+    }
+
+    private static ItemMetadata createProperty(String name, String type) {
+        ItemMetadata property = new ItemMetadata();
+        property.setName(name);
+        property.setType(type);
+        return property;
+    }
+
+    private static class CountingItemMetadata extends ItemMetadata {
+
+        private static int reads;
+
+        CountingItemMetadata(String name) {
+            super.setName(name);
+        }
+
+        @Override
+        public String getName() {
+            reads++;
+            return super.getName();
+        }
+    }
+
+    private static MicroProfileProjectInfo createInfo(List<ItemMetadata> properties) {
+        MicroProfileProjectInfo info = new MicroProfileProjectInfo();
+        info.setProperties(properties);
+        return info;
+    }
+}
@@ -0,0 +1,98 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.corrections.proposal;
+
+import com.intellij.lang.java.JavaLanguage;
+import com.intellij.openapi.util.TextRange;
+import com.intellij.psi.PsiField;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiFileFactory;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.testFramework.fixtures.LightJavaCodeInsightFixtureTestCase;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.java.TextDiff;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/**
+ * Checks that the reformatting done by {@link ASTRewriteCorrectionProposal#getChange()} is limited to the updated
+ * code: inserting an annotation should reformat and change the same code in a small class and in a large class.
+ */
+@RunWith(JUnit4.class)
+public class ASTRewriteCorrectionProposalTest extends LightJavaCodeInsightFixtureTestCase {
+
+    private static final int SMALL = 100;
+
+    private static final int LARGE = 10_000;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        myFixture.addClass("package jakarta.inject;\n\npublic @interface Inject {\n}\n");
+    }
+
+    private static final String FORMATTED_FIELD = "    private String field%d;\n";
+
+    // reformatting any of these fields would change it
+    private static final String UNFORMATTED_FIELD = "    private   String   field%d ;\n";
+
+    @Test
+    public void testReformattedCodeDoesNotGrowWithFileLength() {
+        assertEquals(reformattedLength(SMALL), reformattedLength(LARGE));
+    }
+
+    @Test
+    public void testChangeDoesNotGrowWithFileLength() {
+        assertEquals(changedLength(SMALL), changedLength(LARGE));
+    }
+
+    private int reformattedLength(int fieldCount) {
+        PsiFile copy = createCopy(fieldCount, FORMATTED_FIELD);
+        String textBeforeUpdate = copy.getText();
+        newProposal(copy).performUpdate();
+        return ASTRewriteCorrectionProposal.getReformatRanges(copy, textBeforeUpdate).stream()
+                .mapToInt(TextRange::getLength).sum();
+    }
+
+    /**
+     * Returns the number of characters changed by {@link ASTRewriteCorrectionProposal#getChange()} in a class whose
+     * fields are not formatted.
+     */
+    private int changedLength(int fieldCount) {
+        PsiFile copy = createCopy(fieldCount, UNFORMATTED_FIELD);
+        String textBeforeUpdate = copy.getText();
+        String textAfterUpdate = newProposal(copy).getChange().getTargetDocument().getText();
+        assertTrue(textAfterUpdate.contains(String.format(UNFORMATTED_FIELD, 41)));
+        assertTrue(textAfterUpdate.contains(String.format(UNFORMATTED_FIELD, 43)));
+        return TextDiff.diff(textBeforeUpdate, textAfterUpdate).stream()
+                .mapToInt(edit -> edit.end() - edit.start() + edit.newText().length()).sum();
+    }
+
+    /**
+     * Creates a class with the given number of fields and returns a copy of it, like the code action context does.
+     */
+    private PsiFile createCopy(int fieldCount, String fieldFormat) {
+        StringBuilder text = new StringBuilder("package demo;\n\nimport java.util.List;\n\npublic class Large {\n");
+        for (int i = 0; i < fieldCount; i++) {
+            text.append(String.format(fieldFormat, i));
+        }
+        text.append("}\n");
+        PsiFile file = PsiFileFactory.getInstance(getProject()).createFileFromText("Large.java", JavaLanguage.INSTANCE, text);
+        return file.getViewProvider().clone().getPsi(file.getLanguage());
+    }
+
+    private ASTRewriteCorrectionProposal newProposal(PsiFile copy) {
+        PsiField field = ((PsiJavaFile) copy).getClasses()[0].findFieldByName("field42", false);
+        return new InsertAnnotationProposal("Insert @Inject", copy, copy, field, 0, copy, "jakarta.inject.Inject");
+    }
+}
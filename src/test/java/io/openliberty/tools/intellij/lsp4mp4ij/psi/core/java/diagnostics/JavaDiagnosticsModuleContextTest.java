@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.diagnostics;
+
+import com.intellij.openapi.application.WriteAction;
+import com.intellij.openapi.module.JavaModuleType;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.module.ModuleManager;
+import com.intellij.openapi.util.io.FileUtil;
+import com.intellij.openapi.vfs.LocalFileSystem;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiFile;
+import com.intellij.testFramework.IndexingTestUtil;
+import com.intellij.testFramework.PsiTestUtil;
+import com.intellij.testFramework.VfsTestUtil;
+import com.intellij.testFramework.fixtures.LightJavaCodeInsightFixtureTestCase;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.PsiTypeUtils;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.ls.PsiUtilsLSImpl;
+import org.eclipse.lsp4mp.commons.DocumentFormat;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Checks that the classpath lookups of a diagnostics request are shared by the
+ * compilation units of a module, and only by them.
+ */
+@RunWith(JUnit4.class)
+public class JavaDiagnosticsModuleContextTest extends LightJavaCodeInsightFixtureTestCase {
+
+    private Module otherModule;
+
+    private final List<String> lookups = new ArrayList<>();
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        VirtualFile otherRoot = LocalFileSystem.getInstance()
+                .refreshAndFindFileByIoFile(FileUtil.createTempDirectory("other", null));
+        VirtualFile otherSources = VfsTestUtil.createDir(otherRoot, "src");
+        otherModule = PsiTestUtil.addModule(getProject(), JavaModuleType.getModuleType(), "other", otherRoot);
+        PsiTestUtil.addSourceRoot(otherModule, otherSources);
+        VfsTestUtil.createFile(otherSources, "demo/OtherOnly.java", "package demo;\n\npublic class OtherOnly {\n}\n");
+        IndexingTestUtil.waitUntilIndexesAreReady(getProject());
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        try {
+            if (otherModule != null) {
+                WriteAction.runAndWait(() -> ModuleManager.getInstance(getProject()).disposeModule(otherModule));
+            }
+        } catch (Throwable e) {
+            addSuppressedException(e);
+        } finally {
+            super.tearDown();
+        }
+    }
+
+    @Test
+    public void testFilesOfSameModuleShareLookups() {
+        PsiFile greeting = myFixture.addFileToProject("demo/Greeting.java", "package demo;\n\npublic class Greeting {\n}\n");
+        PsiFile resource = myFixture.addFileToProject("demo/Resource.java", "package demo;\n\npublic class Resource {\n}\n");
+        JavaDiagnosticsModuleContext moduleContext = createModuleContext(getModule());
+        JavaDiagnosticsContext greetingContext = createContext(greeting, moduleContext);
+        JavaDiagnosticsContext resourceContext = createContext(resource, moduleContext);
+
+        assertTrue(greetingContext.isTypeOnClasspath("demo.Greeting"));
+        assertFalse(greetingContext.isTypeOnClasspath("demo.OtherOnly"));
+        assertTrue(resourceContext.isTypeOnClasspath("demo.Greeting"));
+        assertFalse(resourceContext.isTypeOnClasspath("demo.OtherOnly"));
+        assertEquals(List.of(getModule().getName() + " demo.Greeting", getModule().getName() + " demo.OtherOnly"), lookups);
+    }
+
+    @Test
+    public void testModulesDoNotShareResults() {
+        myFixture.addClass("package demo;\n\npublic class Greeting {\n}\n");
+        JavaDiagnosticsModuleContext moduleContext = createModuleContext(getModule());
+        JavaDiagnosticsModuleContext otherModuleContext = createModuleContext(otherModule);
+
+        assertTrue(moduleContext.isTypeOnClasspath("demo.Greeting"));
+        assertFalse(otherModuleContext.isTypeOnClasspath("demo.Greeting"));
+        assertFalse(moduleContext.isTypeOnClasspath("demo.OtherOnly"));
+        assertTrue(otherModuleContext.isTypeOnClasspath("demo.OtherOnly"));
+        assertEquals(4, lookups.size());
+    }
+
+    private JavaDiagnosticsModuleContext createModuleContext(Module module) {
+        return new JavaDiagnosticsModuleContext(module, PsiUtilsLSImpl.getInstance(getProject()),
+                DocumentFormat.Markdown, null, (javaProject, typeName) -> {
+            lookups.add(javaProject.getName() + " " + typeName);
+            return PsiTypeUtils.findType(javaProject, typeName) != null;
+        });
+    }
+
+    private static JavaDiagnosticsContext createContext(PsiFile file, JavaDiagnosticsModuleContext moduleContext) {
+        return new JavaDiagnosticsContext(file.getVirtualFile().getUrl(), file, moduleContext);
+    }
+}
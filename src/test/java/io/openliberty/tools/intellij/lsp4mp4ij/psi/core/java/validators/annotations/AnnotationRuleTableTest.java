@@ -0,0 +1,115 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.validators.annotations;
+
+import com.intellij.psi.PsiAnnotation;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.testFramework.fixtures.LightJavaCodeInsightFixtureTestCase;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.AnnotationUtils;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.java.validators.JavaASTValidatorRegistry;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Checks that the {@link AnnotationRuleTable} finds the same rules as matching every rule against every annotation.
+ */
+@RunWith(JUnit4.class)
+public class AnnotationRuleTableTest extends LightJavaCodeInsightFixtureTestCase {
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        myFixture.addClass("package org.eclipse.microprofile.faulttolerance;\n\npublic @interface Retry {\n    int maxRetries() default 3;\n}\n");
+        myFixture.addClass("package org.eclipse.microprofile.faulttolerance;\n\npublic @interface Timeout {\n    long value() default 1000;\n}\n");
+        myFixture.addClass("package org.eclipse.microprofile.faulttolerance;\n\npublic @interface Bulkhead {\n    int value() default 10;\n}\n");
+        myFixture.addClass("package demo.other;\n\npublic @interface Retry {\n}\n");
+    }
+
+    @Test
+    public void testRegisteredRules() {
+        assertSameRules(JavaASTValidatorRegistry.getInstance().getRules());
+        assertSameRules(JavaASTValidatorRegistry.getInstance().getRuleTable(), JavaASTValidatorRegistry.getInstance().getRules());
+    }
+
+    @Test
+    public void testRegisteredRulesAreSnapshot() {
+        Collection<AnnotationRule> rules = JavaASTValidatorRegistry.getInstance().getRules();
+        assertThrows(UnsupportedOperationException.class, rules::clear);
+        assertEquals(new ArrayList<>(rules), JavaASTValidatorRegistry.getInstance().getRuleTable().getRules());
+    }
+
+    @Test
+    public void testRulesWithSameSimpleName() {
+        List<AnnotationRule> rules = new ArrayList<>();
+        rules.add(new AnnotationRule("org.eclipse.microprofile.faulttolerance.Retry"));
+        rules.add(new AnnotationRule("demo.other.Retry"));
+        rules.add(new AnnotationRule("org.eclipse.microprofile.faulttolerance.Timeout"));
+        rules.add(new AnnotationRule("Bulkhead"));
+        rules.add(new AnnotationRule("org.eclipse.microprofile.faulttolerance.CircuitBreaker"));
+        assertSameRules(rules);
+    }
+
+    private void assertSameRules(Collection<AnnotationRule> rules) {
+        assertSameRules(new AnnotationRuleTable(rules), rules);
+    }
+
+    private void assertSameRules(AnnotationRuleTable table, Collection<AnnotationRule> rules) {
+        PsiFile file = myFixture.configureByText("Service.java", """
+                package demo;
+
+                import org.eclipse.microprofile.faulttolerance.Retry;
+
+                public class Service {
+                    @Retry(maxRetries = 2)
+                    public void retried() {}
+
+                    @org.eclipse.microprofile.faulttolerance.Timeout(500)
+                    public void timed() {}
+
+                    @org.eclipse.microprofile.faulttolerance.Bulkhead
+                    public void bulkhead() {}
+
+                    @demo.other.Retry
+                    public void otherRetry() {}
+
+                    @Bulkhead
+                    public void unresolved() {}
+
+                    @faulttolerance.CircuitBreaker
+                    public void partiallyQualified() {}
+
+                    @Deprecated
+                    public void deprecated() {}
+                }
+                """);
+        Collection<PsiAnnotation> annotations = PsiTreeUtil.findChildrenOfType(file, PsiAnnotation.class);
+        assertEquals(7, annotations.size());
+        int matches = 0;
+        for (PsiAnnotation annotation : annotations) {
+            // the matching of the rules before the table
+            List<AnnotationRule> expected = rules.stream()
+                    .filter(rule -> AnnotationUtils.isMatchAnnotation(annotation, rule.getAnnotation()))
+                    .collect(Collectors.toList());
+            assertEquals(annotation.getText(), expected, table.getRules(annotation));
+            matches += expected.size();
+        }
+        assertTrue("the rules should match some annotations", matches > 0);
+    }
+}
@@ -0,0 +1,127 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.validators.annotations;
+
+import com.intellij.psi.PsiFile;
+import com.intellij.testFramework.fixtures.LightJavaCodeInsightFixtureTestCase;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.diagnostics.JavaDiagnosticsContext;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.ls.PsiUtilsLSImpl;
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4mp.commons.DocumentFormat;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Checks the validation of the numeric constant values of annotation attributes against the ranges of the rules.
+ */
+@RunWith(JUnit4.class)
+public class AnnotationRulesJavaASTValidatorTest extends LightJavaCodeInsightFixtureTestCase {
+
+    private static final String SOURCE = """
+            package demo;
+
+            public class Service {
+                static final long LIMIT = Integer.MAX_VALUE;
+                static final String NAME = "name";
+
+                @Limit(value = Integer.MAX_VALUE + 0)
+                public void maxInt() {}
+
+                @Limit(value = Integer.MAX_VALUE + 1)
+                public void overflowingInt() {}
+
+                @Limit(value = LIMIT + 1)
+                public void aboveMaxInt() {}
+
+                @Limit(value = LIMIT * 1)
+                public void longConstant() {}
+
+                @Limit(value = -1)
+                public void negative() {}
+
+                @Limit(value = 1, name = NAME + "s")
+                public void stringConstant() {}
+
+                @Limit(value = 1, enabled = !false)
+                public void booleanConstant() {}
+            }
+            """;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        myFixture.addClass("""
+                package demo;
+
+                public @interface Limit {
+                    long value() default 0;
+                    String name() default "";
+                    boolean enabled() default true;
+                }
+                """);
+    }
+
+    @Test
+    public void testRanges() throws RangeExpressionException {
+        AnnotationRule rule = new AnnotationRule("demo.Limit", "test");
+        rule.addRule(createAttributeRule("value", "[0,2147483647]"));
+        // the rules of the attributes which are not numbers are skipped
+        rule.addRule(createAttributeRule("name", "1"));
+        rule.addRule(createAttributeRule("enabled", "1"));
+
+        PsiFile file = myFixture.configureByText("Service.java", SOURCE);
+        JavaDiagnosticsContext context = new JavaDiagnosticsContext(file.getVirtualFile().getUrl(), file,
+                PsiUtilsLSImpl.getInstance(getProject()), getModule(), DocumentFormat.Markdown, null);
+        List<Diagnostic> diagnostics = new ArrayList<>();
+        AnnotationRulesJavaASTValidator validator = new AnnotationRulesJavaASTValidator(List.of(rule));
+        validator.initialize(context, diagnostics);
+        file.accept(validator);
+
+        assertEquals(List.of(annotationLine("overflowingInt"), annotationLine("aboveMaxInt"), annotationLine("negative")),
+                diagnostics.stream().map(diagnostic -> diagnostic.getRange().getStart().getLine()).toList());
+        assertTrue(diagnostics.stream().allMatch(diagnostic -> "test".equals(diagnostic.getSource())));
+    }
+
+    @Test
+    public void testValidateDouble() throws RangeExpressionException {
+        AnnotationAttributeRule rule = createAttributeRule("value", "[0,2147483647]");
+        assertNull(rule.validate(0));
+        assertNull(rule.validate(Integer.MAX_VALUE));
+        assertNotNull(rule.validate(Integer.MAX_VALUE + 1L));
+        assertNotNull(rule.validate(Integer.MIN_VALUE));
+        assertNotNull(rule.validate(Long.MAX_VALUE));
+        assertEquals(rule.validate("2147483648"), rule.validate(2147483648d));
+        assertNull(new AnnotationAttributeRule("value").validate(-1));
+    }
+
+    private static AnnotationAttributeRule createAttributeRule(String attribute, String range)
+            throws RangeExpressionException {
+        AnnotationAttributeRule attributeRule = new AnnotationAttributeRule(attribute);
+        attributeRule.setRange(range);
+        return attributeRule;
+    }
+
+    private static int annotationLine(String methodName) {
+        String[] lines = SOURCE.split("\n");
+        for (int i = 0; i < lines.length; i++) {
+            if (lines[i].contains(" " + methodName + "(")) {
+                return i - 1;
+            }
+        }
+        throw new IllegalArgumentException(methodName);
+    }
+}
@@ -0,0 +1,40 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.core.project;
+
+import com.intellij.testFramework.PlatformTestUtil;
+import com.intellij.testFramework.fixtures.LightJavaCodeInsightFixtureTestCase;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.ls.PsiUtilsLSImpl;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/**
+ * Checks that the first request of the property name index does not wait for
+ * the scan of the project.
+ */
+@RunWith(JUnit4.class)
+public class PsiMicroProfileProjectTest extends LightJavaCodeInsightFixtureTestCase {
+
+    @Test
+    public void testIndexIsBuiltInBackground() {
+        IPsiUtils utils = PsiUtilsLSImpl.getInstance(getProject());
+        PsiMicroProfileProject mpProject = new PsiMicroProfileProject(getModule());
+
+        assertNull(mpProject.getPropertyNameIndex(utils));
+        PlatformTestUtil.waitWithEventsDispatching("The property name index was not built",
+                () -> mpProject.getPropertyNameIndex(utils) != null, 10);
+        assertSame(mpProject.getPropertyNameIndex(utils), mpProject.getPropertyNameIndex(utils));
+    }
+}
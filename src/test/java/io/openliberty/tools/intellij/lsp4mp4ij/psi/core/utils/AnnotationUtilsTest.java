@@ -0,0 +1,75 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils;
+
+import com.intellij.psi.JavaPsiFacade;
+import com.intellij.psi.PsiAnnotation;
+import com.intellij.psi.PsiClass;
+import com.intellij.testFramework.fixtures.LightJavaCodeInsightFixtureTestCase;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/**
+ * Checks how {@link AnnotationUtils#isMatchAnnotation(PsiAnnotation, String)} matches resolved, partially qualified
+ * and unresolved annotations.
+ */
+@RunWith(JUnit4.class)
+public class AnnotationUtilsTest extends LightJavaCodeInsightFixtureTestCase {
+
+    private PsiClass context;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        myFixture.addClass("package org.x;\n\npublic @interface Foo {\n}\n");
+        myFixture.addClass("package org.x;\n\npublic @interface BarFoo {\n}\n");
+        myFixture.addClass("package org.y;\n\npublic @interface Foo {\n}\n");
+        context = myFixture.addClass("package demo;\n\npublic class Demo {\n}\n");
+    }
+
+    @Test
+    public void testResolvedAnnotation() {
+        assertTrue(AnnotationUtils.isMatchAnnotation(annotation("@org.x.Foo"), "org.x.Foo"));
+        assertFalse(AnnotationUtils.isMatchAnnotation(annotation("@org.y.Foo"), "org.x.Foo"));
+        assertFalse(AnnotationUtils.isMatchAnnotation(null, "org.x.Foo"));
+    }
+
+    @Test
+    public void testSimpleNameIsMatchedAfterDot() {
+        // Foo is the end of BarFoo, but not its simple name
+        assertFalse(AnnotationUtils.isMatchAnnotation(annotation("@org.x.BarFoo"), "Foo"));
+        assertFalse(AnnotationUtils.isMatchAnnotation(annotation("@org.x.BarFoo"), "org.x.Foo"));
+        assertFalse(AnnotationUtils.isMatchAnnotation(annotation("@org.x.Foo"), "org.x.BarFoo"));
+        assertFalse(AnnotationUtils.isMatchAnnotation(annotation("@BarFoo"), "org.x.Foo"));
+    }
+
+    @Test
+    public void testPartiallyQualifiedAnnotation() {
+        assertTrue(AnnotationUtils.isMatchAnnotation(annotation("@x.Foo"), "org.x.Foo"));
+        assertFalse(AnnotationUtils.isMatchAnnotation(annotation("@y.Foo"), "org.x.Foo"));
+        assertFalse(AnnotationUtils.isMatchAnnotation(annotation("@rg.x.Foo"), "org.x.Foo"));
+    }
+
+    @Test
+    public void testUnresolvedAnnotation() {
+        // the name of an unresolved annotation is the name written in the code
+        assertTrue(AnnotationUtils.isMatchAnnotation(annotation("@Foo"), "org.x.Foo"));
+        assertFalse(AnnotationUtils.isMatchAnnotation(annotation("@Unknown"), "org.x.Foo"));
+        assertFalse(AnnotationUtils.isMatchAnnotation(annotation("@Unknown"), "Foo"));
+    }
+
+    private PsiAnnotation annotation(String text) {
+        return JavaPsiFacade.getElementFactory(getProject()).createAnnotationFromText(text, context);
+    }
+}
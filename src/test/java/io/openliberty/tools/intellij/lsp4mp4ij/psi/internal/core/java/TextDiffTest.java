@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.java;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(JUnit4.class)
+public class TextDiffTest {
+
+    @Test
+    public void equalTexts() {
+        assertEquals(List.of(), TextDiff.diff("", ""));
+        assertEquals(List.of(), TextDiff.diff("class A {}\n", "class A {}\n"));
+    }
+
+    @Test
+    public void insertedAnnotation() {
+        String source = "package demo;\n\npublic class Greeting {\n    private String name;\n}\n";
+        String target = "package demo;\n\n@ApplicationScoped\npublic class Greeting {\n    private String name;\n}\n";
+        assertEquals(List.of(new TextDiff.Edit(15, 15, "@ApplicationScoped\n")), TextDiff.diff(source, target));
+    }
+
+    @Test
+    public void changesAreTrimmedToCharacters() {
+        String source = "public class A {\n    int a = 1;\n    int b = 2;\n    int c = 3;\n}\n";
+        String target = "public class A {\n    int a = 10;\n    int b = 2;\n    long c = 3;\n}\n";
+        List<TextDiff.Edit> edits = TextDiff.diff(source, target);
+        assertEquals(List.of(new TextDiff.Edit(30, 30, "0"), new TextDiff.Edit(51, 54, "long")), edits);
+        assertEquals(target, apply(source, edits));
+    }
+
+    @Test
+    public void removedAndAddedLines() {
+        String source = "a\nb\nc\nd\ne\n";
+        String target = "a\nc\nd\nx\ne\nf";
+        assertEquals(target, apply(source, TextDiff.diff(source, target)));
+        assertEquals(source, apply(target, TextDiff.diff(target, source)));
+        assertEquals("", apply(source, TextDiff.diff(source, "")));
+        assertEquals(target, apply("", TextDiff.diff("", target)));
+    }
+
+    @Test
+    public void randomEdits() {
+        Random random = new Random(42);
+        String[] lines = {"import a;", "@Inject", "private int x;", "}", "", "public void m() {", "    return;"};
+        for (int iteration = 0; iteration < 500; iteration++) {
+            String source = randomText(random, lines);
+            String target = randomText(random, lines);
+            List<TextDiff.Edit> edits = TextDiff.diff(source, target);
+            assertEquals(target, apply(source, edits));
+            int previousEnd = 0;
+            for (TextDiff.Edit edit : edits) {
+                assertTrue("edits must be sorted and must not overlap", edit.start() >= previousEnd);
+                previousEnd = edit.end();
+            }
+        }
+    }
+
+    @Test
+    public void payloadScalesWithEditNotFile() {
+        int smallPayload = payload(500);
+        int largePayload = payload(50_000);
+        // the edit of a 50,000 line file is as large as the same edit of a 500 line file
+        assertEquals(smallPayload, largePayload);
+        assertTrue(largePayload < 100);
+    }
+
+    /**
+     * Returns the size of the edits which add an annotation and change a field
+     * type in a class with the given number of lines.
+     */
+    private static int payload(int lineCount) {
+        StringBuilder source = new StringBuilder("public class Large {\n");
+        for (int i = 0; i < lineCount; i++) {
+            source.append("    private String field").append(i).append(";\n");
+        }
+        source.append("}\n");
+        String target = source.toString()
+                .replace("public class Large {\n", "@ApplicationScoped\npublic class Large {\n")
+                .replace("private String field" + (lineCount / 2) + ";", "private Integer field" + (lineCount / 2) + ";");
+        List<TextDiff.Edit> edits = TextDiff.diff(source, target);
+        assertEquals(2, edits.size());
+        assertEquals(target, apply(source.toString(), edits));
+        int payload = 0;
+        for (TextDiff.Edit edit : edits) {
+            payload += edit.newText().length() + (edit.end() - edit.start());
+        }
+        return payload;
+    }
+
+    private static String randomText(Random random, String[] lines) {
+        StringBuilder text = new StringBuilder();
+        int count = random.nextInt(12);
+        for (int i = 0; i < count; i++) {
+            text.append(lines[random.nextInt(lines.length)]);
+            if (i < count - 1 || random.nextBoolean()) {
+                text.append('\n');
+            }
+        }
+        return text.toString();
+    }
+
+    private static String apply(String text, List<TextDiff.Edit> edits) {
+        StringBuilder result = new StringBuilder(text);
+        List<TextDiff.Edit> reversed = new ArrayList<>(edits);
+        for (int i = reversed.size() - 1; i >= 0; i--) {
+            TextDiff.Edit edit = reversed.get(i);
+            result.replace(edit.start(), edit.end(), edit.newText());
+        }
+        return result.toString();
+    }
+}
@@ -0,0 +1,121 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.java.codeaction;
+
+import com.google.gson.Gson;
+import org.eclipse.lsp4j.CodeAction;
+import org.eclipse.lsp4j.CodeActionKind;
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.DiagnosticSeverity;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.TextEdit;
+import org.eclipse.lsp4j.WorkspaceEdit;
+import org.eclipse.lsp4j.jsonrpc.json.MessageJsonHandler;
+import org.eclipse.lsp4mp.commons.codeaction.CodeActionResolveData;
+import org.eclipse.lsp4mp.commons.codeaction.MicroProfileCodeActionId;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+
+@RunWith(JUnit4.class)
+public class ResolvedCodeActionCacheTest {
+
+    private static final String URI = "file:///demo/src/main/java/demo/Greeting.java";
+
+    private static final Gson GSON = new MessageJsonHandler(Collections.emptyMap()).getGson();
+
+    @Test
+    public void resolveRequestHitsEagerResolution() {
+        ResolvedCodeActionCache cache = new ResolvedCodeActionCache(10);
+        // the code action resolved eagerly when the client doesn't support code action resolve
+        CodeAction eager = createCodeAction("Insert @Inject");
+        cache.put(ResolvedCodeActionCache.Key.of(eager, 1), createEdit("@Inject\n"));
+
+        // the same code action sent back by the client in a codeAction/resolve request
+        CodeAction resolveRequest = sendToClientAndBack(eager);
+        assertEquals(createEdit("@Inject\n"), cache.get(ResolvedCodeActionCache.Key.of(resolveRequest, 1)));
+    }
+
+    @Test
+    public void documentChangeMissesCachedEdit() {
+        ResolvedCodeActionCache cache = new ResolvedCodeActionCache(10);
+        CodeAction codeAction = createCodeAction("Insert @Inject");
+        cache.put(ResolvedCodeActionCache.Key.of(codeAction, 1), createEdit("@Inject\n"));
+        assertNull(cache.get(ResolvedCodeActionCache.Key.of(codeAction, 2)));
+        assertNull(cache.get(ResolvedCodeActionCache.Key.of(createCodeAction("Insert @Named"), 1)));
+    }
+
+    @Test
+    public void callersGetCopies() {
+        ResolvedCodeActionCache cache = new ResolvedCodeActionCache(10);
+        ResolvedCodeActionCache.Key key = ResolvedCodeActionCache.Key.of(createCodeAction("Insert @Inject"), 1);
+        WorkspaceEdit edit = createEdit("@Inject\n");
+        cache.put(key, edit);
+        edit.getChanges().get(URI).get(0).setNewText("@Named\n");
+
+        WorkspaceEdit first = cache.get(key);
+        assertNotSame(first, cache.get(key));
+        first.getChanges().get(URI).clear();
+        assertEquals(createEdit("@Inject\n"), cache.get(key));
+    }
+
+    @Test
+    public void leastRecentlyUsedEntryIsEvicted() {
+        ResolvedCodeActionCache cache = new ResolvedCodeActionCache(2);
+        CodeAction codeAction = createCodeAction("Insert @Inject");
+        cache.put(ResolvedCodeActionCache.Key.of(codeAction, 1), createEdit("1"));
+        cache.put(ResolvedCodeActionCache.Key.of(codeAction, 2), createEdit("2"));
+        assertNotNull(cache.get(ResolvedCodeActionCache.Key.of(codeAction, 1)));
+        cache.put(ResolvedCodeActionCache.Key.of(codeAction, 3), createEdit("3"));
+        assertNotNull(cache.get(ResolvedCodeActionCache.Key.of(codeAction, 1)));
+        assertNull(cache.get(ResolvedCodeActionCache.Key.of(codeAction, 2)));
+        assertNotEquals(ResolvedCodeActionCache.Key.of(codeAction, 1), ResolvedCodeActionCache.Key.of(codeAction, 3));
+    }
+
+    private static CodeAction createCodeAction(String title) {
+        Range range = new Range(new Position(4, 4), new Position(4, 20));
+        Diagnostic diagnostic = new Diagnostic(range, "The field should be injected", DiagnosticSeverity.Warning,
+                "microprofile-demo", "MissingInject");
+        CodeAction codeAction = new CodeAction(title);
+        codeAction.setKind(CodeActionKind.QuickFix);
+        codeAction.setDiagnostics(List.of(diagnostic));
+        codeAction.setData(new CodeActionResolveData(URI, "demo.InsertInjectQuickFix", range, null, true, true,
+                MicroProfileCodeActionId.InsertInjectAnnotation));
+        return codeAction;
+    }
+
+    private static CodeAction sendToClientAndBack(CodeAction codeAction) {
+        CodeAction received = GSON.fromJson(GSON.toJson(codeAction), CodeAction.class);
+        // like MicroProfileLanguageClient#resolveCodeAction
+        received.setData(GSON.fromJson(GSON.toJsonTree(received.getData()), CodeActionResolveData.class));
+        return received;
+    }
+
+    private static WorkspaceEdit createEdit(String text) {
+        List<TextEdit> edits = new ArrayList<>();
+        edits.add(new TextEdit(new Range(new Position(4, 4), new Position(4, 4)), text));
+        return new WorkspaceEdit(Map.of(URI, edits));
+    }
+}
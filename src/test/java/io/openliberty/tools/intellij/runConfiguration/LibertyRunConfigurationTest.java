@@ -0,0 +1,122 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.tools.intellij.runConfiguration;
+
+import com.intellij.openapi.application.WriteAction;
+import com.intellij.openapi.util.Disposer;
+import com.intellij.openapi.util.io.FileUtil;
+import com.intellij.openapi.vfs.VfsUtil;
+import com.intellij.testFramework.fixtures.BasePlatformTestCase;
+import io.openliberty.tools.intellij.LibertyModules;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Checks that Liberty run configurations share a single scan of the build files.
+ */
+@RunWith(JUnit4.class)
+public class LibertyRunConfigurationTest extends BasePlatformTestCase {
+
+    private static final int CONFIGURATION_COUNT = 25;
+
+    @Test
+    public void testOpeningDialogScansBuildFilesOnce() {
+        LibertyModules libertyModules = LibertyModules.getInstance();
+        libertyModules.invalidate();
+        int scans = libertyModules.getScanCount();
+
+        List<LibertyRunConfiguration> configurations = createConfigurations();
+        assertEquals("creating run configurations should not scan the build files", scans, libertyModules.getScanCount());
+
+        openDialog(configurations);
+        assertEquals(scans + 1, libertyModules.getScanCount());
+
+        // opening the dialog again without any change reuses the scan
+        openDialog(configurations);
+        assertEquals(scans + 1, libertyModules.getScanCount());
+    }
+
+    @Test
+    public void testBuildFileChangeInvalidatesScan() {
+        LibertyModules libertyModules = LibertyModules.getInstance();
+        List<LibertyRunConfiguration> configurations = createConfigurations();
+        openDialog(configurations);
+        int scans = libertyModules.getScanCount();
+
+        // unrelated files do not invalidate the Liberty modules
+        myFixture.addFileToProject("Sample.java", "public class Sample {}");
+        openDialog(configurations);
+        assertEquals(scans, libertyModules.getScanCount());
+
+        myFixture.addFileToProject("app/pom.xml", "<project><artifactId>app</artifactId></project>");
+        openDialog(configurations);
+        assertEquals(scans + 1, libertyModules.getScanCount());
+    }
+
+    @Test
+    public void testDirectoriesOutsideProjectContentDoNotInvalidateScan() throws IOException {
+        LibertyModules libertyModules = LibertyModules.getInstance();
+        List<LibertyRunConfiguration> configurations = createConfigurations();
+        Path outside = FileUtil.createTempDirectory("liberty", null).toPath();
+        openDialog(configurations);
+        int scans = libertyModules.getScanCount();
+
+        // like a compilation into the build output of another project
+        WriteAction.runAndWait(() -> VfsUtil.createDirectories(outside.resolve("target/classes/demo").toString()));
+        openDialog(configurations);
+        assertEquals(scans, libertyModules.getScanCount());
+    }
+
+    @Test
+    public void testSettingsGradleChangeInvalidatesScan() {
+        LibertyModules libertyModules = LibertyModules.getInstance();
+        List<LibertyRunConfiguration> configurations = createConfigurations();
+        myFixture.addFileToProject("service/build.gradle", "apply plugin: 'liberty'");
+        openDialog(configurations);
+        int scans = libertyModules.getScanCount();
+
+        // renames the Gradle root project
+        myFixture.addFileToProject("service/settings.gradle", "rootProject.name = 'renamed'");
+        openDialog(configurations);
+        assertEquals(scans + 1, libertyModules.getScanCount());
+    }
+
+    private List<LibertyRunConfiguration> createConfigurations() {
+        LibertyRunConfigurationFactory factory = new LibertyRunConfigurationFactory(new LibertyRunConfigurationType());
+        List<LibertyRunConfiguration> configurations = new ArrayList<>();
+        for (int i = 0; i < CONFIGURATION_COUNT; i++) {
+            configurations.add(new LibertyRunConfiguration(getProject(), factory, "Liberty " + i));
+        }
+        return configurations;
+    }
+
+    /**
+     * The run configuration dialog creates an editor for each configuration and resets it from the configuration.
+     */
+    private void openDialog(List<LibertyRunConfiguration> configurations) {
+        for (LibertyRunConfiguration configuration : configurations) {
+            LibertyRunSettingsEditor editor = (LibertyRunSettingsEditor) configuration.getConfigurationEditor();
+            try {
+                editor.resetFrom(configuration);
+            } finally {
+                Disposer.dispose(editor);
+            }
+        }
+    }
+}
@@ -0,0 +1,211 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.tools.intellij.util;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+@RunWith(JUnit4.class)
+public class DebugSocketActivationTest {
+
+    private static final String HOST = "localhost";
+
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    private ExecutorService executor;
+
+    private Path pluginConfig;
+
+    private Path serverDirectory;
+
+    @Before
+    public void setUp() throws IOException {
+        executor = Executors.newCachedThreadPool();
+        pluginConfig = tempFolder.getRoot().toPath().resolve("target").resolve("liberty-plugin-config.xml");
+        serverDirectory = tempFolder.newFolder("wlp", "usr", "servers", "defaultServer").toPath();
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void attachesWhenServerEnvIsCreated() throws Exception {
+        writePluginConfig();
+        try (FakeJdwpListener listener = new FakeJdwpListener()) {
+            Future<Integer> result = executor.submit(new DebugSocketActivation(pluginConfig, HOST, 1, 30, () -> false)::await);
+            assertNotDone(result, 500);
+
+            listener.events.add("server.env created");
+            writeServerEnv(DebugModeHandler.WLP_SERVER_ENV_FILE_NAME, listener.getPort());
+
+            assertEquals(Integer.valueOf(listener.getPort()), result.get(10, TimeUnit.SECONDS));
+            listener.awaitHandshake();
+            assertEquals(List.of("server.env created", "handshake"), listener.events);
+        }
+    }
+
+    @Test
+    public void waitsForServerEnvBackupWhenServerEnvExists() throws Exception {
+        writePluginConfig();
+        try (FakeJdwpListener listener = new FakeJdwpListener()) {
+            // server.env left over from a previous start, pointing to the listener
+            writeServerEnv(DebugModeHandler.WLP_SERVER_ENV_FILE_NAME, listener.getPort());
+            Future<Integer> result = executor.submit(new DebugSocketActivation(pluginConfig, HOST, 1, 30, () -> false)::await);
+            assertNotDone(result, 500);
+
+            writeServerEnv(DebugModeHandler.WLP_SERVER_ENV_BAK_FILE_NAME, listener.getPort());
+            assertEquals(Integer.valueOf(listener.getPort()), result.get(10, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    public void waitsForPluginConfigAndRuntime() throws Exception {
+        int port;
+        try (ServerSocket reserved = new ServerSocket(0)) {
+            port = reserved.getLocalPort();
+        }
+        Future<Integer> result = executor.submit(new DebugSocketActivation(pluginConfig, HOST, port, 30, () -> false)::await);
+        assertNotDone(result, 300);
+
+        // dev mode writes the plugin config then server.env, the JVM listens a little later
+        writePluginConfig();
+        writeServerEnv(DebugModeHandler.WLP_SERVER_ENV_FILE_NAME, port);
+        assertNotDone(result, 300);
+
+        try (FakeJdwpListener listener = new FakeJdwpListener(port)) {
+            assertEquals(Integer.valueOf(port), result.get(10, TimeUnit.SECONDS));
+            listener.awaitHandshake();
+        }
+    }
+
+    @Test
+    public void returnsNullWhenCanceled() throws Exception {
+        writePluginConfig();
+        CompletableFuture<Void> cancel = new CompletableFuture<>();
+        Future<Integer> result = executor.submit(new DebugSocketActivation(pluginConfig, HOST, 1, 30, cancel::isDone)::await);
+        assertNotDone(result, 300);
+        cancel.complete(null);
+        assertNull(result.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void failsAfterTimeout() throws Exception {
+        writePluginConfig();
+        Future<Integer> result = executor.submit(new DebugSocketActivation(pluginConfig, HOST, 1, 1, () -> false)::await);
+        try {
+            result.get(10, TimeUnit.SECONDS);
+            fail("Expected the debugger attach to time out");
+        } catch (java.util.concurrent.ExecutionException e) {
+            assertTrue(e.getCause().getMessage(), e.getCause().getMessage().contains(HOST));
+        }
+    }
+
+    private void writePluginConfig() throws IOException {
+        Files.createDirectories(pluginConfig.getParent());
+        Files.writeString(pluginConfig, "<liberty-plugin-config><serverDirectory>" + serverDirectory
+                + "</serverDirectory></liberty-plugin-config>");
+    }
+
+    private void writeServerEnv(String name, int port) throws IOException {
+        Files.writeString(serverDirectory.resolve(name), "keystore_password=secret\nWLP_DEBUG_ADDRESS=" + port + "\n");
+    }
+
+    private static void assertNotDone(Future<?> future, long millis) throws Exception {
+        try {
+            future.get(millis, TimeUnit.MILLISECONDS);
+            fail("Debugger attached before dev mode started");
+        } catch (TimeoutException e) {
+            assertFalse(future.isDone());
+        }
+    }
+
+    /**
+     * Accepts a single connection and reads the JDWP handshake like a JVM started with
+     * -agentlib:jdwp=transport=dt_socket,server=y.
+     */
+    private static class FakeJdwpListener implements AutoCloseable {
+        private final ServerSocket serverSocket;
+        private final CompletableFuture<Void> handshake = new CompletableFuture<>();
+        private final List<String> events = new CopyOnWriteArrayList<>();
+
+        FakeJdwpListener() throws IOException {
+            this(0);
+        }
+
+        FakeJdwpListener(int port) throws IOException {
+            serverSocket = new ServerSocket(port, 1, InetAddress.getByName(HOST));
+            Thread thread = new Thread(this::accept, "fake-jdwp-listener");
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        private void accept() {
+            byte[] expected = "JDWP-Handshake".getBytes(StandardCharsets.US_ASCII);
+            try (Socket socket = serverSocket.accept(); InputStream in = socket.getInputStream()) {
+                byte[] received = in.readNBytes(expected.length);
+                if (new String(received, StandardCharsets.US_ASCII).equals("JDWP-Handshake")) {
+                    events.add("handshake");
+                    handshake.complete(null);
+                } else {
+                    handshake.completeExceptionally(new IOException("Unexpected handshake"));
+                }
+            } catch (IOException e) {
+                handshake.completeExceptionally(e);
+            }
+        }
+
+        int getPort() {
+            return serverSocket.getLocalPort();
+        }
+
+        void awaitHandshake() throws Exception {
+            handshake.get(10, TimeUnit.SECONDS);
+        }
+
+        @Override
+        public void close() throws IOException {
+            serverSocket.close();
+        }
+    }
+}
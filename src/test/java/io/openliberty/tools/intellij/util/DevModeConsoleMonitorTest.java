@@ -0,0 +1,84 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.util;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+@RunWith(JUnit4.class)
+public class DevModeConsoleMonitorTest {
+
+    private static final List<String> PARSED = List.of(
+            "[INFO] Source compilation was successful.",
+            "",
+            "[INFO] Tests passed.",
+            "",
+            "[INFO] Changes detected.",
+            "",
+            "[INFO] Tests passed.",
+            "");
+
+    @Test
+    public void repeatedLinesWithoutTrimmedHistory() {
+        List<String> buffer = List.of(
+                "[INFO] Source compilation was successful.",
+                "",
+                "[INFO] Tests passed.",
+                "",
+                "[INFO] Changes detected.",
+                "",
+                "[INFO] Tests passed.",
+                "",
+                "",
+                "[INFO] Tests passed.");
+        assertEquals(8, DevModeConsoleMonitor.findNextLine(PARSED, 8, buffer::get));
+    }
+
+    @Test
+    public void repeatedLinesWithTrimmedHistory() {
+        // the 3 oldest lines were dropped, the last parsed line "" is also found at 7 and at 9
+        List<String> buffer = List.of(
+                "",
+                "[INFO] Changes detected.",
+                "",
+                "[INFO] Tests passed.",
+                "",
+                "",
+                "[INFO] Tests passed.",
+                "",
+                "[INFO] Tests passed.",
+                "");
+        assertEquals(5, DevModeConsoleMonitor.findNextLine(PARSED, 8, buffer::get));
+    }
+
+    @Test
+    public void partiallyTrimmedParsedLines() {
+        // only the most recent parsed lines are still in the buffer
+        List<String> buffer = List.of(
+                "[INFO] Tests passed.",
+                "",
+                "[INFO] Changes detected.",
+                "",
+                "[INFO] Changes detected.",
+                "");
+        assertEquals(2, DevModeConsoleMonitor.findNextLine(PARSED, 6, buffer::get));
+    }
+
+    @Test
+    public void clearedBuffer() {
+        List<String> buffer = List.of("$ ", "[INFO] Changes detected.");
+        assertEquals(-1, DevModeConsoleMonitor.findNextLine(PARSED, 2, buffer::get));
+    }
+}
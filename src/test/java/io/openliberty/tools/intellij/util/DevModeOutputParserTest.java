@@ -0,0 +1,144 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.tools.intellij.util;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static io.openliberty.tools.intellij.util.DevModeEvent.Kind.*;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(JUnit4.class)
+public class DevModeOutputParserTest {
+
+    @Test
+    public void mavenDevModeFixture() throws Exception {
+        String output = read("src/test/resources/devmode/maven-dev-mode.log");
+        // the output is parsed the same way whatever the size of the chunks received from the terminal
+        for (int chunkSize : new int[]{1, 7, 64, output.length()}) {
+            List<DevModeEvent> events = parse(output, chunkSize);
+            assertEquals(List.of(COMPILATION_SUCCEEDED, COMPILATION_SUCCEEDED, SERVER_LAUNCHED, APPLICATION_STARTED,
+                    SERVER_STARTED, DEV_MODE_STARTED, COMPILATION_FAILED, COMPILATION_SUCCEEDED, APPLICATION_STOPPED,
+                    APPLICATION_UPDATED, APPLICATION_UPDATED, APPLICATION_STOPPED, SERVER_STOPPED), kinds(events));
+
+            DevModeEvent started = events.get(3);
+            assertEquals("CWWKZ0001I", started.messageCode());
+            assertEquals("guide-getting-started", started.application());
+            assertEquals(1812, started.durationMillis());
+
+            DevModeEvent serverStarted = events.get(4);
+            assertEquals(6034, serverStarted.durationMillis());
+            assertTrue(serverStarted.message(), serverStarted.message().startsWith("CWWKF0011I: The defaultServer server"));
+
+            assertEquals("guide-getting-started", events.get(8).application());
+            assertEquals(487, events.get(9).durationMillis());
+            assertEquals(12050, events.get(10).durationMillis());
+            // the server stop duration is not in seconds
+            assertFalse(events.get(12).hasDuration());
+        }
+    }
+
+    @Test
+    public void gradleDevModeFixtureWithEscapeSequences() throws Exception {
+        String output = read("src/test/resources/devmode/gradle-dev-mode.log");
+        for (int chunkSize : new int[]{1, 5, output.length()}) {
+            List<DevModeEvent> events = parse(output, chunkSize);
+            assertEquals(List.of(COMPILATION_SUCCEEDED, SERVER_LAUNCHED, APPLICATION_FAILED, APPLICATION_STARTED,
+                    SERVER_STARTED, DEV_MODE_STARTED, COMPILATION_FAILED, APPLICATION_UPDATED), kinds(events));
+
+            assertEquals("Source compilation was successful.", events.get(0).message());
+            assertEquals("guide-gradle", events.get(2).application());
+            assertEquals(900, events.get(3).durationMillis());
+            // translated messages still report the duration
+            assertEquals("CWWKF0011I", events.get(4).messageCode());
+            assertEquals(3250, events.get(4).durationMillis());
+            assertEquals(52, events.get(7).durationMillis());
+        }
+    }
+
+    @Test
+    public void timestampsComeFromTheClock() {
+        List<DevModeEvent> events = new ArrayList<>();
+        AtomicLong clock = new AtomicLong(1000);
+        DevModeOutputParser parser = new DevModeOutputParser(events::add, clock::get);
+        parser.accept("[INFO] Source compilation was successful.\n[INFO] [AUDIT   ] CWWKZ0003I: The appl");
+        clock.set(1750);
+        parser.accept("ication demo updated in 0.250 seconds.");
+        assertEquals(1, events.size());
+        // the line is only parsed once it is complete
+        parser.endLine();
+        assertEquals(2, events.size());
+        assertEquals(1000, events.get(0).timestampMillis());
+        assertEquals(1750, events.get(1).timestampMillis());
+        assertEquals(1750 - 1000, events.get(1).timestampMillis() - events.get(0).timestampMillis());
+        assertEquals("demo", events.get(1).application());
+    }
+
+    @Test
+    public void messageCodes() {
+        assertEquals(11, DevModeOutputParser.findMessageCode("[AUDIT   ] CWWKZ0003I: The application"));
+        assertEquals(0, DevModeOutputParser.findMessageCode("SRVE0250I: Web Module demo has been bound"));
+        assertEquals(-1, DevModeOutputParser.findMessageCode("[INFO] CWWKZ0003I The application"));
+        assertEquals(-1, DevModeOutputParser.findMessageCode("XCWWKZ0003I: The application"));
+        assertEquals(-1, DevModeOutputParser.findMessageCode("[INFO] BUILD SUCCESS"));
+        assertEquals(-1, DevModeOutputParser.findMessageCode("CWWKZ003I:"));
+    }
+
+    @Test
+    public void durations() {
+        assertEquals(4567, DevModeOutputParser.findDurationMillis("server started in 4.567 seconds.", 0));
+        assertEquals(12345, DevModeOutputParser.findDurationMillis("updated in 12,3456 seconds.", 0));
+        assertEquals(-1, DevModeOutputParser.findDurationMillis("version 24.0.0.12 in 7 seconds", 18));
+        assertEquals(-1, DevModeOutputParser.findDurationMillis("no duration.", 0));
+    }
+
+    @Test
+    public void unknownCodesAndLongLines() {
+        List<DevModeEvent> events = new ArrayList<>();
+        DevModeOutputParser parser = new DevModeOutputParser(events::add);
+        parser.accept("[INFO] [AUDIT   ] CWWKT0016I: Web application available (default_host): http://localhost:9080/\n");
+        parser.accept("x".repeat(100_000) + "\n");
+        parser.accept("CWWKZ0009I: The application demo has stopped successfully.\r\n");
+        assertEquals(List.of(APPLICATION_STOPPED), kinds(events));
+        assertEquals("demo", events.get(0).application());
+        assertEquals("CWWKZ0009I", events.get(0).messageCode());
+    }
+
+    private static List<DevModeEvent> parse(String output, int chunkSize) {
+        List<DevModeEvent> events = new ArrayList<>();
+        DevModeOutputParser parser = new DevModeOutputParser(events::add, () -> 0L);
+        for (int start = 0; start < output.length(); start += chunkSize) {
+            parser.accept(output, start, Math.min(start + chunkSize, output.length()));
+        }
+        parser.endLine();
+        return events;
+    }
+
+    private static List<DevModeEvent.Kind> kinds(List<DevModeEvent> events) {
+        return events.stream().map(DevModeEvent::kind).toList();
+    }
+
+    private static String read(String path) throws Exception {
+        return Files.readString(Paths.get(path), StandardCharsets.UTF_8);
+    }
+}
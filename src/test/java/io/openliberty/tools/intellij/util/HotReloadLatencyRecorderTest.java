@@ -0,0 +1,193 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.tools.intellij.util;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(JUnit4.class)
+public class HotReloadLatencyRecorderTest {
+
+    private static final String APP = "/projects/app/pom.xml";
+    private static final String SERVICE = "/projects/service/build.gradle";
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private HotReloadLatencyRecorder recorder;
+
+    private List<Long> recorded;
+
+    @Before
+    public void setUp() {
+        recorder = new HotReloadLatencyRecorder();
+        recorded = new ArrayList<>();
+    }
+
+    @Test
+    public void measuresFromFirstSaveToApplicationUpdated() {
+        DevModeOutputParser app = parser(APP);
+        save(APP, "app", 1_000);
+        // saves before the recompilation are coalesced by dev mode
+        save(APP, "app", 1_200);
+        output(app, 1_900, "[INFO] Source compilation was successful.\n");
+        output(app, 2_450, "[INFO] [AUDIT   ] CWWKZ0003I: The application app updated in 0.412 seconds.\n");
+
+        save(APP, "app", 10_000);
+        output(app, 10_300, "[INFO] [AUDIT   ] CWWKZ0003I: The application app updated in 0.204 seconds.\n");
+
+        assertEquals(List.of(1_450L, 300L), recorded);
+        HotReloadLatencyHistogram histogram = recorder.getModuleLatencies().get(0).histogram();
+        assertEquals(2, histogram.getCount());
+        assertEquals(300, histogram.getLast());
+        assertEquals(1_450, histogram.getPercentile(100));
+    }
+
+    @Test
+    public void updatesWithoutSaveAreIgnored() {
+        DevModeOutputParser app = parser(APP);
+        output(app, 500, "CWWKZ0003I: The application app updated in 0.300 seconds.\n");
+        save(APP, "app", 1_000);
+        output(app, 1_600, "CWWKZ0003I: The application app updated in 0.300 seconds.\n");
+        // a configuration change updates the application again without a source save
+        output(app, 5_000, "CWWKZ0003I: The application app updated in 0.300 seconds.\n");
+        assertEquals(List.of(600L), recorded);
+    }
+
+    @Test
+    public void failedCompilationDiscardsPendingSave() {
+        DevModeOutputParser app = parser(APP);
+        save(APP, "app", 1_000);
+        output(app, 1_500, "[INFO] Source compilation had errors.\n");
+        save(APP, "app", 60_000);
+        output(app, 60_800, "[INFO] Source compilation was successful.\n"
+                + "[INFO] [AUDIT   ] CWWKZ0003I: The application app updated in 0.512 seconds.\n");
+        assertEquals(List.of(800L), recorded);
+    }
+
+    @Test
+    public void serverStartDiscardsPendingSave() {
+        DevModeOutputParser app = parser(APP);
+        // saved while dev mode was stopped, the changes are deployed by the start
+        save(APP, "app", 1_000);
+        output(app, 30_000, "[AUDIT   ] CWWKF0011I: The defaultServer server is ready to run a smarter planet. "
+                + "The defaultServer server started in 4.512 seconds.\n");
+        output(app, 90_000, "CWWKZ0003I: The application app updated in 0.300 seconds.\n");
+        save(APP, "app", 100_000);
+        output(app, 100_400, "CWWKZ0003I: The application app updated in 0.300 seconds.\n");
+        assertEquals(List.of(400L), recorded);
+    }
+
+    @Test
+    public void staleSavesAreDiscarded() {
+        DevModeOutputParser app = parser(APP);
+        save(APP, "app", 1_000);
+        long stale = 1_000 + HotReloadLatencyRecorder.MAX_LATENCY_MILLIS + 1;
+        output(app, stale, "CWWKZ0003I: The application app updated in 0.300 seconds.\n");
+
+        save(APP, "app", stale + 1_000);
+        // replaces the pending save which did not trigger an update
+        long save = stale + 1_000 + HotReloadLatencyRecorder.MAX_LATENCY_MILLIS + 1;
+        save(APP, "app", save);
+        output(app, save + 700, "CWWKZ0003I: The application app updated in 0.300 seconds.\n");
+        assertEquals(List.of(700L), recorded);
+    }
+
+    @Test
+    public void onlyApplicationSourcesAreTracked() {
+        String module = "/projects/app";
+        assertTrue(HotReloadLatencyTracker.isHotReloadSource(module, module + "/src/main/java/demo/Greeting.java"));
+        assertTrue(HotReloadLatencyTracker.isHotReloadSource(module, module + "/src/main/resources/META-INF/microprofile-config.properties"));
+        assertTrue(HotReloadLatencyTracker.isHotReloadSource(module, module + "/src/main/webapp/index.html"));
+        assertFalse(HotReloadLatencyTracker.isHotReloadSource(module, module + "/src/test/java/demo/GreetingIT.java"));
+        assertFalse(HotReloadLatencyTracker.isHotReloadSource(module, module + "/src/main/liberty/config/server.xml"));
+        assertFalse(HotReloadLatencyTracker.isHotReloadSource(module, "/projects/app2/src/main/java/demo/Greeting.java"));
+    }
+
+    @Test
+    public void modulesAreMeasuredSeparately() {
+        DevModeOutputParser app = parser(APP);
+        DevModeOutputParser service = parser(SERVICE);
+        save(APP, "app", 1_000);
+        save(SERVICE, "service", 1_100);
+        output(service, 1_400, "[AUDIT   ] CWWKZ0003I: The application service updated in 0.100 seconds.\r\n");
+        output(app, 3_000, "[AUDIT   ] CWWKZ0003I: The application app updated in 1.500 seconds.\r\n");
+        assertEquals(List.of(300L, 2_000L), recorded);
+
+        List<HotReloadLatencyRecorder.ModuleLatency> latencies = recorder.getModuleLatencies();
+        assertEquals("app", latencies.get(0).name());
+        assertEquals(2_000, latencies.get(0).histogram().getLast());
+        assertEquals("service", latencies.get(1).name());
+        assertEquals(300, latencies.get(1).histogram().getLast());
+    }
+
+    @Test
+    public void rollingHistogram() {
+        HotReloadLatencyHistogram histogram = new HotReloadLatencyHistogram(10);
+        for (long latency = 1; latency <= 20; latency++) {
+            histogram.add(latency * 100);
+        }
+        // only the 10 latest samples, 1100 ms to 2000 ms, are kept
+        assertEquals(10, histogram.getCount());
+        assertEquals(1_500, histogram.getPercentile(50));
+        assertEquals(1_900, histogram.getPercentile(90));
+        assertEquals(2_000, histogram.getPercentile(100));
+        assertArrayEquals(new long[]{0, 0, 0, 10, 0, 0, 0, 0}, histogram.getBucketCounts());
+
+        histogram.add(250);
+        histogram.add(40_000);
+        assertArrayEquals(new long[]{1, 0, 0, 8, 0, 0, 0, 1}, histogram.getBucketCounts());
+        assertEquals(HotReloadLatencyHistogram.getBucketLabels().length, histogram.getBucketCounts().length);
+    }
+
+    @Test
+    public void csvExport() {
+        DevModeOutputParser app = parser(APP);
+        save(APP, "app, v2", 1_000);
+        output(app, 1_700, "CWWKZ0003I: The application app updated in 0.300 seconds.\n");
+
+        String[] lines = recorder.toCsv().split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("module,build file,samples,last ms,p50 ms,p90 ms,max ms,<=250ms,<=500ms,<=1000ms,<=2000ms,"
+                + "<=5000ms,<=10000ms,<=30000ms,>30000ms", lines[0]);
+        assertEquals("\"app, v2\",/projects/app/pom.xml,1,700,700,700,700,0,0,1,0,0,0,0,0", lines[1]);
+    }
+
+    private DevModeOutputParser parser(String key) {
+        return new DevModeOutputParser(event -> {
+            long latency = recorder.devModeEvent(key, event);
+            if (latency >= 0) {
+                recorded.add(latency);
+            }
+        }, clock::get);
+    }
+
+    private void save(String key, String name, long timeMillis) {
+        recorder.sourceSaved(key, name, timeMillis);
+    }
+
+    private void output(DevModeOutputParser parser, long timeMillis, String output) {
+        clock.set(timeMillis);
+        parser.accept(output);
+    }
+}
@@ -0,0 +1,133 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.tools.intellij.util;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(JUnit4.class)
+public class LibertyGradleUtilTest {
+
+    @Test
+    public void gradleFixtures() throws Exception {
+        assertValid(read("src/test/resources/projects/gradle/singleModGradleMP/build.gradle"), true, true);
+        assertValid(read("src/test/resources/projects/gradle/singleModGradleRESTNoLTXmlCfg/build.gradle"), false, false);
+        assertValid(read("src/test/resources/files/smNLTRestProject/gradle/build.gradle"), true, true);
+    }
+
+    @Test
+    public void pluginsBlock() {
+        assertValid("plugins {\n    id 'war'\n    id 'io.openliberty.tools.gradle.Liberty' version '3.8.3'\n}\n", true, true);
+        assertValid("plugins {\n    id \"io.openliberty.tools.gradle.Liberty\" version \"3.0\"\n}\n", true, false);
+        assertValid("plugins {\n    id(\"io.openliberty.tools.gradle.Liberty\") version \"3.8.3\"\n}\n", true, true);
+        // if version is not defined, assumes latest is pulled
+        assertValid("plugins {\n    id 'io.openliberty.tools.gradle.Liberty'\n    id 'war'\n}\n", true, true);
+    }
+
+    @Test
+    public void applyPlugin() {
+        String buildscript = "buildscript {\n    dependencies {\n        classpath 'io.openliberty.tools:liberty-gradle-plugin:%s'\n    }\n}\n";
+        assertValid("apply plugin: 'liberty'\n" + String.format(buildscript, "3.5.2"), true, true);
+        assertValid("apply plugin: \"liberty\"\n" + String.format(buildscript, "3.0"), true, false);
+        assertValid("apply(plugin = \"liberty\")\n" + String.format(buildscript, "3.5.2"), true, true);
+        // the plugin must also be a dependency
+        assertValid("apply plugin: 'liberty'\n", false, false);
+        assertValid(String.format(buildscript, "3.5.2"), false, false);
+    }
+
+    @Test
+    public void commentsAreSkipped() {
+        assertValid("plugins {\n    // id 'io.openliberty.tools.gradle.Liberty' version '3.8.3'\n}\n", false, false);
+        assertValid("plugins {\n    /* id 'io.openliberty.tools.gradle.Liberty'\n       version '3.8.3' */\n}\n", false, false);
+        assertValid("// apply plugin: 'liberty'\nbuildscript {\n    dependencies {\n"
+                + "        classpath 'io.openliberty.tools:liberty-gradle-plugin:3.5.2'\n    }\n}\n", false, false);
+        // comment markers inside strings are not comments
+        assertValid("def url = 'http://example.com/*'\nplugins {\n    id 'io.openliberty.tools.gradle.Liberty' version '3.8.3'\n}\n",
+                true, true);
+    }
+
+    @Test
+    public void largeBuildScriptsAreReadInOnePass() {
+        StringBuilder script = new StringBuilder();
+        int block = 0;
+        while (script.length() < 1024 * 1024) {
+            script.append("dependencies {\n")
+                    .append("    implementation 'org.example:library-").append(block++).append(":1.0' // comment\n")
+                    .append("    /* block\n       comment */ testImplementation \"org.example:test:${version}\"\n")
+                    .append("}\n");
+        }
+        script.append("plugins {\n    id 'io.openliberty.tools.gradle.Liberty' version '3.8.3'\n}\n");
+
+        CountingCharSequence counting = new CountingCharSequence(script);
+        assertValid(counting, true, true);
+        // the tokenizer looks at most a few characters ahead, a scan per token or per line would read far more
+        assertTrue("read " + counting.reads + " characters of " + script.length(), counting.reads < 4L * script.length());
+    }
+
+    /**
+     * Counts the characters read from the underlying text.
+     */
+    private static class CountingCharSequence implements CharSequence {
+        private final CharSequence text;
+        private long reads;
+
+        CountingCharSequence(CharSequence text) {
+            this.text = text;
+        }
+
+        @Override
+        public int length() {
+            return text.length();
+        }
+
+        @Override
+        public char charAt(int index) {
+            reads++;
+            return text.charAt(index);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            reads += end - start;
+            return text.subSequence(start, end);
+        }
+
+        @Override
+        public String toString() {
+            reads += text.length();
+            return text.toString();
+        }
+    }
+
+    private static String read(String path) throws Exception {
+        return Files.readString(Paths.get(path));
+    }
+
+    private static void assertValid(CharSequence buildFile, boolean validBuildFile, boolean validContainerVersion) {
+        BuildFile result = LibertyGradleUtil.validBuildGradle(buildFile);
+        assertEquals("validBuildFile", validBuildFile, result.isValidBuildFile());
+        if (validBuildFile) {
+            assertEquals("validContainerVersion", validContainerVersion, result.isValidContainerVersion());
+        } else {
+            assertFalse("validContainerVersion", result.isValidContainerVersion());
+        }
+    }
+}
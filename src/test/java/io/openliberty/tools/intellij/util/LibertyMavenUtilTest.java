@@ -0,0 +1,193 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.tools.intellij.util;
+
+import org.apache.maven.artifact.versioning.ComparableVersion;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(JUnit4.class)
+public class LibertyMavenUtilTest {
+
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    @Test
+    public void streamingDetectionMatchesDomForMavenFixtures() throws Exception {
+        List<Path> poms;
+        try (Stream<Path> files = Files.walk(Paths.get("src/test/resources"))) {
+            poms = files.filter(p -> p.getFileName().toString().equals("pom.xml")).collect(Collectors.toList());
+        }
+        assertFalse("No Maven fixture projects found", poms.isEmpty());
+        for (Path pom : poms) {
+            BuildFile expected = validPomWithDom(pom.toFile());
+            BuildFile actual = LibertyMavenUtil.validPom(pom.toFile());
+            assertEquals("validBuildFile for " + pom, expected.isValidBuildFile(), actual.isValidBuildFile());
+            assertEquals("validContainerVersion for " + pom, expected.isValidContainerVersion(),
+                    actual.isValidContainerVersion());
+        }
+    }
+
+    @Test
+    public void pluginInBuildPlugins() throws Exception {
+        BuildFile buildFile = LibertyMavenUtil.validPom(pom("""
+                <build><plugins>
+                  <plugin><groupId>org.apache.maven.plugins</groupId><artifactId>maven-war-plugin</artifactId></plugin>
+                  <plugin><groupId>io.openliberty.tools</groupId><artifactId>liberty-maven-plugin</artifactId><version>3.11</version></plugin>
+                </plugins></build>"""));
+        assertTrue(buildFile.isValidBuildFile());
+        assertTrue(buildFile.isValidContainerVersion());
+    }
+
+    @Test
+    public void pluginInProfileWithOldVersion() throws Exception {
+        BuildFile buildFile = LibertyMavenUtil.validPom(pom("""
+                <profiles><profile><id>liberty</id><build><plugins>
+                  <plugin><groupId>io.openliberty.tools</groupId><artifactId>liberty-maven-plugin</artifactId><version>3.0</version></plugin>
+                </plugins></build></profile></profiles>"""));
+        assertTrue(buildFile.isValidBuildFile());
+        assertFalse(buildFile.isValidContainerVersion());
+    }
+
+    @Test
+    public void pluginInPluginManagementWithoutVersion() throws Exception {
+        BuildFile buildFile = LibertyMavenUtil.validPom(pom("""
+                <build><pluginManagement><plugins>
+                  <plugin><groupId>io.openliberty.tools</groupId><artifactId>liberty-maven-plugin</artifactId></plugin>
+                </plugins></pluginManagement></build>"""));
+        assertTrue(buildFile.isValidBuildFile());
+        assertTrue(buildFile.isValidContainerVersion());
+    }
+
+    @Test
+    public void commentedOutOrNestedPluginIsIgnored() throws Exception {
+        BuildFile buildFile = LibertyMavenUtil.validPom(pom("""
+                <build><plugins>
+                  <!-- <plugin><groupId>io.openliberty.tools</groupId><artifactId>liberty-maven-plugin</artifactId></plugin> -->
+                  <plugin><groupId>org.apache.maven.plugins</groupId><artifactId>maven-war-plugin</artifactId>
+                    <dependencies><dependency><groupId>io.openliberty.tools</groupId><artifactId>liberty-maven-plugin</artifactId></dependency></dependencies>
+                  </plugin>
+                </plugins></build>"""));
+        assertFalse(buildFile.isValidBuildFile());
+    }
+
+    @Test
+    public void projectArtifactIdIsReadFromProjectElement() throws Exception {
+        assertEquals("demo-app", LibertyMavenUtil.getProjectArtifactId(pom("""
+                <parent><groupId>io.openliberty</groupId><artifactId>demo-parent</artifactId></parent>
+                <artifactId>demo-app</artifactId>
+                <build><plugins><plugin><artifactId>maven-war-plugin</artifactId></plugin></plugins></build>""")));
+    }
+
+    @Test
+    public void projectWithoutArtifactId() throws Exception {
+        assertNull(LibertyMavenUtil.getProjectArtifactId(pom("""
+                <parent><artifactId>demo-parent</artifactId></parent>""")));
+    }
+
+    private File pom(String content) throws Exception {
+        File pom = tempFolder.newFile("pom.xml");
+        Files.writeString(pom.toPath(), "<project><modelVersion>4.0.0</modelVersion>" + content + "</project>");
+        return pom;
+    }
+
+    /**
+     * DOM based detection used before the streaming detector, kept as the reference implementation.
+     */
+    private static BuildFile validPomWithDom(File file) throws Exception {
+        BuildFile buildFile = new BuildFile(false, false);
+        Document doc = DocumentBuilderFactory.newDefaultInstance().newDocumentBuilder().parse(file);
+        doc.getDocumentElement().normalize();
+        NodeList nList = doc.getDocumentElement().getChildNodes();
+        for (int temp = 0; temp < nList.getLength(); temp++) {
+            Node nNode = nList.item(temp);
+            if (nNode.getNodeName().equals("profiles")) {
+                NodeList profiles = nNode.getChildNodes();
+                for (int i = 0; i < profiles.getLength(); i++) {
+                    Node profile = profiles.item(i);
+                    if (profile.getNodeName().equals("profile")) {
+                        NodeList profileList = profile.getChildNodes();
+                        for (int j = 0; j < profileList.getLength(); j++) {
+                            if (profileList.item(j).getNodeName().equals("build")) {
+                                buildFile = domPluginDetected(profileList.item(j).getChildNodes());
+                                if (buildFile.isValidBuildFile()) {
+                                    return buildFile;
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+            if (nNode.getNodeName().equals("build")) {
+                NodeList buildNodeList = nNode.getChildNodes();
+                buildFile = domPluginDetected(buildNodeList);
+                if (buildFile.isValidBuildFile()) {
+                    return buildFile;
+                }
+                for (int i = 0; i < buildNodeList.getLength(); i++) {
+                    Node buildNode = buildNodeList.item(i);
+                    if (buildNode.getNodeName().equals("pluginManagement")) {
+                        buildFile = domPluginDetected(buildNode.getChildNodes());
+                    }
+                }
+            }
+        }
+        return buildFile;
+    }
+
+    private static BuildFile domPluginDetected(NodeList buildList) {
+        for (int i = 0; i < buildList.getLength(); i++) {
+            Node buildNode = buildList.item(i);
+            if (buildNode.getNodeName().equals("plugins") && buildNode.getNodeType() == Node.ELEMENT_NODE) {
+                NodeList pluginsList = ((Element) buildNode).getElementsByTagName("plugin");
+                for (int j = 0; j < pluginsList.getLength(); j++) {
+                    Element pluginElem = (Element) pluginsList.item(j);
+                    String groupId = textOf(pluginElem, "groupId");
+                    String artifactId = textOf(pluginElem, "artifactId");
+                    String version = textOf(pluginElem, "version");
+                    if (groupId.equals("io.openliberty.tools") && artifactId.equals("liberty-maven-plugin")) {
+                        return new BuildFile(true, version.isEmpty() || new ComparableVersion(version)
+                                .compareTo(new ComparableVersion(Constants.LIBERTY_MAVEN_PLUGIN_CONTAINER_VERSION)) >= 0);
+                    }
+                }
+            }
+        }
+        return new BuildFile(false, false);
+    }
+
+    private static String textOf(Element element, String tagName) {
+        NodeList nodes = element.getElementsByTagName(tagName);
+        return nodes.getLength() != 0 ? nodes.item(0).getTextContent() : "";
+    }
+}
@@ -0,0 +1,110 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.util;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+@RunWith(JUnit4.class)
+public class TestReportLocatorTest {
+
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    private TestReportLocator locator;
+
+    private Path module;
+
+    @Before
+    public void setUp() throws IOException {
+        locator = new TestReportLocator();
+        module = tempFolder.newFolder("module").toPath();
+    }
+
+    @Test
+    public void walkSkipsPrunedDirectories() throws IOException {
+        File report = writeReport("build/reports/tests/test/index.html", 1000);
+        writeReport("node_modules/pkg/coverage/index.html", 2000);
+        writeReport("src/main/webapp/index.html", 3000);
+        writeFile("build/docs/index.html", "<html></html>", 4000);
+
+        assertEquals(report, locator.findTestReport(module.toString()));
+        assertEquals(1, locator.getWalkCount());
+    }
+
+    @Test
+    public void walkFallbackWhenNoReportIsIndexed() throws IOException {
+        assertNull(locator.findTestReport(module.toString()));
+        assertEquals(1, locator.getWalkCount());
+
+        // written without a VFS event
+        File report = writeReport("build/reports/tests/test/index.html", 1000);
+        assertEquals(report, locator.findTestReport(module.toString()));
+        assertEquals(2, locator.getWalkCount());
+    }
+
+    @Test
+    public void indexIsUpdatedFromEvents() throws IOException {
+        File report = writeReport("build/reports/tests/test/index.html", 1000);
+        assertEquals(report, locator.findTestReport(module.toString()));
+
+        File custom = writeReport("build/custom-reports/index.html", 2000);
+        locator.reportChanged(custom.getPath());
+        assertEquals(custom, locator.findTestReport(module.toString()));
+
+        // reports in skipped directories and in other modules are not indexed
+        File pruned = writeReport("node_modules/pkg/index.html", 3000);
+        locator.reportChanged(pruned.getPath());
+        File other = new File(tempFolder.newFolder("other", "build"), "index.html");
+        Files.writeString(other.toPath(), Constants.TEST_REPORT_STRING);
+        locator.reportChanged(other.getPath());
+        assertEquals(custom, locator.findTestReport(module.toString()));
+
+        Files.delete(custom.toPath());
+        locator.pathRemoved(custom.getParent());
+        assertEquals(report, locator.findTestReport(module.toString()));
+        assertEquals(1, locator.getWalkCount());
+    }
+
+    @Test
+    public void deletedModuleIsWalkedAgain() throws IOException {
+        File report = writeReport("build/reports/tests/test/index.html", 1000);
+        assertEquals(report, locator.findTestReport(module.toString()));
+        locator.pathRemoved(module.toString());
+        assertEquals(report, locator.findTestReport(module.toString()));
+        assertEquals(2, locator.getWalkCount());
+    }
+
+    private File writeReport(String path, long lastModified) throws IOException {
+        return writeFile(path, "<div class=\"infoBox\"><div class=\"counter\">1</div><p>" + Constants.TEST_REPORT_STRING
+                + "</p></div>", lastModified);
+    }
+
+    private File writeFile(String path, String content, long lastModified) throws IOException {
+        Path file = module.resolve(path);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content);
+        File ioFile = file.toFile();
+        ioFile.setLastModified(lastModified);
+        return ioFile;
+    }
+}
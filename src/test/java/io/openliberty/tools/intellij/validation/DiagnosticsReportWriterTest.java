@@ -0,0 +1,136 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.validation;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.DiagnosticSeverity;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(JUnit4.class)
+public class DiagnosticsReportWriterTest {
+
+    private static final String URI = "file:///demo/src/main/java/demo/Greeting.java";
+
+    private static final List<DiagnosticsReportWriter.FileDiagnostics> FILES = List.of(
+            new DiagnosticsReportWriter.FileDiagnostics(URI, LibertyJavaValidator.Pipeline.JAKARTA, List.of(
+                    createDiagnostic(DiagnosticSeverity.Error, "RemoveFinalModifier"),
+                    createDiagnostic(null, null))));
+
+    @Test
+    public void sarif() throws IOException {
+        JsonObject sarif = write(DiagnosticsReportWriter.Format.SARIF);
+        assertEquals("2.1.0", sarif.get("version").getAsString());
+        assertEquals("https://json.schemastore.org/sarif-2.1.0.json", sarif.get("$schema").getAsString());
+        JsonObject run = sarif.getAsJsonArray("runs").get(0).getAsJsonObject();
+        assertEquals("Liberty Tools for IntelliJ",
+                run.getAsJsonObject("tool").getAsJsonObject("driver").get("name").getAsString());
+
+        JsonArray results = run.getAsJsonArray("results");
+        assertEquals(2, results.size());
+        JsonObject error = results.get(0).getAsJsonObject();
+        assertEquals("RemoveFinalModifier", error.get("ruleId").getAsString());
+        assertEquals("error", error.get("level").getAsString());
+        assertEquals("The entity must not be final", error.getAsJsonObject("message").get("text").getAsString());
+        JsonObject location = error.getAsJsonArray("locations").get(0).getAsJsonObject()
+                .getAsJsonObject("physicalLocation");
+        assertEquals(URI, location.getAsJsonObject("artifactLocation").get("uri").getAsString());
+        // SARIF regions are 1-based
+        JsonObject region = location.getAsJsonObject("region");
+        assertEquals(3, region.get("startLine").getAsInt());
+        assertEquals(8, region.get("startColumn").getAsInt());
+        assertEquals(3, region.get("endLine").getAsInt());
+        assertEquals(13, region.get("endColumn").getAsInt());
+        assertEquals("jakarta", error.getAsJsonObject("properties").get("pipeline").getAsString());
+        assertEquals("jakarta-persistence", error.getAsJsonObject("properties").get("source").getAsString());
+
+        JsonObject withoutCode = results.get(1).getAsJsonObject();
+        assertFalse(withoutCode.has("ruleId"));
+        assertEquals("warning", withoutCode.get("level").getAsString());
+    }
+
+    @Test
+    public void json() throws IOException {
+        JsonArray files = write(DiagnosticsReportWriter.Format.JSON).getAsJsonArray("files");
+        assertEquals(1, files.size());
+        JsonObject file = files.get(0).getAsJsonObject();
+        assertEquals(URI, file.get("uri").getAsString());
+        assertEquals("jakarta", file.get("pipeline").getAsString());
+
+        JsonArray diagnostics = file.getAsJsonArray("diagnostics");
+        assertEquals(2, diagnostics.size());
+        JsonObject error = diagnostics.get(0).getAsJsonObject();
+        assertEquals("RemoveFinalModifier", error.get("code").getAsString());
+        assertEquals("Error", error.get("severity").getAsString());
+        assertEquals("The entity must not be final", error.get("message").getAsString());
+        // JSON ranges are the 0-based LSP positions
+        JsonObject range = error.getAsJsonObject("range");
+        assertEquals(2, range.get("startLine").getAsInt());
+        assertEquals(7, range.get("startCharacter").getAsInt());
+        assertEquals(2, range.get("endLine").getAsInt());
+        assertEquals(12, range.get("endCharacter").getAsInt());
+        assertFalse(diagnostics.get(1).getAsJsonObject().has("severity"));
+    }
+
+    @Test
+    public void emptyReports() throws IOException {
+        assertEquals(0, writeFiles(DiagnosticsReportWriter.Format.SARIF, List.of()).getAsJsonArray("runs").get(0)
+                .getAsJsonObject().getAsJsonArray("results").size());
+        assertEquals(0, writeFiles(DiagnosticsReportWriter.Format.JSON, List.of()).getAsJsonArray("files").size());
+    }
+
+    @Test
+    public void failOnSeverity() {
+        assertTrue(LibertyDiagnosticsStarter.hasProblems(FILES, DiagnosticSeverity.Error));
+        assertTrue(LibertyDiagnosticsStarter.hasProblems(FILES, DiagnosticSeverity.Hint));
+        assertFalse(LibertyDiagnosticsStarter.hasProblems(FILES, null));
+        List<DiagnosticsReportWriter.FileDiagnostics> warnings = List.of(new DiagnosticsReportWriter.FileDiagnostics(URI,
+                LibertyJavaValidator.Pipeline.MICROPROFILE, List.of(createDiagnostic(null, null))));
+        assertFalse(LibertyDiagnosticsStarter.hasProblems(warnings, DiagnosticSeverity.Error));
+        assertTrue(LibertyDiagnosticsStarter.hasProblems(warnings, DiagnosticSeverity.Warning));
+        assertFalse(LibertyDiagnosticsStarter.hasProblems(List.of(), DiagnosticSeverity.Hint));
+    }
+
+    private static JsonObject write(DiagnosticsReportWriter.Format format) throws IOException {
+        return writeFiles(format, FILES);
+    }
+
+    private static JsonObject writeFiles(DiagnosticsReportWriter.Format format,
+                                         List<DiagnosticsReportWriter.FileDiagnostics> files) throws IOException {
+        StringWriter writer = new StringWriter();
+        new DiagnosticsReportWriter(format).write(files, writer);
+        return JsonParser.parseString(writer.toString()).getAsJsonObject();
+    }
+
+    private static Diagnostic createDiagnostic(DiagnosticSeverity severity, String code) {
+        Diagnostic diagnostic = new Diagnostic(new Range(new Position(2, 7), new Position(2, 12)),
+                "The entity must not be final");
+        diagnostic.setSeverity(severity);
+        diagnostic.setSource("jakarta-persistence");
+        if (code != null) {
+            diagnostic.setCode(code);
+        }
+        return diagnostic;
+    }
+}
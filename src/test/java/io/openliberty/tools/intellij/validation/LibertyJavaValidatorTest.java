@@ -0,0 +1,198 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.validation;
+
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.application.WriteAction;
+import com.intellij.openapi.module.JavaModuleType;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.module.ModuleManager;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.util.ProgressIndicatorBase;
+import com.intellij.openapi.util.io.FileUtil;
+import com.intellij.openapi.vfs.LocalFileSystem;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.testFramework.PsiTestUtil;
+import com.intellij.testFramework.VfsTestUtil;
+import com.intellij.testFramework.fixtures.BasePlatformTestCase;
+import com.intellij.util.ExceptionUtil;
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.PublishDiagnosticsParams;
+import org.eclipse.lsp4j.Range;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Runs {@link LibertyJavaValidator} with a pipeline runner which reports a
+ * diagnostic for the files whose name starts with "Invalid".
+ */
+@RunWith(JUnit4.class)
+public class LibertyJavaValidatorTest extends BasePlatformTestCase {
+
+    private static final LibertyJavaValidator.Options OPTIONS = new LibertyJavaValidator.Options(2, 2);
+
+    private final List<Module> modules = new ArrayList<>();
+
+    @Override
+    protected void tearDown() throws Exception {
+        try {
+            WriteAction.runAndWait(() -> modules.forEach(ModuleManager.getInstance(getProject())::disposeModule));
+        } catch (Throwable e) {
+            addSuppressedException(e);
+        } finally {
+            super.tearDown();
+        }
+    }
+
+    @Test
+    public void testSourceSetModulesOfGradleBuildAreCollected() throws Exception {
+        // Gradle layout: a root module without source roots for build.gradle and one module per source set
+        VirtualFile root = LocalFileSystem.getInstance()
+                .refreshAndFindFileByIoFile(FileUtil.createTempDirectory("proj", null));
+        VirtualFile buildFile = VfsTestUtil.createFile(root, "build.gradle", "apply plugin: 'liberty'\n");
+        VirtualFile main = VfsTestUtil.createDir(root, "src/main");
+        VirtualFile test = VfsTestUtil.createDir(root, "src/test");
+        VirtualFile resource = VfsTestUtil.createFile(main, "java/demo/Resource.java",
+                "package demo;\n\npublic class Resource {\n}\n");
+        VfsTestUtil.createFile(test, "java/demo/ResourceTest.java",
+                "package demo;\n\npublic class ResourceTest {\n}\n");
+        addModule("proj", root);
+        PsiTestUtil.addSourceRoot(addModule("proj.main", main), main.findChild("java"));
+        PsiTestUtil.addSourceRoot(addModule("proj.test", test), test.findChild("java"), true);
+
+        LibertyJavaValidator validator = new LibertyJavaValidator(getProject(), OPTIONS);
+        // the test sources of proj.test are not validated
+        assertEquals(List.of(List.of(resource)), ReadAction.compute(() -> validator.collectBatches(List.of(buildFile))));
+    }
+
+    @Test
+    public void testFilesAreSplitInBatchesOfEachModule() {
+        List<VirtualFile> module1 = createFiles("module1", 5);
+        List<VirtualFile> module2 = createFiles("module2", 2);
+        List<List<VirtualFile>> batches = new ArrayList<>();
+        LibertyJavaValidator.addBatches(batches, module1, 2);
+        LibertyJavaValidator.addBatches(batches, module2, 2);
+        LibertyJavaValidator.addBatches(batches, List.of(), 2);
+        assertEquals(List.of(module1.subList(0, 2), module1.subList(2, 4), module1.subList(4, 5), module2), batches);
+    }
+
+    @Test
+    public void testAllFilesAreReportedByBothPipelines() {
+        List<VirtualFile> files = createFiles("module1", 5);
+        List<List<VirtualFile>> batches = new ArrayList<>();
+        LibertyJavaValidator.addBatches(batches, files, OPTIONS.batchSize());
+
+        Set<String> runs = ConcurrentHashMap.newKeySet();
+        Set<String> reported = ConcurrentHashMap.newKeySet();
+        LibertyJavaValidator validator = new LibertyJavaValidator(getProject(), OPTIONS, (pipeline, uris, utils) -> {
+            assertTrue(uris.size() <= OPTIONS.batchSize());
+            runs.add(pipeline + " " + uris.size());
+            return diagnostics(uris);
+        });
+        LibertyJavaValidator.Summary summary = validator.validate(batches, startedIndicator(),
+                (file, pipeline, diagnostics) -> {
+                    assertEquals(file.getName().startsWith("Invalid") ? 1 : 0, diagnostics.size());
+                    assertTrue(file.getName() + " " + pipeline, reported.add(file.getName() + " " + pipeline));
+                });
+
+        assertEquals(Set.of("MICROPROFILE 2", "MICROPROFILE 1", "JAKARTA 2", "JAKARTA 1"), runs);
+        assertEquals(files.size() * LibertyJavaValidator.Pipeline.values().length, reported.size());
+        for (VirtualFile file : files) {
+            for (LibertyJavaValidator.Pipeline pipeline : LibertyJavaValidator.Pipeline.values()) {
+                assertTrue(reported.contains(file.getName() + " " + pipeline));
+            }
+        }
+        // Invalid0.java, Invalid2.java and Invalid4.java have one diagnostic for each pipeline
+        assertEquals(new LibertyJavaValidator.Summary(5, 3, 6, false), summary);
+    }
+
+    @Test
+    public void testCancellation() {
+        List<VirtualFile> files = createFiles("module1", 20);
+        List<List<VirtualFile>> batches = new ArrayList<>();
+        LibertyJavaValidator.addBatches(batches, files, OPTIONS.batchSize());
+
+        ProgressIndicator indicator = startedIndicator();
+        Set<String> reported = ConcurrentHashMap.newKeySet();
+        LibertyJavaValidator validator = new LibertyJavaValidator(getProject(), new LibertyJavaValidator.Options(1, 2),
+                (pipeline, uris, utils) -> {
+                    indicator.cancel();
+                    return diagnostics(uris);
+                });
+        LibertyJavaValidator.Summary summary = validator.validate(batches, indicator,
+                (file, pipeline, diagnostics) -> reported.add(file.getName() + " " + pipeline));
+
+        assertTrue(summary.canceled());
+        assertTrue(summary.files() < files.size());
+        assertTrue(reported.size() < files.size() * LibertyJavaValidator.Pipeline.values().length);
+    }
+
+    @Test
+    public void testFailureCancelsRemainingBatches() {
+        List<VirtualFile> files = createFiles("module1", 20);
+        List<List<VirtualFile>> batches = new ArrayList<>();
+        LibertyJavaValidator.addBatches(batches, files, OPTIONS.batchSize());
+
+        Set<String> runs = ConcurrentHashMap.newKeySet();
+        LibertyJavaValidator validator = new LibertyJavaValidator(getProject(), new LibertyJavaValidator.Options(1, 2),
+                (pipeline, uris, utils) -> {
+                    runs.add(pipeline + " " + uris);
+                    throw new IllegalStateException("Batch failure");
+                });
+        try {
+            validator.validate(batches, startedIndicator(), (file, pipeline, diagnostics) -> fail(file.getName()));
+            fail("The batch failure was not reported");
+        } catch (RuntimeException e) {
+            assertNotNull(ExceptionUtil.findCause(e, IllegalStateException.class));
+        }
+        assertTrue(String.valueOf(runs.size()), runs.size() < batches.size() * LibertyJavaValidator.Pipeline.values().length);
+    }
+
+    private Module addModule(String name, VirtualFile contentRoot) {
+        Module module = PsiTestUtil.addModule(getProject(), JavaModuleType.getModuleType(), name, contentRoot);
+        modules.add(module);
+        return module;
+    }
+
+    private List<VirtualFile> createFiles(String module, int count) {
+        List<VirtualFile> files = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            String name = (i % 2 == 0 ? "Invalid" : "Valid") + i;
+            files.add(myFixture.addFileToProject(module + "/src/main/java/demo/" + name + ".java",
+                    "package demo;\n\npublic class " + name + " {\n}\n").getVirtualFile());
+        }
+        return files;
+    }
+
+    private static List<PublishDiagnosticsParams> diagnostics(List<String> uris) {
+        List<PublishDiagnosticsParams> results = new ArrayList<>();
+        for (String uri : uris) {
+            List<Diagnostic> diagnostics = uri.contains("/Invalid")
+                    ? List.of(new Diagnostic(new Range(new Position(2, 13), new Position(2, 20)), "Invalid class"))
+                    : Collections.emptyList();
+            results.add(new PublishDiagnosticsParams(uri, diagnostics));
+        }
+        return results;
+    }
+
+    private static ProgressIndicator startedIndicator() {
+        ProgressIndicator indicator = new ProgressIndicatorBase();
+        indicator.start();
+        return indicator;
+    }
+}